@@ -0,0 +1,153 @@
+package it.corso.benchmark;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.corso.analytics.SnapshotColonnare;
+import it.corso.dto.StatisticheGruppoDto;
+import it.corso.dto.StatisticheStipendioDto;
+import it.corso.event.DipendentiModificatiEvent;
+import it.corso.event.IstantaneaDipendente;
+import it.corso.model.Dipendente;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import it.corso.model.Ruolo;
+
+/**
+ * La classe {@code AnalyticsBenchmark} confronta le statistiche degli stipendi per dipartimento calcolate
+ * da {@link SnapshotColonnare} con la stessa aggregazione eseguita dal database con {@code GROUP BY},
+ * come in {@code DipendenteDao.statisticheByDipartimento()}.
+ *
+ * Il database è un H2 in memoria in modalità MySQL, nello stesso processo: il confronto non include
+ * la latenza di rete di un database reale. Lo snapshot calcola anche i percentili, che la query non restituisce.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticsBenchmark {
+
+    private static final String STATISTICHE_PER_DIPARTIMENTO = "SELECT dip.nome, COUNT(*), SUM(d.stipendio), "
+            + "AVG(d.stipendio), MIN(d.stipendio), MAX(d.stipendio) "
+            + "FROM dipendente d JOIN dipartimento dip ON dip.id = d.id_dipartimento GROUP BY dip.nome ORDER BY dip.nome";
+
+    @Param({ "10000", "100000" })
+    private int dimensione;
+
+    private SnapshotColonnare snapshot;
+
+    private Connection connessione;
+
+    @Setup
+    public void setup() throws SQLException {
+        List<Dipendente> dipendenti = DatiBenchmark.dipendenti(dimensione);
+        snapshot = new SnapshotColonnare();
+        List<IstantaneaDipendente> istantanee = new ArrayList<>(dipendenti.size());
+        for (Dipendente d : dipendenti) {
+            Set<NomeRuolo> ruoli = EnumSet.noneOf(NomeRuolo.class);
+            d.getRuoli().forEach(r -> ruoli.add(r.getNome()));
+            istantanee.add(new IstantaneaDipendente(d.getId(), d.getNome(), d.getCognome(), d.getDataNascita(),
+                    d.getDataAssunzione(), d.getStipendio(), d.getDipartimento().getNome(), ruoli));
+        }
+        snapshot.onDipendentiModificati(DipendentiModificatiEvent.salvati(istantanee));
+
+        connessione = DriverManager.getConnection("jdbc:h2:mem:analytics;MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        try (Statement statement = connessione.createStatement()) {
+            statement.execute("CREATE TABLE dipartimento (id INT PRIMARY KEY, nome VARCHAR(50))");
+            statement.execute("CREATE TABLE ruolo (id INT PRIMARY KEY, nome VARCHAR(50))");
+            statement.execute("CREATE TABLE dipendente (id INT PRIMARY KEY, nome VARCHAR(255), cognome VARCHAR(255), "
+                    + "data_nascita DATE, data_assunzione DATE, stipendio DOUBLE, id_dipartimento INT)");
+            statement.execute("CREATE TABLE dipendente_ruolo (id_dipendente INT, id_ruolo INT)");
+            statement.execute("CREATE INDEX idx_dipendente_dipartimento_stipendio ON dipendente (id_dipartimento, stipendio)");
+        }
+        try (PreparedStatement dipartimento = connessione.prepareStatement("INSERT INTO dipartimento VALUES (?, ?)");
+                PreparedStatement ruolo = connessione.prepareStatement("INSERT INTO ruolo VALUES (?, ?)");
+                PreparedStatement dipendente = connessione.prepareStatement("INSERT INTO dipendente VALUES (?, ?, ?, ?, ?, ?, ?)");
+                PreparedStatement dipendenteRuolo = connessione.prepareStatement("INSERT INTO dipendente_ruolo VALUES (?, ?)")) {
+            for (NomeDipartimento nome : NomeDipartimento.values()) {
+                dipartimento.setInt(1, nome.ordinal() + 1);
+                dipartimento.setString(2, nome.name());
+                dipartimento.executeUpdate();
+            }
+            for (NomeRuolo nome : NomeRuolo.values()) {
+                ruolo.setInt(1, nome.ordinal() + 1);
+                ruolo.setString(2, nome.name());
+                ruolo.executeUpdate();
+            }
+            for (Dipendente d : dipendenti) {
+                dipendente.setInt(1, d.getId());
+                dipendente.setString(2, d.getNome());
+                dipendente.setString(3, d.getCognome());
+                dipendente.setDate(4, Date.valueOf(d.getDataNascita()));
+                dipendente.setDate(5, Date.valueOf(d.getDataAssunzione()));
+                dipendente.setDouble(6, d.getStipendio());
+                dipendente.setInt(7, d.getDipartimento().getId());
+                dipendente.addBatch();
+                for (Ruolo r : d.getRuoli()) {
+                    dipendenteRuolo.setInt(1, d.getId());
+                    dipendenteRuolo.setInt(2, r.getId());
+                    dipendenteRuolo.addBatch();
+                }
+            }
+            dipendente.executeBatch();
+            dipendenteRuolo.executeBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connessione.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connessione.close();
+    }
+
+    @Benchmark
+    public List<StatisticheStipendioDto> snapshotPerDipartimento() {
+        return snapshot.statisticheStipendio(SnapshotColonnare.GRUPPO_DIPARTIMENTO, null, null);
+    }
+
+    @Benchmark
+    public List<StatisticheGruppoDto> sqlPerDipartimento() throws SQLException {
+        List<StatisticheGruppoDto> statistiche = new ArrayList<>();
+        try (PreparedStatement statement = connessione.prepareStatement(STATISTICHE_PER_DIPARTIMENTO);
+                ResultSet risultato = statement.executeQuery()) {
+            while (risultato.next()) {
+                statistiche.add(new StatisticheGruppoDto(risultato.getString(1), risultato.getLong(2), risultato.getDouble(3),
+                        risultato.getDouble(4), risultato.getDouble(5), risultato.getDouble(6)));
+            }
+        }
+        return statistiche;
+    }
+
+}
@@ -0,0 +1,111 @@
+package it.corso.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import it.corso.dto.DipendenteDtoRegistration;
+import it.corso.model.Dipartimento;
+import it.corso.model.Dipendente;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import it.corso.model.Ruolo;
+
+/**
+ * La classe {@code DatiBenchmark} crea i dati usati dai benchmark, generati da un {@link Random} con seme fisso
+ * in modo che esecuzioni diverse misurino gli stessi dati.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+final class DatiBenchmark {
+
+    private static final String[] NOMI = { "Mario", "Luca", "Anna", "Giulia", "Marco", "Chiara", "Paolo", "Sara" };
+
+    private static final String[] COGNOMI = { "Rossi", "Bianchi", "Verdi", "Neri", "Russo", "Ferrari", "Esposito", "Romano" };
+
+    private static final NomeDipartimento[] DIPARTIMENTI = NomeDipartimento.values();
+
+    private static final NomeRuolo[] RUOLI = NomeRuolo.values();
+
+    private DatiBenchmark() {
+    }
+
+    /**
+     * Crea {@code numero} dipendenti con ID consecutivi a partire da 1, ciascuno con un dipartimento e uno o due ruoli.
+     *
+     * @param numero il numero di dipendenti
+     * @return i dipendenti creati
+     */
+    static List<Dipendente> dipendenti(int numero) {
+        Random random = new Random(42);
+        Dipartimento[] dipartimenti = new Dipartimento[DIPARTIMENTI.length];
+        for (int i = 0; i < dipartimenti.length; i++) {
+            dipartimenti[i] = new Dipartimento();
+            dipartimenti[i].setId(i + 1);
+            dipartimenti[i].setNome(DIPARTIMENTI[i]);
+        }
+        Ruolo[] ruoli = new Ruolo[RUOLI.length];
+        for (int i = 0; i < ruoli.length; i++) {
+            ruoli[i] = new Ruolo();
+            ruoli[i].setId(i + 1);
+            ruoli[i].setNome(RUOLI[i]);
+        }
+        List<Dipendente> dipendenti = new ArrayList<>(numero);
+        for (int i = 1; i <= numero; i++) {
+            Dipendente dipendente = new Dipendente();
+            dipendente.setId(i);
+            dipendente.setNome(NOMI[random.nextInt(NOMI.length)]);
+            dipendente.setCognome(COGNOMI[random.nextInt(COGNOMI.length)]);
+            dipendente.setDataNascita(LocalDate.of(1960, 1, 1).plusDays(random.nextInt(15000)));
+            dipendente.setDataAssunzione(LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9000)));
+            dipendente.setStipendio(20000 + random.nextInt(80000));
+            dipendente.setDipartimento(dipartimenti[random.nextInt(dipartimenti.length)]);
+            Set<Ruolo> ruoliDipendente = new LinkedHashSet<>(2);
+            ruoliDipendente.add(ruoli[random.nextInt(ruoli.length)]);
+            if (random.nextBoolean()) {
+                ruoliDipendente.add(ruoli[random.nextInt(ruoli.length)]);
+            }
+            dipendente.setRuoli(ruoliDipendente);
+            dipendenti.add(dipendente);
+        }
+        return dipendenti;
+    }
+
+    /**
+     * Crea un DTO di registrazione che rispetta tutti i vincoli di validazione.
+     *
+     * @return il DTO creato
+     */
+    static DipendenteDtoRegistration registrazioneValida() {
+        DipendenteDtoRegistration dto = new DipendenteDtoRegistration();
+        dto.setNome("Mario");
+        dto.setCognome("Rossi");
+        dto.setDataNascita(LocalDate.of(1980, 1, 1));
+        dto.setDataAssunzione(LocalDate.of(2010, 1, 1));
+        dto.setStipendio(30000);
+        dto.setDipartimento("IT");
+        dto.setRuoli(List.of("Impiegato", "Manager"));
+        return dto;
+    }
+
+    /**
+     * Crea un DTO di registrazione che viola quattro vincoli di validazione.
+     *
+     * @return il DTO creato
+     */
+    static DipendenteDtoRegistration registrazioneNonValida() {
+        DipendenteDtoRegistration dto = registrazioneValida();
+        dto.setNome("M4rio");
+        dto.setDataAssunzione(LocalDate.now().plusDays(1));
+        dto.setStipendio(-1);
+        dto.setRuoli(List.of());
+        return dto;
+    }
+
+}
@@ -0,0 +1,81 @@
+package it.corso.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.corso.dto.DipendenteByDipartimentoDto;
+import it.corso.dto.DipendenteByRuoloDto;
+import it.corso.dto.DipendenteDto;
+import it.corso.mapper.DipendenteMapper;
+import it.corso.model.Dipendente;
+
+/**
+ * La classe {@code MappingBenchmark} misura la conversione di un {@link Dipendente} in ciascun DTO,
+ * confrontando {@link DipendenteMapper} con la mappatura per nome di {@link ModelMapper} usata in precedenza.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final DipendenteMapper mapper = new DipendenteMapper();
+
+    private Dipendente dipendente;
+
+    @Setup
+    public void setup() {
+        dipendente = DatiBenchmark.dipendenti(1).get(0);
+    }
+
+    @Benchmark
+    public DipendenteDto modelMapperDipendenteDto() {
+        return modelMapper.map(dipendente, DipendenteDto.class);
+    }
+
+    @Benchmark
+    public DipendenteByDipartimentoDto modelMapperByDipartimentoDto() {
+        return modelMapper.map(dipendente, DipendenteByDipartimentoDto.class);
+    }
+
+    @Benchmark
+    public DipendenteByRuoloDto modelMapperByRuoloDto() {
+        return modelMapper.map(dipendente, DipendenteByRuoloDto.class);
+    }
+
+    @Benchmark
+    public DipendenteDto mapperDipendenteDto() {
+        return mapper.toDipendenteDto(dipendente);
+    }
+
+    @Benchmark
+    public DipendenteByDipartimentoDto mapperByDipartimentoDto() {
+        return mapper.toDipendenteByDipartimentoDto(dipendente);
+    }
+
+    @Benchmark
+    public DipendenteByRuoloDto mapperByRuoloDto() {
+        return mapper.toDipendenteByRuoloDto(dipendente);
+    }
+
+}
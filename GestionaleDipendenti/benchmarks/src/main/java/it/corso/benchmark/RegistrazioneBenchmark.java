@@ -0,0 +1,88 @@
+package it.corso.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.corso.controller.ValidazioneInput;
+import it.corso.dto.DipendenteDtoRegistration;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * La classe {@code RegistrazioneBenchmark} misura i controlli eseguiti dai controller sull'input:
+ * la validazione Bean Validation di {@link DipendenteDtoRegistration}, valido e non valido,
+ * il controllo del formato dei ruoli e la normalizzazione del nome di {@link ValidazioneInput}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrazioneBenchmark {
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private DipendenteDtoRegistration registrazioneValida;
+
+    private DipendenteDtoRegistration registrazioneNonValida;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        registrazioneValida = DatiBenchmark.registrazioneValida();
+        registrazioneNonValida = DatiBenchmark.registrazioneNonValida();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DipendenteDtoRegistration>> validazioneValida() {
+        return validator.validate(registrazioneValida);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DipendenteDtoRegistration>> validazioneNonValida() {
+        return validator.validate(registrazioneNonValida);
+    }
+
+    @Benchmark
+    public void formatoRuoli(Blackhole blackhole) {
+        for (String ruolo : registrazioneValida.getRuoli()) {
+            blackhole.consume(ValidazioneInput.isRuoloValido(ruolo));
+        }
+        blackhole.consume(ValidazioneInput.isRuoloValido("Impiegato amministrativo"));
+    }
+
+    @Benchmark
+    public String normalizzazioneNome() {
+        return ValidazioneInput.normalizzaNome(" mA rio ");
+    }
+
+}
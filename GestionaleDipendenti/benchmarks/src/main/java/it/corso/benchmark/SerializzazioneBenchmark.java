@@ -0,0 +1,71 @@
+package it.corso.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import it.corso.dto.DipendenteDto;
+import it.corso.mapper.DipendenteMapper;
+import it.corso.model.Dipendente;
+
+/**
+ * La classe {@code SerializzazioneBenchmark} misura la serializzazione JSON con Jackson di una {@code List<DipendenteDto>},
+ * configurato per le date come l'{@link ObjectMapper} di Spring Boot (date ISO-8601 invece di timestamp).
+ * Il JSON viene scritto su uno stream che lo scarta, in modo da non misurare la crescita di un buffer.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializzazioneBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    private int dimensione;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<DipendenteDto> dipendentiDto;
+
+    @Setup
+    public void setup() {
+        DipendenteMapper mapper = new DipendenteMapper();
+        List<Dipendente> dipendenti = DatiBenchmark.dipendenti(dimensione);
+        dipendentiDto = new ArrayList<>(dimensione);
+        dipendenti.forEach(d -> dipendentiDto.add(mapper.toDipendenteDto(d)));
+    }
+
+    @Benchmark
+    public void serializzazione() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), dipendentiDto);
+    }
+
+}
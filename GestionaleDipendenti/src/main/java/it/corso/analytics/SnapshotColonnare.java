@@ -0,0 +1,335 @@
+package it.corso.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import it.corso.dao.DipendenteColonne;
+import it.corso.dao.DipendenteDao;
+import it.corso.dao.DipendenteRuoloColonne;
+import it.corso.dto.StatisticheStipendioDto;
+import it.corso.event.DipendentiModificatiEvent;
+import it.corso.event.DipendentiRiorganizzatiEvent;
+import it.corso.event.IndiceInMemoria;
+import it.corso.event.IstantaneaDipendente;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+
+/**
+ * La classe {@code SnapshotColonnare} mantiene in memoria una copia a colonne dei dati dei dipendenti
+ * usati dalle analisi aggregate, così che le statistiche non richiedano di leggere e idratare l'intera tabella.
+ *
+ * Ogni colonna è un array di tipo primitivo, con una posizione per dipendente:
+ * <ul>
+ * <li>lo stipendio come {@code double[]};</li>
+ * <li>le date di nascita e di assunzione come giorni dall'epoca in {@code int[]};</li>
+ * <li>il dipartimento come ordinale di {@link NomeDipartimento} in {@code byte[]} ({@code -1} se assente);</li>
+ * <li>i ruoli come maschera di bit sugli ordinali di {@link NomeRuolo} in {@code int[]}.</li>
+ * </ul>
+ *
+ * Le statistiche scorrono le colonne con cicli semplici su array primitivi, senza oggetti intermedi, che il
+ * compilatore JIT può vettorizzare. Lo snapshot viene costruito all'avvio con due query di proiezione e
+ * aggiornato in modo incrementale come descritto in {@link IndiceInMemoria}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+public class SnapshotColonnare extends IndiceInMemoria<SnapshotColonnare.Colonne> {
+
+    /**
+     * Raggruppamento per dipartimento.
+     */
+    public static final String GRUPPO_DIPARTIMENTO = "dipartimento";
+
+    /**
+     * Raggruppamento per ruolo: un dipendente con più ruoli viene contato in ciascuno di essi.
+     */
+    public static final String GRUPPO_RUOLO = "ruolo";
+
+    /**
+     * Nessun raggruppamento: un solo gruppo con tutti i dipendenti.
+     */
+    public static final String GRUPPO_NESSUNO = "nessuno";
+
+    private static final NomeDipartimento[] DIPARTIMENTI = NomeDipartimento.values();
+
+    private static final NomeRuolo[] RUOLI = NomeRuolo.values();
+
+    @Autowired
+    private DipendenteDao dipendenteDao;
+
+    public SnapshotColonnare() {
+        super(new Colonne(0));
+    }
+
+    /**
+     * Legge tutti i dipendenti e le loro coppie dipendente-ruolo.
+     */
+    @Override
+    protected Colonne leggi() {
+        Colonne lette = new Colonne(1024);
+        try (Stream<DipendenteColonne> righe = dipendenteDao.streamColonne()) {
+            righe.forEach(d -> lette.salva(d.getId(), d.getStipendio(), d.getDataNascita(), d.getDataAssunzione(),
+                    d.getDipartimento(), 0));
+        }
+        try (Stream<DipendenteRuoloColonne> ruoli = dipendenteDao.streamRuoli()) {
+            ruoli.forEach(r -> lette.aggiungiRuolo(r.getIdDipendente(), r.getRuolo()));
+        }
+        return lette;
+    }
+
+    @Override
+    protected void applica(Colonne c, DipendentiModificatiEvent event) {
+        for (IstantaneaDipendente d : event.getSalvati()) {
+            int ruoli = 0;
+            for (NomeRuolo ruolo : d.getRuoli()) {
+                ruoli |= 1 << ruolo.ordinal();
+            }
+            c.salva(d.getId(), d.getStipendio(), d.getDataNascita(), d.getDataAssunzione(), d.getDipartimento(), ruoli);
+        }
+        event.getEliminati().forEach(c::rimuovi);
+    }
+
+    @Override
+    protected void applica(Colonne c, DipendentiRiorganizzatiEvent event) {
+        RoaringBitmap ids = event.getIds();
+        if (event.getDipartimento() != null) {
+            ids.forEach((int id) -> c.impostaDipartimento(id, event.getDipartimento()));
+        }
+        if (event.getRuoloAggiunto() != null) {
+            ids.forEach((int id) -> c.aggiungiRuolo(id, event.getRuoloAggiunto()));
+        }
+        if (event.getRuoloRimosso() != null) {
+            ids.forEach((int id) -> c.rimuoviRuolo(id, event.getRuoloRimosso()));
+        }
+    }
+
+    /**
+     * Calcola le statistiche degli stipendi raggruppate per dipartimento, per ruolo o sull'intero insieme,
+     * limitandosi eventualmente ai dipendenti assunti nell'intervallo indicato.
+     * I gruppi senza dipendenti non vengono restituiti.
+     *
+     * @param raggruppamento {@value #GRUPPO_DIPARTIMENTO}, {@value #GRUPPO_RUOLO} o {@value #GRUPPO_NESSUNO}
+     * @param assuntiDa la prima data di assunzione inclusa, o {@code null}
+     * @param assuntiA l'ultima data di assunzione inclusa, o {@code null}
+     * @return le statistiche di ciascun gruppo
+     * @throws IllegalArgumentException se il raggruppamento non è valido
+     */
+    public List<StatisticheStipendioDto> statisticheStipendio(String raggruppamento, LocalDate assuntiDa, LocalDate assuntiA) {
+        int da = assuntiDa != null ? (int) assuntiDa.toEpochDay() : Integer.MIN_VALUE;
+        int a = assuntiA != null ? (int) assuntiA.toEpochDay() : Integer.MAX_VALUE;
+        return consulta(c -> {
+            List<StatisticheStipendioDto> statistiche = new ArrayList<>();
+            switch (raggruppamento) {
+                case GRUPPO_DIPARTIMENTO -> {
+                    for (NomeDipartimento dipartimento : DIPARTIMENTI) {
+                        double[] valori = c.stipendiDipartimento((byte) dipartimento.ordinal(), da, a);
+                        aggiungi(statistiche, dipartimento.name(), valori);
+                    }
+                }
+                case GRUPPO_RUOLO -> {
+                    for (NomeRuolo ruolo : RUOLI) {
+                        double[] valori = c.stipendiRuolo(1 << ruolo.ordinal(), da, a);
+                        aggiungi(statistiche, ruolo.name(), valori);
+                    }
+                }
+                case GRUPPO_NESSUNO -> aggiungi(statistiche, "TOTALE", c.stipendi(da, a));
+                default -> throw new IllegalArgumentException("Raggruppamento non valido: " + raggruppamento);
+            }
+            return statistiche;
+        });
+    }
+
+    /**
+     * Restituisce il numero di dipendenti presenti nello snapshot.
+     *
+     * @return il numero di dipendenti
+     */
+    public int dimensione() {
+        return consulta(c -> c.dimensione);
+    }
+
+    private static void aggiungi(List<StatisticheStipendioDto> statistiche, String gruppo, double[] valori) {
+        int n = valori.length;
+        if (n == 0) {
+            return;
+        }
+        Arrays.sort(valori);
+        double somma = 0;
+        for (int i = 0; i < n; i++) {
+            somma += valori[i];
+        }
+        StatisticheStipendioDto dto = new StatisticheStipendioDto();
+        dto.setGruppo(gruppo);
+        dto.setConteggio(n);
+        dto.setSomma(somma);
+        dto.setMedia(somma / n);
+        dto.setMinimo(valori[0]);
+        dto.setMassimo(valori[n - 1]);
+        dto.setP50(percentile(valori, 50));
+        dto.setP90(percentile(valori, 90));
+        dto.setP99(percentile(valori, 99));
+        statistiche.add(dto);
+    }
+
+    /**
+     * Percentile con il metodo nearest-rank su valori già ordinati.
+     */
+    private static double percentile(double[] ordinati, int percentile) {
+        int rango = (int) Math.ceil(percentile / 100.0 * ordinati.length);
+        return ordinati[Math.max(rango, 1) - 1];
+    }
+
+    /**
+     * Le colonne dello snapshot, con una riga per dipendente. Le righe eliminate vengono sostituite
+     * dall'ultima riga, così che le colonne restino compatte. Non è thread-safe: gli accessi sono
+     * coordinati da {@link IndiceInMemoria}.
+     */
+    static final class Colonne {
+
+        private int dimensione;
+
+        private int[] id;
+
+        private double[] stipendio;
+
+        private int[] dataNascita;
+
+        private int[] dataAssunzione;
+
+        private byte[] dipartimento;
+
+        private int[] ruoli;
+
+        private final Map<Integer, Integer> righe = new HashMap<>();
+
+        private Colonne(int capacita) {
+            id = new int[capacita];
+            stipendio = new double[capacita];
+            dataNascita = new int[capacita];
+            dataAssunzione = new int[capacita];
+            dipartimento = new byte[capacita];
+            ruoli = new int[capacita];
+        }
+
+        private void salva(int idDipendente, double stipendioDipendente, LocalDate nascita, LocalDate assunzione,
+                NomeDipartimento nomeDipartimento, int maschera) {
+            Integer riga = righe.get(idDipendente);
+            if (riga == null) {
+                if (dimensione == id.length) {
+                    int capacita = Math.max(16, dimensione + (dimensione >> 1));
+                    id = Arrays.copyOf(id, capacita);
+                    stipendio = Arrays.copyOf(stipendio, capacita);
+                    dataNascita = Arrays.copyOf(dataNascita, capacita);
+                    dataAssunzione = Arrays.copyOf(dataAssunzione, capacita);
+                    dipartimento = Arrays.copyOf(dipartimento, capacita);
+                    ruoli = Arrays.copyOf(ruoli, capacita);
+                }
+                riga = dimensione++;
+                righe.put(idDipendente, riga);
+            }
+            id[riga] = idDipendente;
+            stipendio[riga] = stipendioDipendente;
+            dataNascita[riga] = nascita != null ? (int) nascita.toEpochDay() : Integer.MIN_VALUE;
+            dataAssunzione[riga] = assunzione != null ? (int) assunzione.toEpochDay() : Integer.MIN_VALUE;
+            dipartimento[riga] = nomeDipartimento != null ? (byte) nomeDipartimento.ordinal() : -1;
+            ruoli[riga] = maschera;
+        }
+
+        private void aggiungiRuolo(int idDipendente, NomeRuolo ruolo) {
+            Integer riga = righe.get(idDipendente);
+            if (riga != null) {
+                ruoli[riga] |= 1 << ruolo.ordinal();
+            }
+        }
+
+        private void impostaDipartimento(int idDipendente, NomeDipartimento nomeDipartimento) {
+            Integer riga = righe.get(idDipendente);
+            if (riga != null) {
+                dipartimento[riga] = (byte) nomeDipartimento.ordinal();
+            }
+        }
+
+        private void rimuoviRuolo(int idDipendente, NomeRuolo ruolo) {
+            Integer riga = righe.get(idDipendente);
+            if (riga != null) {
+                ruoli[riga] &= ~(1 << ruolo.ordinal());
+            }
+        }
+
+        private void rimuovi(int idDipendente) {
+            Integer riga = righe.remove(idDipendente);
+            if (riga == null) {
+                return;
+            }
+            int ultima = --dimensione;
+            if (riga != ultima) {
+                id[riga] = id[ultima];
+                stipendio[riga] = stipendio[ultima];
+                dataNascita[riga] = dataNascita[ultima];
+                dataAssunzione[riga] = dataAssunzione[ultima];
+                dipartimento[riga] = dipartimento[ultima];
+                ruoli[riga] = ruoli[ultima];
+                righe.put(id[riga], riga);
+            }
+        }
+
+        private double[] stipendi(int da, int a) {
+            double[] valori = new double[dimensione];
+            int n = 0;
+            for (int i = 0; i < dimensione; i++) {
+                int assunzione = dataAssunzione[i];
+                if (assunzione >= da && assunzione <= a) {
+                    valori[n++] = stipendio[i];
+                }
+            }
+            return n == dimensione ? valori : Arrays.copyOf(valori, n);
+        }
+
+        private double[] stipendiDipartimento(byte ordinale, int da, int a) {
+            int n = 0;
+            for (int i = 0; i < dimensione; i++) {
+                if (dipartimento[i] == ordinale && dataAssunzione[i] >= da && dataAssunzione[i] <= a) {
+                    n++;
+                }
+            }
+            double[] valori = new double[n];
+            n = 0;
+            for (int i = 0; i < dimensione; i++) {
+                if (dipartimento[i] == ordinale && dataAssunzione[i] >= da && dataAssunzione[i] <= a) {
+                    valori[n++] = stipendio[i];
+                }
+            }
+            return valori;
+        }
+
+        private double[] stipendiRuolo(int bit, int da, int a) {
+            int n = 0;
+            for (int i = 0; i < dimensione; i++) {
+                if ((ruoli[i] & bit) != 0 && dataAssunzione[i] >= da && dataAssunzione[i] <= a) {
+                    n++;
+                }
+            }
+            double[] valori = new double[n];
+            n = 0;
+            for (int i = 0; i < dimensione; i++) {
+                if ((ruoli[i] & bit) != 0 && dataAssunzione[i] >= da && dataAssunzione[i] <= a) {
+                    valori[n++] = stipendio[i];
+                }
+            }
+            return valori;
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+package it.corso.cache;
+
+import java.util.EnumMap;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import it.corso.dao.DipartimentoDao;
+import it.corso.dao.RuoloDao;
+import it.corso.model.Dipartimento;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import it.corso.model.Ruolo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * La classe {@code DatiRiferimentoCache} mantiene in memoria i dati di riferimento delle tabelle
+ * {@code dipartimento} e {@code ruolo}, che contengono una riga per ciascun valore degli enum
+ * {@link NomeDipartimento} e {@link NomeRuolo} e non cambiano durante il funzionamento dell'applicazione.
+ *
+ * Gli ID vengono caricati appena creati tutti i singleton del contesto, quindi dopo l'inizializzazione del database
+ * e prima che il server web accetti richieste, e indicizzati sia per nome, tramite {@link EnumMap}, sia per ID,
+ * tramite array indicizzati direttamente dall'ID. Le entità vengono restituite come riferimenti ottenuti con
+ * {@link EntityManager#getReference(Class, Object)}, che non eseguono alcuna SELECT: sono sufficienti
+ * per valorizzare le associazioni di un {@link it.corso.model.Dipendente} da salvare.
+ *
+ * Se le tabelle di riferimento vengono modificate esternamente è necessario invocare {@link #refresh()}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+public class DatiRiferimentoCache implements SmartInitializingSingleton {
+
+    @Autowired
+    private DipartimentoDao dipartimentoDao;
+
+    @Autowired
+    private RuoloDao ruoloDao;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile Indice indice = new Indice();
+
+    /**
+     * Carica gli ID dei dipartimenti e dei ruoli all'avvio, prima che i servizi possano usarli.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    /**
+     * Ricarica dal database gli ID dei dipartimenti e dei ruoli, leggendoli in una transazione in sola lettura.
+     * Viene invocato all'avvio e può essere invocato in qualsiasi momento: le letture in corso
+     * continuano a usare l'indice precedente fino alla sostituzione.
+     */
+    public void refresh() {
+        TransactionTemplate transazione = new TransactionTemplate(transactionManager);
+        transazione.setReadOnly(true);
+        indice = transazione.execute(status -> leggi());
+    }
+
+    private Indice leggi() {
+        Indice nuovoIndice = new Indice();
+        int maxIdDipartimento = 0;
+        for (Dipartimento dipartimento : dipartimentoDao.findAll()) {
+            nuovoIndice.idDipartimenti.put(dipartimento.getNome(), dipartimento.getId());
+            maxIdDipartimento = Math.max(maxIdDipartimento, dipartimento.getId());
+        }
+        nuovoIndice.dipartimentiPerId = new NomeDipartimento[maxIdDipartimento + 1];
+        nuovoIndice.idDipartimenti.forEach((nome, id) -> nuovoIndice.dipartimentiPerId[id] = nome);
+        int maxIdRuolo = 0;
+        for (Ruolo ruolo : ruoloDao.findAll()) {
+            nuovoIndice.idRuoli.put(ruolo.getNome(), ruolo.getId());
+            maxIdRuolo = Math.max(maxIdRuolo, ruolo.getId());
+        }
+        nuovoIndice.ruoliPerId = new NomeRuolo[maxIdRuolo + 1];
+        nuovoIndice.idRuoli.forEach((nome, id) -> nuovoIndice.ruoliPerId[id] = nome);
+        return nuovoIndice;
+    }
+
+    /**
+     * Restituisce il riferimento al dipartimento con il nome indicato.
+     *
+     * @param nome il nome del dipartimento
+     * @return il riferimento al dipartimento, o {@code null} se non esiste
+     */
+    public Dipartimento getDipartimento(NomeDipartimento nome) {
+        Integer id = indice.idDipartimenti.get(nome);
+        return id != null ? entityManager.getReference(Dipartimento.class, id) : null;
+    }
+
+    /**
+     * Restituisce il riferimento al dipartimento con l'ID indicato.
+     *
+     * @param id l'ID del dipartimento
+     * @return il riferimento al dipartimento, o {@code null} se non esiste
+     */
+    public Dipartimento getDipartimento(int id) {
+        return getNomeDipartimento(id) != null ? entityManager.getReference(Dipartimento.class, id) : null;
+    }
+
+    /**
+     * Restituisce il nome del dipartimento con l'ID indicato.
+     *
+     * @param id l'ID del dipartimento
+     * @return il nome del dipartimento, o {@code null} se non esiste
+     */
+    public NomeDipartimento getNomeDipartimento(int id) {
+        NomeDipartimento[] dipartimentiPerId = indice.dipartimentiPerId;
+        return id >= 0 && id < dipartimentiPerId.length ? dipartimentiPerId[id] : null;
+    }
+
+    /**
+     * Restituisce il riferimento al ruolo con il nome indicato.
+     *
+     * @param nome il nome del ruolo
+     * @return il riferimento al ruolo, o {@code null} se non esiste
+     */
+    public Ruolo getRuolo(NomeRuolo nome) {
+        Integer id = indice.idRuoli.get(nome);
+        return id != null ? entityManager.getReference(Ruolo.class, id) : null;
+    }
+
+    /**
+     * Restituisce il riferimento al ruolo con l'ID indicato.
+     *
+     * @param id l'ID del ruolo
+     * @return il riferimento al ruolo, o {@code null} se non esiste
+     */
+    public Ruolo getRuolo(int id) {
+        return getNomeRuolo(id) != null ? entityManager.getReference(Ruolo.class, id) : null;
+    }
+
+    /**
+     * Restituisce il nome del ruolo con l'ID indicato.
+     *
+     * @param id l'ID del ruolo
+     * @return il nome del ruolo, o {@code null} se non esiste
+     */
+    public NomeRuolo getNomeRuolo(int id) {
+        NomeRuolo[] ruoliPerId = indice.ruoliPerId;
+        return id >= 0 && id < ruoliPerId.length ? ruoliPerId[id] : null;
+    }
+
+    /**
+     * Istantanea degli ID di riferimento, costruita da {@link #refresh()} e non più modificata dopo la pubblicazione.
+     */
+    private static final class Indice {
+
+        private final EnumMap<NomeDipartimento, Integer> idDipartimenti = new EnumMap<>(NomeDipartimento.class);
+
+        private NomeDipartimento[] dipartimentiPerId = new NomeDipartimento[0];
+
+        private final EnumMap<NomeRuolo, Integer> idRuoli = new EnumMap<>(NomeRuolo.class);
+
+        private NomeRuolo[] ruoliPerId = new NomeRuolo[0];
+    }
+
+}
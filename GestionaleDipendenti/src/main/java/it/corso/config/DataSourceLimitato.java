@@ -0,0 +1,115 @@
+package it.corso.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * La classe {@code DataSourceLimitato} avvolge il {@link DataSource} dell'applicazione e limita con un
+ * {@link Semaphore} equo il numero di chiamanti che usano una connessione o sono in attesa di ottenerla dal pool.
+ *
+ * Con i virtual thread il numero di richieste servite in parallelo non è più limitato dal pool di thread di Tomcat.
+ * Il pool JDBC limita già le connessioni in uso e il tempo di attesa di una connessione, ma non il numero di
+ * chiamanti in attesa: il semaforo, dimensionato oltre la dimensione del pool, fissa la lunghezza massima della coda.
+ * Le richieste oltre il limite attendono un permesso, in ordine di arrivo, e falliscono con
+ * {@link SQLTransientConnectionException} dopo il tempo massimo, così che un picco di carico venga respinto
+ * invece di accumularsi. Il permesso viene rilasciato alla chiusura della connessione.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DataSourceLimitato extends DelegatingDataSource {
+
+    private final Semaphore permessi;
+
+    private final long attesaMassimaMillis;
+
+    /**
+     * @param target il {@link DataSource} da avvolgere
+     * @param chiamantiMassimi il numero massimo di chiamanti che usano una connessione o sono in attesa nel pool
+     * @param attesaMassimaMillis il tempo massimo di attesa di un permesso, in millisecondi
+     */
+    public DataSourceLimitato(DataSource target, int chiamantiMassimi, long attesaMassimaMillis) {
+        super(target);
+        this.permessi = new Semaphore(chiamantiMassimi, true);
+        this.attesaMassimaMillis = attesaMassimaMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquisisci();
+        try {
+            return rilascioAllaChiusura(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permessi.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquisisci();
+        try {
+            return rilascioAllaChiusura(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permessi.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Restituisce il numero di richieste in attesa di un permesso.
+     *
+     * @return il numero stimato di richieste in coda
+     */
+    public int getRichiesteInAttesa() {
+        return permessi.getQueueLength();
+    }
+
+    private void acquisisci() throws SQLException {
+        try {
+            if (!permessi.tryAcquire(attesaMassimaMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Nessuna connessione disponibile entro " + attesaMassimaMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Attesa della connessione interrotta", e);
+        }
+    }
+
+    /**
+     * Restituisce un proxy della connessione che rilascia il permesso alla prima invocazione di {@code close()}.
+     */
+    private Connection rilascioAllaChiusura(Connection connessione) {
+        AtomicBoolean rilasciato = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, metodo, argomenti) -> {
+                    if ("close".equals(metodo.getName()) && rilasciato.compareAndSet(false, true)) {
+                        try {
+                            connessione.close();
+                        } finally {
+                            permessi.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return metodo.invoke(connessione, argomenti);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,45 @@
+package it.corso.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * La classe {@code LimiteConnessioniConfig} avvolge il {@link DataSource} in un {@link DataSourceLimitato}
+ * quando la proprietà {@code gestionale.db.max-concurrency} è impostata, come nel profilo {@code virtual}.
+ *
+ * <ul>
+ * <li>{@code gestionale.db.max-concurrency}: Il numero massimo di chiamanti che usano una connessione o sono in attesa nel pool,
+ * da impostare oltre la dimensione del pool.</li>
+ * <li>{@code gestionale.db.acquire-timeout}: Il tempo massimo di attesa di un permesso, in millisecondi (predefinito 10000).</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Configuration
+@ConditionalOnProperty("gestionale.db.max-concurrency")
+public class LimiteConnessioniConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceLimitatoPostProcessor(
+            @Value("${gestionale.db.max-concurrency}") int chiamantiMassimi,
+            @Value("${gestionale.db.acquire-timeout:10000}") long attesaMassimaMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceLimitato)) {
+                    return new DataSourceLimitato(dataSource, chiamantiMassimi, attesaMassimaMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+}
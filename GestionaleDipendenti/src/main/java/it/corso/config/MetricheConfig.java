@@ -0,0 +1,49 @@
+package it.corso.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import it.corso.metriche.ContatoreQuery;
+import it.corso.metriche.MetricheRichiestaFilter;
+
+/**
+ * La classe {@code MetricheConfig} configura le metriche applicative esposte da Actuator su {@code /actuator/prometheus},
+ * in aggiunta a quelle registrate automaticamente da Spring Boot (richieste HTTP, pool HikariCP, invocazioni
+ * dei repository in {@code spring.data.repository.invocations} e statistiche di Hibernate).
+ *
+ * <ul>
+ * <li>{@link #timedAspect(MeterRegistry)}: Abilita l'annotazione {@link io.micrometer.core.annotation.Timed} sui service.</li>
+ * <li>{@link #contatoreQueryCustomizer()}: Registra {@link ContatoreQuery} come {@code StatementInspector} di Hibernate.</li>
+ * <li>{@link #metricheRichiestaFilter(MeterRegistry)}: Registra le istruzioni SQL eseguite da ogni richiesta.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Configuration
+public class MetricheConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer contatoreQueryCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ContatoreQuery());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MetricheRichiestaFilter metricheRichiestaFilter(MeterRegistry registry) {
+        return new MetricheRichiestaFilter(registry);
+    }
+
+}
@@ -0,0 +1,57 @@
+package it.corso.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.corso.dto.StatisticheStipendioDto;
+import it.corso.service.AnalyticsService;
+
+/**
+ * La classe {@code AnalyticsController} gestisce le richieste HTTP delle analisi aggregate sui dipendenti.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    /**
+     * Endpoint per ottenere somma, media, minimo, massimo e percentili degli stipendi,
+     * raggruppati per dipartimento, per ruolo o sull'intero insieme dei dipendenti.
+     *
+     * @param groupBy {@code dipartimento}, {@code ruolo} o {@code nessuno}
+     * @param dataAssunzioneDa la prima data di assunzione inclusa (formato {@code yyyy-MM-dd}), facoltativa
+     * @param dataAssunzioneA l'ultima data di assunzione inclusa (formato {@code yyyy-MM-dd}), facoltativa
+     * @return una lista di {@link StatisticheStipendioDto} o una risposta 400 Bad Request se il raggruppamento non è valido
+     */
+    @GetMapping("/stipendio")
+    public ResponseEntity<List<StatisticheStipendioDto>> getStatisticheStipendio(
+            @RequestParam(defaultValue = "dipartimento") String groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataAssunzioneDa,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataAssunzioneA) {
+        try {
+            List<StatisticheStipendioDto> statistiche = analyticsService.getStatisticheStipendio(groupBy, dataAssunzioneDa, dataAssunzioneA);
+            if (statistiche != null) {
+                return ResponseEntity.ok(statistiche);
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package it.corso.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.corso.dto.RegioneCacheDto;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * La classe {@code CacheController} espone le statistiche della cache di secondo livello di Hibernate,
+ * attiva solo con il profilo {@code cache}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@RestController
+@RequestMapping("/api/cache")
+@Profile("cache")
+public class CacheController {
+
+    private final Statistics statistics;
+
+    public CacheController(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Endpoint per ottenere hit, miss, inserimenti ed elementi di ciascuna regione della cache,
+     * incluse le regioni della cache delle query.
+     *
+     * @return una risposta 200 OK con la lista delle statistiche per regione
+     */
+    @GetMapping("/statistiche")
+    public ResponseEntity<List<RegioneCacheDto>> getStatistiche() {
+        List<RegioneCacheDto> regioni = new ArrayList<>();
+        for (String nome : statistics.getSecondLevelCacheRegionNames()) {
+            regioni.add(toRegioneCacheDto(nome, statistics.getCacheRegionStatistics(nome)));
+        }
+        return ResponseEntity.ok(regioni);
+    }
+
+    private RegioneCacheDto toRegioneCacheDto(String nome, CacheRegionStatistics regione) {
+        RegioneCacheDto dto = new RegioneCacheDto();
+        dto.setRegione(nome);
+        if (regione != null) {
+            dto.setHit(regione.getHitCount());
+            dto.setMiss(regione.getMissCount());
+            dto.setPut(regione.getPutCount());
+            long elementi = regione.getElementCountInMemory();
+            dto.setElementi(elementi == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? -1 : elementi);
+        }
+        return dto;
+    }
+
+}
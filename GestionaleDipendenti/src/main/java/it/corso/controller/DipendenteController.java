@@ -1,25 +1,54 @@
 package it.corso.controller;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.corso.dto.AppartenenzaFiltroDto;
+import it.corso.dto.AppartenenzaPaginaDto;
+import it.corso.dto.DipendenteBatchDto;
 import it.corso.dto.DipendenteByDipartimentoDto;
 import it.corso.dto.DipendenteByRuoloDto;
 import it.corso.dto.DipendenteDto;
 import it.corso.dto.DipendenteDtoRegistration;
 import it.corso.dto.DipendenteDtoUpdate;
+import it.corso.dto.DipendenteFiltroDto;
+import it.corso.dto.DipendenteFiltroPaginaDto;
+import it.corso.dto.DipendentePaginaDto;
+import it.corso.dto.DipendenteSuggerimentoDto;
+import it.corso.dto.RegistrazioneEsitoDto;
+import it.corso.dto.RicercaPaginaDto;
+import it.corso.dto.StatisticheGruppoDto;
+import it.corso.dto.StipendioClassificaDto;
 import it.corso.service.DipendenteService;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 
 /**
  * La classe {@code DipendenteController} gestisce le richieste HTTP relative alle operazioni sui dipendenti.
  * Fornisce vari endpoint per registrare, aggiornare, eliminare e recuperare dipendenti,
  * oltre a fornire metodi per cercare i dipendenti tramite nome, dipartimento o ruolo.
  * 
+ * Gli endpoint usano JPA e Spring MVC, per cui sono registrati solo quando l'applicazione è un'applicazione servlet:
+ * con il profilo {@code reactive}, disponibile nella build {@code -Preactive}, vengono sostituiti dalle letture
+ * di {@code DipendenteReactiveController}.
+ * 
  * @author Madalina Cires
  * @author Giorgia Alloisio
  * @author Alessia Boasi
@@ -27,11 +56,47 @@ import jakarta.validation.Valid;
  */
 @RestController
 @RequestMapping("/api/dipendente")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DipendenteController {
 
+    /**
+     * Numero massimo di dipendenti restituiti in una singola pagina di {@code /get/all}.
+     */
+    private static final int LIMITE_MASSIMO_PAGINA = 500;
+
+    /**
+     * Numero massimo di suggerimenti restituiti da {@code /search/prefix}.
+     */
+    private static final int LIMITE_MASSIMO_SUGGERIMENTI = 50;
+
+    /**
+     * Numero massimo di risultati restituiti in una singola pagina di {@code /search}.
+     */
+    private static final int LIMITE_MASSIMO_RICERCA = 100;
+
+    /**
+     * Numero massimo di dipendenti per dipartimento restituiti da {@code /stats/top}.
+     */
+    private static final int LIMITE_MASSIMO_CLASSIFICA = 100;
+
     @Autowired
     private DipendenteService dipendenteService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${gestionale.registration.batch-size:500}")
+    private int registrationBatchSize;
+
+    @Value("${gestionale.batch.max-size:1000}")
+    private int batchMaxSize;
+
+    @Value("${gestionale.export.timeout:3600000}")
+    private long exportTimeout;
+
     /**
      * Endpoint per registrare un nuovo dipendente.
      * Valida l'input e verifica che i ruoli forniti abbiano il formato corretto.
@@ -44,7 +109,7 @@ public class DipendenteController {
         try {
             List<String> nomiRuolo = dipendenteDto.getRuoli();
             for (String ruolo : nomiRuolo) {
-                if (!Pattern.matches("^[A-Z][a-zA-Z]*(\\s[A-Z][a-zA-Z]*)*$", ruolo)) {
+                if (!ValidazioneInput.isRuoloValido(ruolo)) {
                     return ResponseEntity.badRequest().build();
                 }
             }
@@ -56,20 +121,137 @@ public class DipendenteController {
     }
 
     /**
-     * Endpoint per ottenere tutti i dipendenti.
+     * Endpoint per registrare in blocco i dipendenti contenuti in un array JSON.
+     * L'array viene letto un elemento alla volta; ogni elemento viene validato con gli stessi vincoli
+     * di {@link #registrationDipendente(DipendenteDtoRegistration)} e gli elementi validi vengono registrati
+     * a blocchi di {@code gestionale.registration.batch-size} dipendenti, ciascuno in un'unica transazione.
      *
-     * @return una lista di {@link DipendenteDto} o una risposta 400 Bad Request in caso di errore
+     * @param inputStream il corpo della richiesta, contenente un array JSON di {@link DipendenteDtoRegistration}
+     * @return l'esito di ogni elemento dell'array, oppure una risposta 400 Bad Request con gli esiti
+     *         degli elementi già elaborati se il corpo non è un array JSON ben formato
+     */
+    @PostMapping(value = "/registration/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<RegistrazioneEsitoDto>> registrationDipendentiBulk(InputStream inputStream) {
+        List<RegistrazioneEsitoDto> esiti = new ArrayList<>();
+        List<DipendenteDtoRegistration> blocco = new ArrayList<>(registrationBatchSize);
+        List<RegistrazioneEsitoDto> esitiBlocco = new ArrayList<>(registrationBatchSize);
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return ResponseEntity.badRequest().build();
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode elemento = parser.readValueAsTree();
+                RegistrazioneEsitoDto esito = new RegistrazioneEsitoDto();
+                esito.setIndice(esiti.size());
+                esiti.add(esito);
+                DipendenteDtoRegistration dipendenteDto;
+                try {
+                    dipendenteDto = objectMapper.treeToValue(elemento, DipendenteDtoRegistration.class);
+                } catch (JsonProcessingException e) {
+                    esito.getErrori().add("Elemento non valido: " + e.getOriginalMessage());
+                    continue;
+                }
+                if (dipendenteDto == null) {
+                    esito.getErrori().add("Elemento non valido: null");
+                    continue;
+                }
+                validator.validate(dipendenteDto).forEach(violazione -> esito.getErrori().add(violazione.getMessage()));
+                if (dipendenteDto.getRuoli() != null) {
+                    for (String ruolo : dipendenteDto.getRuoli()) {
+                        if (!ValidazioneInput.isRuoloValido(ruolo)) {
+                            esito.getErrori().add("Ruolo con formato non valido: " + ruolo);
+                        }
+                    }
+                }
+                if (esito.getErrori().isEmpty()) {
+                    blocco.add(dipendenteDto);
+                    esitiBlocco.add(esito);
+                    if (blocco.size() == registrationBatchSize) {
+                        registraBlocco(blocco, esitiBlocco);
+                    }
+                }
+            }
+            registraBlocco(blocco, esitiBlocco);
+            return ResponseEntity.ok(esiti);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(esiti);
+        }
+    }
+
+    /**
+     * Registra un blocco di dipendenti già validati e aggiorna i relativi esiti, poi svuota il blocco.
+     *
+     * @param blocco i DTO dei dipendenti da registrare
+     * @param esitiBlocco gli esiti corrispondenti, nello stesso ordine dei DTO
+     */
+    private void registraBlocco(List<DipendenteDtoRegistration> blocco, List<RegistrazioneEsitoDto> esitiBlocco) {
+        if (blocco.isEmpty()) {
+            return;
+        }
+        try {
+            List<Integer> ids = dipendenteService.registrationDipendenti(blocco);
+            for (int i = 0; i < ids.size(); i++) {
+                RegistrazioneEsitoDto esito = esitiBlocco.get(i);
+                if (ids.get(i) > 0) {
+                    esito.setRegistrato(true);
+                    esito.setId(ids.get(i));
+                } else {
+                    esito.getErrori().add("Dipartimento o ruolo inesistente");
+                }
+            }
+        } catch (Exception e) {
+            esitiBlocco.forEach(esito -> esito.getErrori().add("Registrazione del blocco non riuscita"));
+        }
+        blocco.clear();
+        esitiBlocco.clear();
+    }
+
+    /**
+     * Endpoint per ottenere tutti i dipendenti, una pagina alla volta (paginazione keyset).
+     * La prima pagina si ottiene senza cursore; le successive passando il {@code nextCursor}
+     * restituito dalla pagina precedente, finché questo non è {@code null}.
+     *
+     * @param afterId l'ID dopo il quale iniziare la pagina, usato con ordinamento per ID
+     * @param limit il numero massimo di dipendenti della pagina (da 1 a {@value #LIMITE_MASSIMO_PAGINA})
+     * @param sort la chiave di ordinamento, {@code id} oppure {@code cognome}
+     * @param cursor il cursore restituito dalla pagina precedente
+     * @return un {@link DipendentePaginaDto} o una risposta 400 Bad Request in caso di parametri non validi
      */
     @GetMapping("/get/all")
-    public ResponseEntity<List<DipendenteDto>> getAllDipendenti() {
+    public ResponseEntity<DipendentePaginaDto> getAllDipendenti(
+            @RequestParam(defaultValue = "0") int afterId,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<DipendenteDto> dipendenti = dipendenteService.getAllDipendenti();
-            return ResponseEntity.ok(dipendenti);
+            if (afterId >= 0 && limit > 0 && limit <= LIMITE_MASSIMO_PAGINA) {
+                DipendentePaginaDto pagina = dipendenteService.getDipendentiPage(afterId, limit, sort, cursor);
+                if (pagina != null) {
+                    return ResponseEntity.ok(pagina);
+                }
+            }
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * Endpoint per esportare tutti i dipendenti in formato NDJSON (un {@link DipendenteDto} JSON per riga).
+     * La risposta viene scritta man mano che i dipendenti vengono letti, senza costruire l'intera lista in memoria.
+     * La scrittura può durare fino a {@code gestionale.export.timeout} millisecondi (predefinito un'ora), al posto
+     * del timeout breve {@code spring.mvc.async.request-timeout} usato dalle altre richieste asincrone.
+     *
+     * @param request la richiesta, di cui viene esteso il timeout asincrono
+     * @return uno stream NDJSON di {@link DipendenteDto}
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportDipendenti(NativeWebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout);
+        StreamingResponseBody body = outputStream -> dipendenteService.exportDipendenti(outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Endpoint per ottenere un dipendente tramite il suo ID.
      *
@@ -89,6 +271,209 @@ public class DipendenteController {
         }
     }
 
+    /**
+     * Endpoint per ottenere più dipendenti tramite una lista di ID, con una sola query.
+     * Gli elementi della risposta seguono l'ordine degli ID richiesti e indicano quali ID non esistono.
+     *
+     * @param ids gli ID dei dipendenti, separati da virgola (al massimo {@code gestionale.batch.max-size})
+     * @return una lista di {@link DipendenteBatchDto} o una risposta 400 Bad Request se la lista è vuota o troppo lunga
+     */
+    @GetMapping("/get/batch")
+    public ResponseEntity<List<DipendenteBatchDto>> getDipendentiByIds(@RequestParam List<Integer> ids) {
+        return getDipendentiBatch(ids);
+    }
+
+    /**
+     * Endpoint per ottenere più dipendenti tramite una lista di ID inviata nel corpo della richiesta,
+     * da usare al posto della variante GET quando la lista è troppo lunga per l'URL.
+     *
+     * @param ids gli ID dei dipendenti (al massimo {@code gestionale.batch.max-size})
+     * @return una lista di {@link DipendenteBatchDto} o una risposta 400 Bad Request se la lista è vuota o troppo lunga
+     */
+    @PostMapping("/get/batch")
+    public ResponseEntity<List<DipendenteBatchDto>> getDipendentiByIdsPost(@RequestBody List<Integer> ids) {
+        return getDipendentiBatch(ids);
+    }
+
+    /**
+     * Verifica la dimensione della lista di ID e recupera i dipendenti corrispondenti.
+     *
+     * @param ids gli ID dei dipendenti
+     * @return una lista di {@link DipendenteBatchDto} o una risposta 400 Bad Request in caso di errore
+     */
+    private ResponseEntity<List<DipendenteBatchDto>> getDipendentiBatch(List<Integer> ids) {
+        try {
+            if (ids != null && !ids.isEmpty() && ids.size() <= batchMaxSize && !ids.contains(null)) {
+                List<DipendenteBatchDto> dipendentiDto = dipendenteService.getDipendentiByIds(ids);
+                if (dipendentiDto != null) {
+                    return ResponseEntity.ok(dipendentiDto);
+                }
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint per la ricerca per appartenenza a dipartimenti e ruoli, risolta tramite un indice bitmap in memoria.
+     * I parametri {@code dipartimento}, {@code ruolo}, {@code escludiDipartimento} ed {@code escludiRuolo}
+     * possono essere ripetuti. I dipendenti sono restituiti in ordine di ID; con {@code limit=0}
+     * viene restituito solo il totale, senza interrogare il database.
+     *
+     * @param filtro i filtri di appartenenza, letti dai parametri della richiesta
+     * @param afterId l'ID dopo il quale iniziare la pagina
+     * @param limit il numero massimo di dipendenti della pagina (da 0 a {@value #LIMITE_MASSIMO_PAGINA})
+     * @return un {@link AppartenenzaPaginaDto} o una risposta 400 Bad Request in caso di parametri non validi
+     */
+    @GetMapping("/search/membership")
+    public ResponseEntity<AppartenenzaPaginaDto> getDipendentiByAppartenenza(
+            AppartenenzaFiltroDto filtro,
+            @RequestParam(defaultValue = "0") int afterId,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            if (afterId >= 0 && limit >= 0 && limit <= LIMITE_MASSIMO_PAGINA) {
+                AppartenenzaPaginaDto pagina = dipendenteService.getDipendentiByAppartenenza(filtro, afterId, limit);
+                if (pagina != null) {
+                    return ResponseEntity.ok(pagina);
+                }
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint per la ricerca multi-criterio dei dipendenti: combina dipartimenti, ruoli, intervalli di stipendio,
+     * data di assunzione e data di nascita e l'ordinamento in un'unica query paginata.
+     * I parametri {@code dipartimento} e {@code ruolo} possono essere ripetuti.
+     *
+     * @param filtro i filtri e l'ordinamento, letti dai parametri della richiesta
+     * @param page il numero della pagina, a partire da 0
+     * @param size il numero massimo di dipendenti della pagina (da 1 a {@value #LIMITE_MASSIMO_PAGINA})
+     * @return un {@link DipendenteFiltroPaginaDto} o una risposta 400 Bad Request in caso di parametri non validi
+     */
+    @GetMapping("/search/filter")
+    public ResponseEntity<DipendenteFiltroPaginaDto> getDipendentiByFiltro(
+            DipendenteFiltroDto filtro,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            if (page >= 0 && size > 0 && size <= LIMITE_MASSIMO_PAGINA) {
+                DipendenteFiltroPaginaDto pagina = dipendenteService.getDipendentiByFiltro(filtro, page, size);
+                if (pagina != null) {
+                    return ResponseEntity.ok(pagina);
+                }
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint per la ricerca full-text dei dipendenti per nome, cognome, dipartimento e ruoli.
+     * La ricerca tollera errori di battitura, ignora maiuscole, minuscole e accenti
+     * e restituisce i risultati ordinati per rilevanza.
+     *
+     * @param q il testo da cercare
+     * @param page il numero della pagina, a partire da 0
+     * @param size il numero massimo di risultati della pagina (da 1 a {@value #LIMITE_MASSIMO_RICERCA})
+     * @return un {@link RicercaPaginaDto} o una risposta 400 Bad Request in caso di parametri non validi
+     */
+    @GetMapping("/search")
+    public ResponseEntity<RicercaPaginaDto> getDipendentiByTesto(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (q != null && !q.isBlank() && page >= 0 && size > 0 && size <= LIMITE_MASSIMO_RICERCA) {
+                RicercaPaginaDto risultati = dipendenteService.getDipendentiByTesto(q, page, size);
+                if (risultati != null) {
+                    return ResponseEntity.ok(risultati);
+                }
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint per l'autocompletamento: restituisce i dipendenti il cui nome, cognome, "nome cognome"
+     * o "cognome nome" inizia con il testo digitato, senza distinzione tra maiuscole, minuscole e accenti.
+     * La ricerca usa un indice in memoria e non interroga il database.
+     *
+     * @param q il testo digitato
+     * @param limit il numero massimo di suggerimenti (da 1 a {@value #LIMITE_MASSIMO_SUGGERIMENTI})
+     * @return una lista di {@link DipendenteSuggerimentoDto} o una risposta 400 Bad Request in caso di parametri non validi
+     */
+    @GetMapping("/search/prefix")
+    public ResponseEntity<List<DipendenteSuggerimentoDto>> getDipendentiByPrefisso(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            if (q != null && !q.isBlank() && limit > 0 && limit <= LIMITE_MASSIMO_SUGGERIMENTI) {
+                return ResponseEntity.ok(dipendenteService.getDipendentiByPrefisso(q, limit));
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint per ottenere numero di dipendenti, somma, media, minimo e massimo degli stipendi per dipartimento.
+     * L'aggregazione è eseguita dal database.
+     *
+     * @return una lista di {@link StatisticheGruppoDto} o una risposta 400 Bad Request in caso di errore
+     */
+    @GetMapping("/stats/dipartimento")
+    public ResponseEntity<List<StatisticheGruppoDto>> getStatisticheByDipartimento() {
+        List<StatisticheGruppoDto> statistiche = dipendenteService.getStatisticheByDipartimento();
+        if (statistiche != null) {
+            return ResponseEntity.ok(statistiche);
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * Endpoint per ottenere numero di dipendenti, somma, media, minimo e massimo degli stipendi per ruolo.
+     * L'aggregazione è eseguita dal database.
+     *
+     * @return una lista di {@link StatisticheGruppoDto} o una risposta 400 Bad Request in caso di errore
+     */
+    @GetMapping("/stats/ruolo")
+    public ResponseEntity<List<StatisticheGruppoDto>> getStatisticheByRuolo() {
+        List<StatisticheGruppoDto> statistiche = dipendenteService.getStatisticheByRuolo();
+        if (statistiche != null) {
+            return ResponseEntity.ok(statistiche);
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * Endpoint per ottenere gli {@code n} dipendenti con lo stipendio più alto di ciascun dipartimento.
+     *
+     * @param n il numero di dipendenti per dipartimento (da 1 a {@value #LIMITE_MASSIMO_CLASSIFICA})
+     * @return una lista di {@link StipendioClassificaDto} o una risposta 400 Bad Request in caso di parametri non validi
+     */
+    @GetMapping("/stats/top")
+    public ResponseEntity<List<StipendioClassificaDto>> getClassificaStipendi(@RequestParam(defaultValue = "3") int n) {
+        try {
+            if (n > 0 && n <= LIMITE_MASSIMO_CLASSIFICA) {
+                List<StipendioClassificaDto> classifica = dipendenteService.getClassificaStipendi(n);
+                if (classifica != null) {
+                    return ResponseEntity.ok(classifica);
+                }
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Endpoint per cercare dipendenti tramite nome.
      * Normalizza il nome rimuovendo gli spazi e capitalizzando correttamente.
@@ -100,8 +485,7 @@ public class DipendenteController {
     public ResponseEntity<List<DipendenteDto>> getDipendenteByNome(@RequestParam(required = false) String nome) {
         try {
             if (nome != null && !nome.isEmpty()) {
-                String nomeSenzaSpazi = nome.replaceAll("\\s+", "");
-                String nomeConvertito = nomeSenzaSpazi.substring(0, 1).toUpperCase() + nomeSenzaSpazi.substring(1).toLowerCase();
+                String nomeConvertito = ValidazioneInput.normalizzaNome(nome);
                 List<DipendenteDto> dipendentiDto = dipendenteService.getDipendentiByNome(nomeConvertito);
                 return ResponseEntity.ok(dipendentiDto);
             }
@@ -184,4 +568,28 @@ public class DipendenteController {
         }
     }
 
+    /**
+     * Endpoint per eliminare più dipendenti tramite una lista di ID inviata nel corpo della richiesta.
+     * I dipendenti vengono eliminati in un'unica transazione, senza caricarli, con due istruzioni DELETE
+     * indipendentemente dal numero di ID; gli ID inesistenti vengono ignorati.
+     *
+     * @param ids gli ID dei dipendenti da eliminare (al massimo {@code gestionale.batch.max-size})
+     * @return il numero di dipendenti eliminati o una risposta 400 Bad Request se la lista è vuota, troppo lunga o contiene ID non validi
+     */
+    @DeleteMapping("/delete/batch")
+    public ResponseEntity<Integer> deleteDipendentiByIds(@RequestBody List<Integer> ids) {
+        try {
+            if (ids != null && !ids.isEmpty() && ids.size() <= batchMaxSize
+                    && ids.stream().allMatch(id -> id != null && id > 0)) {
+                int eliminati = dipendenteService.deleteDipendentiByIds(ids);
+                if (eliminati >= 0) {
+                    return ResponseEntity.ok(eliminati);
+                }
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
 }
@@ -0,0 +1,73 @@
+package it.corso.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.corso.dto.RiassegnazioneRuoloDto;
+import it.corso.dto.TrasferimentoDipartimentoDto;
+import it.corso.service.RiorganizzazioneService;
+
+/**
+ * La classe {@code RiorganizzazioneController} gestisce le richieste HTTP delle riorganizzazioni massive
+ * dei dipendenti: trasferimenti tra dipartimenti e assegnazione o rimozione di ruoli.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@RestController
+@RequestMapping("/api/riorganizzazione")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RiorganizzazioneController {
+
+    @Autowired
+    private RiorganizzazioneService riorganizzazioneService;
+
+    /**
+     * Endpoint per spostare i dipendenti di un dipartimento, o solo quelli con un ruolo, in un altro dipartimento.
+     *
+     * @param trasferimentoDto i dipartimenti di partenza e di arrivo e il filtro facoltativo sul ruolo
+     * @return una risposta 200 OK con il numero di dipendenti spostati, o 400 Bad Request se la richiesta non è valida
+     */
+    @PostMapping("/trasferimento")
+    public ResponseEntity<Integer> trasferisciDipartimento(@RequestBody TrasferimentoDipartimentoDto trasferimentoDto) {
+        return esito(riorganizzazioneService.trasferisciDipartimento(trasferimentoDto));
+    }
+
+    /**
+     * Endpoint per assegnare un ruolo ai dipendenti di un dipartimento e/o con un altro ruolo.
+     *
+     * @param riassegnazioneDto il ruolo e i filtri facoltativi su dipartimento e ruolo
+     * @return una risposta 200 OK con il numero di ruoli assegnati, o 400 Bad Request se la richiesta non è valida
+     */
+    @PostMapping("/ruolo/aggiunta")
+    public ResponseEntity<Integer> aggiungiRuolo(@RequestBody RiassegnazioneRuoloDto riassegnazioneDto) {
+        return esito(riorganizzazioneService.aggiungiRuolo(riassegnazioneDto));
+    }
+
+    /**
+     * Endpoint per rimuovere un ruolo ai dipendenti di un dipartimento e/o con un altro ruolo.
+     * Il ruolo non viene rimosso ai dipendenti per cui è l'unico ruolo.
+     *
+     * @param riassegnazioneDto il ruolo e i filtri facoltativi su dipartimento e ruolo
+     * @return una risposta 200 OK con il numero di ruoli rimossi, o 400 Bad Request se la richiesta non è valida
+     */
+    @PostMapping("/ruolo/rimozione")
+    public ResponseEntity<Integer> rimuoviRuolo(@RequestBody RiassegnazioneRuoloDto riassegnazioneDto) {
+        return esito(riorganizzazioneService.rimuoviRuolo(riassegnazioneDto));
+    }
+
+    private ResponseEntity<Integer> esito(int risultato) {
+        if (risultato < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(risultato);
+    }
+
+}
@@ -0,0 +1,96 @@
+package it.corso.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.corso.dto.AdeguamentoStipendiDto;
+import it.corso.dto.AdeguamentoStipendiEsitoDto;
+import it.corso.service.StipendiService;
+
+/**
+ * La classe {@code StipendiController} gestisce le richieste HTTP degli adeguamenti massivi degli stipendi.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@RestController
+@RequestMapping("/api/stipendi")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StipendiController {
+
+    /**
+     * Numero massimo di regole di un adeguamento.
+     */
+    private static final int LIMITE_MASSIMO_REGOLE = 50;
+
+    @Autowired
+    private StipendiService stipendiService;
+
+    /**
+     * Endpoint per adeguare gli stipendi in base a regole in percentuale o a importo fisso, filtrate per
+     * dipartimento, ruolo e anni di anzianità. Con {@code dryRun} viene restituita l'anteprima del numero
+     * di dipendenti e della variazione di ciascuna regola; altrimenti l'adeguamento viene avviato in background
+     * e il suo avanzamento può essere letto con {@code /adeguamento/{id}}.
+     *
+     * @param richiesta le regole dell'adeguamento (al massimo {@value #LIMITE_MASSIMO_REGOLE})
+     * @return una risposta 200 OK con l'anteprima, 202 Accepted con lo stato dell'adeguamento avviato,
+     *         o 400 Bad Request se le regole non sono valide
+     */
+    @PostMapping("/adeguamento")
+    public ResponseEntity<AdeguamentoStipendiEsitoDto> avviaAdeguamento(@RequestBody AdeguamentoStipendiDto richiesta) {
+        try {
+            if (richiesta.getRegole() != null && !richiesta.getRegole().isEmpty()
+                    && richiesta.getRegole().size() <= LIMITE_MASSIMO_REGOLE && !richiesta.getRegole().contains(null)) {
+                AdeguamentoStipendiEsitoDto esito = stipendiService.avviaAdeguamento(richiesta);
+                if (esito != null) {
+                    return ResponseEntity.status(esito.isDryRun() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(esito);
+                }
+            }
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint per riprendere un adeguamento degli stipendi interrotto da un errore o da un arresto dell'applicazione.
+     * I blocchi già completati non vengono eseguiti di nuovo; un adeguamento completato viene restituito senza modifiche.
+     *
+     * @param id l'identificativo restituito all'avvio dell'adeguamento
+     * @return una risposta 202 Accepted con lo stato dell'adeguamento, o 404 Not Found se non esiste
+     */
+    @PostMapping("/adeguamento/{id}/ripresa")
+    public ResponseEntity<AdeguamentoStipendiEsitoDto> riprendiAdeguamento(@PathVariable String id) {
+        AdeguamentoStipendiEsitoDto esito = stipendiService.riprendiAdeguamento(id);
+        if (esito != null) {
+            return ResponseEntity.accepted().body(esito);
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Endpoint per leggere l'avanzamento di un adeguamento degli stipendi.
+     *
+     * @param id l'identificativo restituito all'avvio dell'adeguamento
+     * @return una risposta 200 OK con lo stato dell'adeguamento, o 404 Not Found se non esiste
+     */
+    @GetMapping("/adeguamento/{id}")
+    public ResponseEntity<AdeguamentoStipendiEsitoDto> getAdeguamento(@PathVariable String id) {
+        AdeguamentoStipendiEsitoDto esito = stipendiService.getAdeguamento(id);
+        if (esito != null) {
+            return ResponseEntity.ok(esito);
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+}
@@ -0,0 +1,55 @@
+package it.corso.controller;
+
+import java.util.regex.Pattern;
+
+/**
+ * La classe {@code ValidazioneInput} raccoglie i controlli e le normalizzazioni applicati dai controller
+ * ai parametri ricevuti, con le espressioni regolari compilate una sola volta.
+ *
+ * <ul>
+ * <li>{@link #isRuoloValido(String)}: Verifica il formato del nome di un ruolo in fase di registrazione.</li>
+ * <li>{@link #normalizzaNome(String)}: Normalizza il nome di un dipendente da cercare.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public final class ValidazioneInput {
+
+    /**
+     * Formato ammesso per i nomi dei ruoli in fase di registrazione.
+     */
+    private static final Pattern PATTERN_RUOLO = Pattern.compile("^[A-Z][a-zA-Z]*(\\s[A-Z][a-zA-Z]*)*$");
+
+    private static final Pattern PATTERN_SPAZI = Pattern.compile("\\s+");
+
+    private ValidazioneInput() {
+    }
+
+    /**
+     * Verifica che il nome di un ruolo sia composto da parole separate da un solo spazio,
+     * ciascuna con l'iniziale maiuscola e solo lettere.
+     *
+     * @param ruolo il nome del ruolo
+     * @return {@code true} se il nome non è {@code null} e ha il formato ammesso
+     */
+    public static boolean isRuoloValido(String ruolo) {
+        return ruolo != null && PATTERN_RUOLO.matcher(ruolo).matches();
+    }
+
+    /**
+     * Normalizza il nome di un dipendente rimuovendo gli spazi e capitalizzando correttamente
+     * (prima lettera maiuscola, le altre minuscole).
+     *
+     * @param nome il nome da normalizzare, non vuoto
+     * @return il nome normalizzato
+     * @throws StringIndexOutOfBoundsException se il nome contiene solo spazi
+     */
+    public static String normalizzaNome(String nome) {
+        String nomeSenzaSpazi = PATTERN_SPAZI.matcher(nome).replaceAll("");
+        return nomeSenzaSpazi.substring(0, 1).toUpperCase() + nomeSenzaSpazi.substring(1).toLowerCase();
+    }
+
+}
@@ -0,0 +1,41 @@
+package it.corso.dao;
+
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import it.corso.model.AdeguamentoStipendi;
+import jakarta.persistence.LockModeType;
+
+/**
+ * L'interfaccia {@code AdeguamentoStipendiDao} estende {@link CrudRepository} per fornire metodi CRUD per l'entità
+ * {@link AdeguamentoStipendi}.
+ *
+ * <ul>
+ * <li>{@link #findByIdPerAggiornamento(String)}: Restituisce un adeguamento bloccandone la riga fino al termine della transazione.</li>
+ * </ul>
+ *
+ * @see CrudRepository
+ * @see AdeguamentoStipendi
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface AdeguamentoStipendiDao extends CrudRepository<AdeguamentoStipendi, String> {
+
+    /**
+     * Restituisce un adeguamento con un lock in scrittura sulla sua riga ({@code SELECT ... FOR UPDATE}),
+     * mantenuto fino al termine della transazione: due esecuzioni dello stesso adeguamento non possono
+     * confermare lo stesso blocco.
+     *
+     * @param id l'identificativo dell'adeguamento
+     * @return l'adeguamento, o {@code null} se non esiste
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AdeguamentoStipendi a WHERE a.id = :id")
+    AdeguamentoStipendi findByIdPerAggiornamento(@Param("id") String id);
+
+}
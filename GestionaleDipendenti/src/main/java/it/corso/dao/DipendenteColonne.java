@@ -0,0 +1,28 @@
+package it.corso.dao;
+
+import java.time.LocalDate;
+
+import it.corso.model.NomeDipartimento;
+
+/**
+ * L'interfaccia {@code DipendenteColonne} è una proiezione di {@link it.corso.model.Dipendente}
+ * con i campi usati dalle analisi aggregate, letti senza idratare le entità.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface DipendenteColonne {
+
+    int getId();
+
+    double getStipendio();
+
+    LocalDate getDataNascita();
+
+    LocalDate getDataAssunzione();
+
+    NomeDipartimento getDipartimento();
+
+}
@@ -1,23 +1,62 @@
 package it.corso.dao;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import it.corso.dto.StatisticheGruppoDto;
 import it.corso.model.Dipartimento;
 import it.corso.model.Dipendente;
 import it.corso.model.NomeRuolo;
 
 /**
- * L'interfaccia {@code DipendenteDao} estende {@link CrudRepository} per fornire metodi CRUD per l'entità {@link Dipendente}.
+ * L'interfaccia {@code DipendenteDao} estende {@link CrudRepository} per fornire metodi CRUD per l'entità {@link Dipendente}
+ * e {@link JpaSpecificationExecutor} per le ricerche che combinano più filtri, definiti in {@link DipendenteSpecifications}.
  * Oltre alle operazioni CRUD di base, definisce metodi per cercare dipendenti tramite il nome, dipartimento, 
  * e ruoli associati.
  * 
+ * Ogni query dichiara l'entity graph di {@link Dipendente} che corrisponde ai dati richiesti dal DTO
+ * restituito dal servizio, così che il numero di istruzioni SQL eseguite sia noto e limitato.
+ * 
  * <ul>
  * <li>{@link #findByNome(String)}: Restituisce una lista di dipendenti cercando in base al nome.</li>
  * <li>{@link #findByDipartimento(Dipartimento)}: Restituisce una lista di dipendenti associati a un dipartimento specifico.</li>
  * <li>{@link #findByRuolo(NomeRuolo)}: Restituisce una lista di dipendenti associati a un ruolo specifico.</li>
+ * <li>{@link #findByIdIn(Collection)}: Restituisce i dipendenti con gli ID indicati.</li>
+ * <li>{@link #findAll(Specification, Pageable)}: Restituisce una pagina di dipendenti che soddisfano i filtri indicati.</li>
+ * <li>{@link #findAllProjectedBy()}: Restituisce ID, nome e cognome di tutti i dipendenti.</li>
+ * <li>{@link #streamColonne()}: Scorre i campi usati dalle analisi di tutti i dipendenti.</li>
+ * <li>{@link #streamRuoli()}: Scorre le coppie dipendente-ruolo.</li>
+ * <li>{@link #statisticheByDipartimento()}: Calcola le statistiche retributive per dipartimento.</li>
+ * <li>{@link #statisticheByRuolo()}: Calcola le statistiche retributive per ruolo.</li>
+ * <li>{@link #classificaStipendi(int)}: Restituisce i dipendenti più pagati di ciascun dipartimento.</li>
+ * <li>{@link #findPageOrderById(int, Pageable)}: Restituisce una pagina di dipendenti ordinata per ID (keyset).</li>
+ * <li>{@link #findPageOrderByCognome(String, int, Pageable)}: Restituisce una pagina di dipendenti ordinata per cognome (keyset).</li>
+ * <li>{@link #deleteByIdIn(Collection)}: Elimina i dipendenti con gli ID indicati senza caricarli.</li>
+ * <li>{@link #findMaxId()}: Restituisce l'ID più alto dei dipendenti.</li>
+ * <li>{@link #adeguaStipendi(double, double, int, int, Integer, Integer, LocalDate)}: Adegua gli stipendi dei dipendenti di un intervallo di ID.</li>
+ * <li>{@link #streamIdsDaTrasferire(int, Integer)}: Blocca e scorre gli ID dei dipendenti da trasferire.</li>
+ * <li>{@link #streamIdsSenzaRuolo(int, Integer, Integer)}: Blocca e scorre gli ID dei dipendenti a cui assegnare un ruolo.</li>
+ * <li>{@link #streamIdsConRuoloRimovibile(int, Integer, Integer)}: Blocca e scorre gli ID dei dipendenti a cui rimuovere un ruolo.</li>
+ * <li>{@link #trasferisciDipartimento(int, int, Integer)}: Sposta i dipendenti da un dipartimento a un altro.</li>
+ * <li>{@link #aggiungiRuolo(int, Integer, Integer)}: Assegna un ruolo ai dipendenti che non lo possiedono.</li>
+ * <li>{@link #rimuoviRuolo(int, Integer, Integer)}: Rimuove un ruolo ai dipendenti che ne possiedono almeno un altro.</li>
  * </ul>
  * 
  * @see CrudRepository
@@ -30,7 +69,123 @@ import it.corso.model.NomeRuolo;
  * @author Alessia Boasi
  * 
  */
-public interface DipendenteDao extends CrudRepository<Dipendente, Integer> {
+public interface DipendenteDao extends CrudRepository<Dipendente, Integer>, JpaSpecificationExecutor<Dipendente> {
+
+    /**
+     * Cerca un dipendente in base al suo ID, caricando dipartimento e ruoli con una sola query.
+     * 
+     * @param id l'ID del dipendente
+     * @return il dipendente trovato, o un {@link Optional} vuoto
+     */
+    @Override
+    @EntityGraph("Dipendente.completo")
+    Optional<Dipendente> findById(Integer id);
+
+    /**
+     * Restituisce tutti i dipendenti, caricando dipartimento e ruoli con una sola query.
+     * Per scorrere l'intera tabella usare le query paginate.
+     * 
+     * @return tutti i dipendenti
+     */
+    @Override
+    @EntityGraph("Dipendente.completo")
+    Iterable<Dipendente> findAll();
+
+    /**
+     * Cerca i dipendenti con gli ID indicati, caricando dipartimento e ruoli con una sola query.
+     * L'ordine dei risultati non è garantito e gli ID inesistenti vengono ignorati.
+     * 
+     * @param ids gli ID dei dipendenti
+     * @return una lista dei dipendenti trovati
+     */
+    @EntityGraph("Dipendente.completo")
+    List<Dipendente> findByIdIn(Collection<Integer> ids);
+
+    /**
+     * Restituisce una pagina dei dipendenti che soddisfano la specifica, caricando il dipartimento con la stessa query.
+     * I ruoli vengono caricati a blocchi al primo accesso. Oltre alla query della pagina viene eseguita
+     * la query di conteggio dei risultati.
+     * 
+     * @param spec la combinazione dei filtri, può essere {@code null}
+     * @param pageable la pagina e l'ordinamento richiesti
+     * @return la pagina dei dipendenti
+     */
+    @Override
+    @EntityGraph("Dipendente.dipartimento")
+    Page<Dipendente> findAll(Specification<Dipendente> spec, Pageable pageable);
+
+    /**
+     * Restituisce ID, nome e cognome di tutti i dipendenti, leggendo solo le rispettive colonne.
+     * 
+     * @return una lista di {@link DipendenteNominativo}
+     */
+    List<DipendenteNominativo> findAllProjectedBy();
+
+    /**
+     * Scorre stipendio, date e dipartimento di tutti i dipendenti, senza idratare le entità.
+     * Lo stream deve essere consumato e chiuso all'interno di una transazione.
+     * Le righe vengono lette a blocchi di 1000 tramite un cursore lato server, abilitato su MySQL
+     * da {@code useCursorFetch=true} nell'URL della connessione: senza, Connector/J ignora la dimensione
+     * del blocco e carica in memoria l'intero risultato.
+     * 
+     * @return uno stream di {@link DipendenteColonne}
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT d.id AS id, d.stipendio AS stipendio, d.dataNascita AS dataNascita, "
+            + "d.dataAssunzione AS dataAssunzione, dip.nome AS dipartimento "
+            + "FROM Dipendente d LEFT JOIN d.dipartimento dip")
+    Stream<DipendenteColonne> streamColonne();
+
+    /**
+     * Scorre tutte le coppie dipendente-ruolo della tabella di raccordo.
+     * Lo stream deve essere consumato e chiuso all'interno di una transazione.
+     * Le righe vengono lette a blocchi di 1000 tramite un cursore lato server, abilitato su MySQL
+     * da {@code useCursorFetch=true} nell'URL della connessione: senza, Connector/J ignora la dimensione
+     * del blocco e carica in memoria l'intero risultato.
+     * 
+     * @return uno stream di {@link DipendenteRuoloColonne}
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT d.id AS idDipendente, r.nome AS ruolo FROM Dipendente d JOIN d.ruoli r")
+    Stream<DipendenteRuoloColonne> streamRuoli();
+
+    /**
+     * Calcola numero di dipendenti, somma, media, minimo e massimo degli stipendi per ciascun dipartimento.
+     * L'aggregazione è eseguita dal database e restituisce una riga per dipartimento, senza idratare entità.
+     * 
+     * @return le statistiche di ciascun dipartimento con almeno un dipendente
+     */
+    @Query("SELECT new it.corso.dto.StatisticheGruppoDto(CAST(dip.nome AS String), COUNT(d), SUM(d.stipendio), "
+            + "AVG(d.stipendio), MIN(d.stipendio), MAX(d.stipendio)) "
+            + "FROM Dipendente d JOIN d.dipartimento dip GROUP BY dip.nome ORDER BY dip.nome")
+    List<StatisticheGruppoDto> statisticheByDipartimento();
+
+    /**
+     * Calcola numero di dipendenti, somma, media, minimo e massimo degli stipendi per ciascun ruolo.
+     * Un dipendente con più ruoli viene contato in ciascuno di essi.
+     * 
+     * @return le statistiche di ciascun ruolo con almeno un dipendente
+     */
+    @Query("SELECT new it.corso.dto.StatisticheGruppoDto(CAST(r.nome AS String), COUNT(d), SUM(d.stipendio), "
+            + "AVG(d.stipendio), MIN(d.stipendio), MAX(d.stipendio)) "
+            + "FROM Dipendente d JOIN d.ruoli r GROUP BY r.nome ORDER BY r.nome")
+    List<StatisticheGruppoDto> statisticheByRuolo();
+
+    /**
+     * Restituisce, per ciascun dipartimento, gli {@code n} dipendenti con lo stipendio più alto.
+     * La classifica è calcolata dal database con {@code ROW_NUMBER()} partizionato per dipartimento;
+     * a parità di stipendio precede il dipendente con ID minore.
+     * 
+     * @param n il numero di dipendenti per dipartimento
+     * @return le righe della classifica, ordinate per dipartimento e posizione
+     */
+    @Query(nativeQuery = true, value = "SELECT t.dipartimento AS dipartimento, t.posizione AS posizione, t.id AS id, "
+            + "t.nome AS nome, t.cognome AS cognome, t.stipendio AS stipendio FROM ("
+            + "SELECT dip.nome AS dipartimento, d.id, d.nome, d.cognome, d.stipendio, "
+            + "ROW_NUMBER() OVER (PARTITION BY d.id_dipartimento ORDER BY d.stipendio DESC, d.id) AS posizione "
+            + "FROM dipendente d JOIN dipartimento dip ON dip.id = d.id_dipartimento) t "
+            + "WHERE t.posizione <= :n ORDER BY t.dipartimento, t.posizione")
+    List<StipendioClassifica> classificaStipendi(@Param("n") int n);
 
     /**
      * Cerca i dipendenti in base al nome fornito.
@@ -38,23 +193,228 @@ public interface DipendenteDao extends CrudRepository<Dipendente, Integer> {
      * @param nome il nome del dipendente
      * @return una lista di dipendenti con il nome specificato
      */
+    @EntityGraph("Dipendente.completo")
     List<Dipendente> findByNome(String nome);
 
     /**
      * Cerca i dipendenti in base al dipartimento associato.
+     * Il risultato può essere memorizzato nella cache delle query, se attiva.
      * 
      * @param dipartimento l'istanza del dipartimento
      * @return una lista di dipendenti appartenenti al dipartimento specificato
      */
+    @EntityGraph("Dipendente.ruoli")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Dipendente> findByDipartimento(Dipartimento dipartimento);
 
     /**
      * Cerca i dipendenti in base al ruolo associato, utilizzando una query personalizzata.
+     * Il risultato può essere memorizzato nella cache delle query, se attiva.
      * 
      * @param ruolo il ruolo da cercare, rappresentato dall'enum {@link NomeRuolo}
      * @return una lista di dipendenti con il ruolo specificato
      */
+    @EntityGraph("Dipendente.dipartimento")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT d FROM Dipendente d JOIN d.ruoli r WHERE r.nome = :ruolo")
     List<Dipendente> findByRuolo(@Param("ruolo") NomeRuolo ruolo);
 
+    /**
+     * Restituisce la pagina successiva di dipendenti ordinati per ID, partendo dall'ID indicato (paginazione keyset).
+     * La dimensione della pagina è data da {@link Pageable#getPageSize()}, che deve avere pagina 0:
+     * l'avanzamento avviene tramite {@code afterId} e non tramite offset.
+     * Il dipartimento viene caricato con la stessa query, i ruoli con una seconda query per l'intera pagina.
+     * 
+     * @param afterId l'ID dell'ultimo dipendente della pagina precedente ({@code 0} per la prima pagina)
+     * @param pageable la dimensione della pagina
+     * @return una lista di dipendenti con ID maggiore di {@code afterId}, ordinata per ID
+     */
+    @EntityGraph("Dipendente.dipartimento")
+    @Query("SELECT d FROM Dipendente d WHERE d.id > :afterId ORDER BY d.id")
+    List<Dipendente> findPageOrderById(@Param("afterId") int afterId, Pageable pageable);
+
+    /**
+     * Restituisce la pagina successiva di dipendenti ordinati per cognome e ID (paginazione keyset).
+     * La coppia ({@code cognome}, {@code afterId}) identifica l'ultimo dipendente della pagina precedente.
+     * 
+     * @param cognome il cognome dell'ultimo dipendente della pagina precedente (stringa vuota per la prima pagina)
+     * @param afterId l'ID dell'ultimo dipendente della pagina precedente ({@code 0} per la prima pagina)
+     * @param pageable la dimensione della pagina
+     * @return una lista di dipendenti successivi alla posizione indicata, ordinata per cognome e ID
+     */
+    @EntityGraph("Dipendente.dipartimento")
+    @Query("SELECT d FROM Dipendente d WHERE d.cognome > :cognome OR (d.cognome = :cognome AND d.id > :afterId) ORDER BY d.cognome, d.id")
+    List<Dipendente> findPageOrderByCognome(@Param("cognome") String cognome, @Param("afterId") int afterId, Pageable pageable);
+
+    /**
+     * Elimina i dipendenti con gli ID indicati con un'istruzione DELETE eseguita dal database, senza caricare
+     * le entità. Hibernate elimina prima, con una sola istruzione, le righe della tabella di raccordo
+     * {@code dipendente_ruolo} dei dipendenti eliminati, e invalida le regioni della cache di secondo livello
+     * delle tabelle coinvolte.
+     * 
+     * L'istruzione non passa dal contesto di persistenza: l'indice di ricerca full-text e gli indici
+     * in memoria devono essere aggiornati dal chiamante.
+     *
+     * @param ids gli ID dei dipendenti da eliminare
+     * @return il numero di dipendenti eliminati
+     */
+    @Modifying
+    @Query("DELETE FROM Dipendente d WHERE d.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Restituisce l'ID più alto dei dipendenti, usato per suddividere le operazioni massive in intervalli di ID.
+     *
+     * @return l'ID più alto, o {@code 0} se non ci sono dipendenti
+     */
+    @Query("SELECT COALESCE(MAX(d.id), 0) FROM Dipendente d")
+    int findMaxId();
+
+    /**
+     * Adegua con un'unica istruzione UPDATE lo stipendio dei dipendenti dell'intervallo di ID indicato
+     * che soddisfano i filtri, calcolando il nuovo stipendio come {@code stipendio * fattore + importo}, non inferiore a zero.
+     * Il filtro sul ruolo è una subquery {@code EXISTS} sulla sola tabella di raccordo, ammessa da MySQL
+     * anche nelle UPDATE sulla tabella {@code dipendente}.
+     *
+     * L'istruzione è nativa perché Hibernate, traducendo l'espressione aritmetica con parametri della SET,
+     * aggiunge conversioni di tipo non supportate da tutti i database. Lo spazio {@code dipendente} dichiarato
+     * nei suggerimenti limita l'invalidazione della cache di secondo livello alla regione dei dipendenti;
+     * gli indici in memoria devono essere aggiornati dal chiamante.
+     *
+     * @param fattore il fattore moltiplicativo dello stipendio
+     * @param importo l'importo da sommare allo stipendio
+     * @param da il primo ID dell'intervallo, incluso
+     * @param a l'ultimo ID dell'intervallo, incluso
+     * @param idDipartimento l'ID del dipartimento, o {@code null} per non filtrare
+     * @param idRuolo l'ID del ruolo, o {@code null} per non filtrare
+     * @param assuntoEntro l'ultima data di assunzione ammessa, o {@code null} per non filtrare
+     * @return il numero di dipendenti aggiornati
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dipendente"))
+    @Query(nativeQuery = true, value = "UPDATE dipendente d SET d.stipendio = GREATEST(d.stipendio * :fattore + :importo, 0) "
+            + "WHERE d.id BETWEEN :da AND :a "
+            + "AND (:idDipartimento IS NULL OR d.id_dipartimento = :idDipartimento) "
+            + "AND (:assuntoEntro IS NULL OR d.data_assunzione <= :assuntoEntro) "
+            + "AND (:idRuolo IS NULL OR EXISTS (SELECT 1 FROM dipendente_ruolo dr WHERE dr.id_dipendente = d.id AND dr.id_ruolo = :idRuolo))")
+    int adeguaStipendi(@Param("fattore") double fattore, @Param("importo") double importo,
+            @Param("da") int da, @Param("a") int a, @Param("idDipartimento") Integer idDipartimento,
+            @Param("idRuolo") Integer idRuolo, @Param("assuntoEntro") LocalDate assuntoEntro);
+
+    /**
+     * Scorre gli ID dei dipendenti che {@link #trasferisciDipartimento(int, int, Integer)} sposterebbe con gli
+     * stessi filtri, bloccandone le righe con {@code FOR UPDATE} fino al termine della transazione.
+     * Lo stream deve essere consumato e chiuso all'interno della transazione dell'istruzione massiva.
+     *
+     * @param idOrigine l'ID del dipartimento di partenza
+     * @param idConRuolo l'ID del ruolo che i dipendenti devono possedere, o {@code null} per non filtrare
+     * @return uno stream degli ID in ordine crescente
+     */
+    @Query(nativeQuery = true, value = "SELECT d.id FROM dipendente d WHERE d.id_dipartimento = :idOrigine "
+            + "AND (:idConRuolo IS NULL OR EXISTS (SELECT 1 FROM dipendente_ruolo dr WHERE dr.id_dipendente = d.id AND dr.id_ruolo = :idConRuolo)) "
+            + "ORDER BY d.id FOR UPDATE")
+    Stream<Integer> streamIdsDaTrasferire(@Param("idOrigine") int idOrigine, @Param("idConRuolo") Integer idConRuolo);
+
+    /**
+     * Scorre gli ID dei dipendenti a cui {@link #aggiungiRuolo(int, Integer, Integer)} assegnerebbe il ruolo con
+     * gli stessi filtri, bloccandone le righe con {@code FOR UPDATE} fino al termine della transazione.
+     * Lo stream deve essere consumato e chiuso all'interno della transazione dell'istruzione massiva.
+     *
+     * @param idRuolo l'ID del ruolo da assegnare
+     * @param idDipartimento l'ID del dipartimento dei dipendenti, o {@code null} per non filtrare
+     * @param idConRuolo l'ID di un ruolo che i dipendenti devono possedere, o {@code null} per non filtrare
+     * @return uno stream degli ID in ordine crescente
+     */
+    @Query(nativeQuery = true, value = "SELECT d.id FROM dipendente d "
+            + "WHERE (:idDipartimento IS NULL OR d.id_dipartimento = :idDipartimento) "
+            + "AND (:idConRuolo IS NULL OR EXISTS (SELECT 1 FROM dipendente_ruolo dc WHERE dc.id_dipendente = d.id AND dc.id_ruolo = :idConRuolo)) "
+            + "AND NOT EXISTS (SELECT 1 FROM dipendente_ruolo dr WHERE dr.id_dipendente = d.id AND dr.id_ruolo = :idRuolo) "
+            + "ORDER BY d.id FOR UPDATE")
+    Stream<Integer> streamIdsSenzaRuolo(@Param("idRuolo") int idRuolo, @Param("idDipartimento") Integer idDipartimento,
+            @Param("idConRuolo") Integer idConRuolo);
+
+    /**
+     * Scorre gli ID dei dipendenti a cui {@link #rimuoviRuolo(int, Integer, Integer)} rimuoverebbe il ruolo con
+     * gli stessi filtri, bloccandone le righe con {@code FOR UPDATE} fino al termine della transazione.
+     * Lo stream deve essere consumato e chiuso all'interno della transazione dell'istruzione massiva.
+     *
+     * @param idRuolo l'ID del ruolo da rimuovere
+     * @param idDipartimento l'ID del dipartimento dei dipendenti, o {@code null} per non filtrare
+     * @param idConRuolo l'ID di un altro ruolo che i dipendenti devono possedere, o {@code null} per non filtrare
+     * @return uno stream degli ID in ordine crescente
+     */
+    @Query(nativeQuery = true, value = "SELECT d.id FROM dipendente d "
+            + "WHERE (:idDipartimento IS NULL OR d.id_dipartimento = :idDipartimento) "
+            + "AND EXISTS (SELECT 1 FROM dipendente_ruolo dr WHERE dr.id_dipendente = d.id AND dr.id_ruolo = :idRuolo) "
+            + "AND EXISTS (SELECT 1 FROM dipendente_ruolo dc WHERE dc.id_dipendente = d.id AND dc.id_ruolo <> :idRuolo "
+            + "AND (:idConRuolo IS NULL OR dc.id_ruolo = :idConRuolo)) "
+            + "ORDER BY d.id FOR UPDATE")
+    Stream<Integer> streamIdsConRuoloRimovibile(@Param("idRuolo") int idRuolo, @Param("idDipartimento") Integer idDipartimento,
+            @Param("idConRuolo") Integer idConRuolo);
+
+    /**
+     * Sposta con un'unica istruzione UPDATE i dipendenti di un dipartimento in un altro dipartimento,
+     * eventualmente solo quelli con il ruolo indicato.
+     *
+     * Come per le altre istruzioni native, lo spazio dichiarato nei suggerimenti limita l'invalidazione
+     * della cache di secondo livello alla regione dei dipendenti.
+     *
+     * @param idOrigine l'ID del dipartimento di partenza
+     * @param idDestinazione l'ID del dipartimento di arrivo
+     * @param idConRuolo l'ID del ruolo che i dipendenti devono possedere, o {@code null} per non filtrare
+     * @return il numero di dipendenti spostati
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dipendente"))
+    @Query(nativeQuery = true, value = "UPDATE dipendente d SET d.id_dipartimento = :idDestinazione "
+            + "WHERE d.id_dipartimento = :idOrigine "
+            + "AND (:idConRuolo IS NULL OR EXISTS (SELECT 1 FROM dipendente_ruolo dr WHERE dr.id_dipendente = d.id AND dr.id_ruolo = :idConRuolo))")
+    int trasferisciDipartimento(@Param("idOrigine") int idOrigine, @Param("idDestinazione") int idDestinazione,
+            @Param("idConRuolo") Integer idConRuolo);
+
+    /**
+     * Assegna un ruolo, con un'unica istruzione INSERT ... SELECT, ai dipendenti che soddisfano i filtri
+     * e non lo possiedono già.
+     *
+     * Lo spazio dichiarato nei suggerimenti è {@code ruolo} e non {@code dipendente_ruolo}: Hibernate invalida
+     * le regioni delle collezioni solo attraverso lo spazio dell'entità che ne costituisce gli elementi, quindi
+     * la tabella di associazione da sola non invaliderebbe i ruoli dei dipendenti nella cache di secondo livello.
+     * Viene invalidata anche la regione dei ruoli, che contiene poche righe.
+     *
+     * @param idRuolo l'ID del ruolo da assegnare
+     * @param idDipartimento l'ID del dipartimento dei dipendenti, o {@code null} per non filtrare
+     * @param idConRuolo l'ID di un ruolo che i dipendenti devono possedere, o {@code null} per non filtrare
+     * @return il numero di ruoli assegnati
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ruolo"))
+    @Query(nativeQuery = true, value = "INSERT INTO dipendente_ruolo (id_dipendente, id_ruolo) "
+            + "SELECT d.id, r.id FROM dipendente d JOIN ruolo r ON r.id = :idRuolo "
+            + "WHERE (:idDipartimento IS NULL OR d.id_dipartimento = :idDipartimento) "
+            + "AND (:idConRuolo IS NULL OR EXISTS (SELECT 1 FROM dipendente_ruolo dc WHERE dc.id_dipendente = d.id AND dc.id_ruolo = :idConRuolo)) "
+            + "AND NOT EXISTS (SELECT 1 FROM dipendente_ruolo dr WHERE dr.id_dipendente = d.id AND dr.id_ruolo = :idRuolo)")
+    int aggiungiRuolo(@Param("idRuolo") int idRuolo, @Param("idDipartimento") Integer idDipartimento,
+            @Param("idConRuolo") Integer idConRuolo);
+
+    /**
+     * Rimuove un ruolo, con un'unica istruzione DELETE, ai dipendenti che soddisfano i filtri.
+     * I dipendenti per cui il ruolo è l'unico lo mantengono, così che ogni dipendente conservi almeno un ruolo.
+     * I dipendenti che possiedono un altro ruolo sono letti da una tabella derivata con {@code DISTINCT},
+     * che MySQL materializza e che può quindi riferirsi alla stessa tabella della DELETE.
+     * Lo spazio dichiarato nei suggerimenti è {@code ruolo}, come in {@link #aggiungiRuolo(int, Integer, Integer)}.
+     *
+     * @param idRuolo l'ID del ruolo da rimuovere
+     * @param idDipartimento l'ID del dipartimento dei dipendenti, o {@code null} per non filtrare
+     * @param idConRuolo l'ID di un altro ruolo che i dipendenti devono possedere, o {@code null} per non filtrare
+     * @return il numero di ruoli rimossi
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ruolo"))
+    @Query(nativeQuery = true, value = "DELETE FROM dipendente_ruolo WHERE id_ruolo = :idRuolo "
+            + "AND (:idDipartimento IS NULL OR id_dipendente IN (SELECT d.id FROM dipendente d WHERE d.id_dipartimento = :idDipartimento)) "
+            + "AND id_dipendente IN (SELECT t.id_dipendente FROM (SELECT DISTINCT dr.id_dipendente FROM dipendente_ruolo dr "
+            + "WHERE dr.id_ruolo <> :idRuolo AND (:idConRuolo IS NULL OR dr.id_ruolo = :idConRuolo)) t)")
+    int rimuoviRuolo(@Param("idRuolo") int idRuolo, @Param("idDipartimento") Integer idDipartimento,
+            @Param("idConRuolo") Integer idConRuolo);
+
 }
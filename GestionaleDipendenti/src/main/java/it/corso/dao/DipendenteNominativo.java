@@ -0,0 +1,20 @@
+package it.corso.dao;
+
+/**
+ * L'interfaccia {@code DipendenteNominativo} è una proiezione di {@link it.corso.model.Dipendente}
+ * che contiene soltanto l'ID, il nome e il cognome, letti senza caricare le associazioni.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface DipendenteNominativo {
+
+    int getId();
+
+    String getNome();
+
+    String getCognome();
+
+}
@@ -0,0 +1,20 @@
+package it.corso.dao;
+
+import it.corso.model.NomeRuolo;
+
+/**
+ * L'interfaccia {@code DipendenteRuoloColonne} è una proiezione di una riga della tabella di raccordo
+ * {@code dipendente_ruolo}, con l'ID del dipendente e il nome del ruolo.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface DipendenteRuoloColonne {
+
+    int getIdDipendente();
+
+    NomeRuolo getRuolo();
+
+}
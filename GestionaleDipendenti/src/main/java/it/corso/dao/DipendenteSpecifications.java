@@ -0,0 +1,112 @@
+package it.corso.dao;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import it.corso.model.Dipendente;
+import it.corso.model.Ruolo;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * La classe {@code DipendenteSpecifications} raccoglie le {@link Specification} con cui
+ * {@link DipendenteDao#findAll(Specification, org.springframework.data.domain.Pageable)} combina i filtri
+ * della ricerca multi-criterio in un'unica query.
+ *
+ * I filtri su dipartimento e ruoli confrontano direttamente gli ID delle chiavi esterne, così che la query
+ * non debba unire le tabelle {@code dipartimento} e {@code ruolo}. Il filtro sui ruoli è espresso con una
+ * subquery {@code EXISTS} sulla tabella di raccordo, che non duplica i dipendenti con più ruoli corrispondenti.
+ * Ogni metodo restituisce {@code null} quando il filtro non è richiesto: Spring Data ignora le specifiche {@code null}.
+ *
+ * <ul>
+ * <li>{@link #dipartimentoIn(Collection)}: Dipendenti appartenenti a uno dei dipartimenti indicati.</li>
+ * <li>{@link #ruoloIn(Collection)}: Dipendenti con almeno uno dei ruoli indicati.</li>
+ * <li>{@link #stipendioTra(Double, Double)}: Dipendenti con stipendio compreso nell'intervallo.</li>
+ * <li>{@link #dataAssunzioneTra(LocalDate, LocalDate)}: Dipendenti assunti nell'intervallo.</li>
+ * <li>{@link #dataNascitaTra(LocalDate, LocalDate)}: Dipendenti nati nell'intervallo.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public final class DipendenteSpecifications {
+
+    private DipendenteSpecifications() {
+    }
+
+    /**
+     * @param idDipartimenti gli ID dei dipartimenti ammessi, o {@code null} per non filtrare
+     * @return la specifica, o {@code null}
+     */
+    public static Specification<Dipendente> dipartimentoIn(Collection<Integer> idDipartimenti) {
+        if (idDipartimenti == null || idDipartimenti.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("dipartimento").get("id").in(idDipartimenti);
+    }
+
+    /**
+     * @param idRuoli gli ID dei ruoli ammessi, o {@code null} per non filtrare
+     * @return la specifica, o {@code null}
+     */
+    public static Specification<Dipendente> ruoloIn(Collection<Integer> idRuoli) {
+        if (idRuoli == null || idRuoli.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<Dipendente> dipendente = subquery.correlate(root);
+            Join<Dipendente, Ruolo> ruolo = dipendente.join("ruoli");
+            subquery.select(ruolo.get("id")).where(ruolo.get("id").in(idRuoli));
+            return cb.exists(subquery);
+        };
+    }
+
+    /**
+     * @param minimo lo stipendio minimo, incluso, o {@code null}
+     * @param massimo lo stipendio massimo, incluso, o {@code null}
+     * @return la specifica, o {@code null} se entrambi gli estremi sono {@code null}
+     */
+    public static Specification<Dipendente> stipendioTra(Double minimo, Double massimo) {
+        return tra("stipendio", minimo, massimo);
+    }
+
+    /**
+     * @param da la prima data di assunzione, inclusa, o {@code null}
+     * @param a l'ultima data di assunzione, inclusa, o {@code null}
+     * @return la specifica, o {@code null} se entrambi gli estremi sono {@code null}
+     */
+    public static Specification<Dipendente> dataAssunzioneTra(LocalDate da, LocalDate a) {
+        return tra("dataAssunzione", da, a);
+    }
+
+    /**
+     * @param da la prima data di nascita, inclusa, o {@code null}
+     * @param a l'ultima data di nascita, inclusa, o {@code null}
+     * @return la specifica, o {@code null} se entrambi gli estremi sono {@code null}
+     */
+    public static Specification<Dipendente> dataNascitaTra(LocalDate da, LocalDate a) {
+        return tra("dataNascita", da, a);
+    }
+
+    private static <T extends Comparable<? super T>> Specification<Dipendente> tra(String attributo, T minimo, T massimo) {
+        if (minimo == null && massimo == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minimo == null) {
+                return cb.lessThanOrEqualTo(root.get(attributo), massimo);
+            }
+            if (massimo == null) {
+                return cb.greaterThanOrEqualTo(root.get(attributo), minimo);
+            }
+            return cb.between(root.get(attributo), minimo, massimo);
+        };
+    }
+
+}
@@ -0,0 +1,26 @@
+package it.corso.dao;
+
+/**
+ * L'interfaccia {@code StipendioClassifica} è una proiezione di una riga della classifica degli stipendi
+ * per dipartimento, calcolata dal database con la funzione finestra {@code ROW_NUMBER()}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface StipendioClassifica {
+
+    String getDipartimento();
+
+    int getPosizione();
+
+    int getId();
+
+    String getNome();
+
+    String getCognome();
+
+    double getStipendio();
+
+}
@@ -0,0 +1,55 @@
+package it.corso.dto;
+
+import java.util.List;
+
+/**
+ * La classe {@code AdeguamentoStipendiDto} rappresenta un Data Transfer Object (DTO) utilizzato per richiedere
+ * un adeguamento massivo degli stipendi. Le regole vengono applicate nell'ordine indicato: un dipendente
+ * che soddisfa più regole riceve tutti gli adeguamenti, ciascuno calcolato sullo stipendio risultante dai precedenti.
+ *
+ * <ul>
+ * <li>{@link #id}: L'identificativo scelto dal client, facoltativo: se un adeguamento con lo stesso identificativo
+ *     esiste già non ne viene avviato un altro, e quello esistente viene ripreso se era stato interrotto.</li>
+ * <li>{@link #regole}: Le regole di adeguamento, rappresentate da {@link RegolaStipendioDto}.</li>
+ * <li>{@link #dryRun}: Se {@code true} viene calcolata solo l'anteprima, senza modificare gli stipendi.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class AdeguamentoStipendiDto {
+
+    private String id;
+
+    private List<RegolaStipendioDto> regole;
+
+    private boolean dryRun;
+
+    // Getter e Setter
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<RegolaStipendioDto> getRegole() {
+        return regole;
+    }
+
+    public void setRegole(List<RegolaStipendioDto> regole) {
+        this.regole = regole;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+}
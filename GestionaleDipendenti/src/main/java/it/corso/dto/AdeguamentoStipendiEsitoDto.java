@@ -0,0 +1,97 @@
+package it.corso.dto;
+
+import java.util.List;
+
+/**
+ * La classe {@code AdeguamentoStipendiEsitoDto} rappresenta un Data Transfer Object (DTO) che descrive
+ * l'anteprima o l'avanzamento di un adeguamento massivo degli stipendi.
+ *
+ * <ul>
+ * <li>{@link #id}: L'identificativo dell'adeguamento, da usare per leggerne l'avanzamento, o {@code null} per l'anteprima.</li>
+ * <li>{@link #dryRun}: Indica se si tratta di un'anteprima.</li>
+ * <li>{@link #stato}: Lo stato dell'adeguamento: {@code in_corso}, {@code completato} o {@code errore}.</li>
+ * <li>{@link #blocchiTotali}: Il numero di blocchi di ID in cui è suddiviso l'adeguamento.</li>
+ * <li>{@link #blocchiCompletati}: Il numero di blocchi già aggiornati e salvati.</li>
+ * <li>{@link #ultimoIdCompletato}: L'ultimo ID dell'ultimo blocco salvato, da cui riprende un adeguamento interrotto.</li>
+ * <li>{@link #regole}: L'effetto di ciascuna regola, rappresentato da {@link RegolaStipendioEsitoDto}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class AdeguamentoStipendiEsitoDto {
+
+    private String id;
+
+    private boolean dryRun;
+
+    private String stato;
+
+    private int blocchiTotali;
+
+    private int blocchiCompletati;
+
+    private int ultimoIdCompletato;
+
+    private List<RegolaStipendioEsitoDto> regole;
+
+    // Getter e Setter
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public String getStato() {
+        return stato;
+    }
+
+    public void setStato(String stato) {
+        this.stato = stato;
+    }
+
+    public int getBlocchiTotali() {
+        return blocchiTotali;
+    }
+
+    public void setBlocchiTotali(int blocchiTotali) {
+        this.blocchiTotali = blocchiTotali;
+    }
+
+    public int getBlocchiCompletati() {
+        return blocchiCompletati;
+    }
+
+    public void setBlocchiCompletati(int blocchiCompletati) {
+        this.blocchiCompletati = blocchiCompletati;
+    }
+
+    public int getUltimoIdCompletato() {
+        return ultimoIdCompletato;
+    }
+
+    public void setUltimoIdCompletato(int ultimoIdCompletato) {
+        this.ultimoIdCompletato = ultimoIdCompletato;
+    }
+
+    public List<RegolaStipendioEsitoDto> getRegole() {
+        return regole;
+    }
+
+    public void setRegole(List<RegolaStipendioEsitoDto> regole) {
+        this.regole = regole;
+    }
+}
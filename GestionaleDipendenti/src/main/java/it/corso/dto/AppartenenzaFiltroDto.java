@@ -0,0 +1,76 @@
+package it.corso.dto;
+
+import java.util.List;
+
+/**
+ * La classe {@code AppartenenzaFiltroDto} rappresenta un Data Transfer Object (DTO) che raccoglie i filtri
+ * di appartenenza a dipartimenti e ruoli, risolti tramite l'indice bitmap in memoria.
+ * I filtri non valorizzati vengono ignorati; quelli valorizzati vengono combinati in AND.
+ *
+ * <ul>
+ * <li>{@link #dipartimento}: I dipartimenti ammessi (il dipendente deve appartenere a uno di essi).</li>
+ * <li>{@link #ruolo}: I ruoli richiesti.</li>
+ * <li>{@link #tuttiRuoli}: Se {@code true} il dipendente deve avere tutti i ruoli richiesti, altrimenti almeno uno.</li>
+ * <li>{@link #escludiDipartimento}: I dipartimenti i cui dipendenti vanno esclusi.</li>
+ * <li>{@link #escludiRuolo}: I ruoli i cui titolari vanno esclusi.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class AppartenenzaFiltroDto {
+
+    private List<String> dipartimento;
+
+    private List<String> ruolo;
+
+    private boolean tuttiRuoli;
+
+    private List<String> escludiDipartimento;
+
+    private List<String> escludiRuolo;
+
+    // Getter e Setter
+
+    public List<String> getDipartimento() {
+        return dipartimento;
+    }
+
+    public void setDipartimento(List<String> dipartimento) {
+        this.dipartimento = dipartimento;
+    }
+
+    public List<String> getRuolo() {
+        return ruolo;
+    }
+
+    public void setRuolo(List<String> ruolo) {
+        this.ruolo = ruolo;
+    }
+
+    public boolean isTuttiRuoli() {
+        return tuttiRuoli;
+    }
+
+    public void setTuttiRuoli(boolean tuttiRuoli) {
+        this.tuttiRuoli = tuttiRuoli;
+    }
+
+    public List<String> getEscludiDipartimento() {
+        return escludiDipartimento;
+    }
+
+    public void setEscludiDipartimento(List<String> escludiDipartimento) {
+        this.escludiDipartimento = escludiDipartimento;
+    }
+
+    public List<String> getEscludiRuolo() {
+        return escludiRuolo;
+    }
+
+    public void setEscludiRuolo(List<String> escludiRuolo) {
+        this.escludiRuolo = escludiRuolo;
+    }
+}
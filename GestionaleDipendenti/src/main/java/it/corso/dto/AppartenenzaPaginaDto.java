@@ -0,0 +1,53 @@
+package it.corso.dto;
+
+import java.util.List;
+
+/**
+ * La classe {@code AppartenenzaPaginaDto} rappresenta un Data Transfer Object (DTO) utilizzato per restituire
+ * il risultato di una ricerca per appartenenza a dipartimenti e ruoli.
+ *
+ * <ul>
+ * <li>{@link #totale}: Il numero totale di dipendenti che soddisfano i filtri.</li>
+ * <li>{@link #dipendenti}: I dipendenti della pagina in ordine di ID, rappresentati da {@link DipendenteBatchDto}.</li>
+ * <li>{@link #nextAfterId}: L'ID da passare come {@code afterId} per la pagina successiva, o {@code null} se la pagina è l'ultima.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class AppartenenzaPaginaDto {
+
+    private long totale;
+
+    private List<DipendenteBatchDto> dipendenti;
+
+    private Integer nextAfterId;
+
+    // Getter e Setter
+
+    public long getTotale() {
+        return totale;
+    }
+
+    public void setTotale(long totale) {
+        this.totale = totale;
+    }
+
+    public List<DipendenteBatchDto> getDipendenti() {
+        return dipendenti;
+    }
+
+    public void setDipendenti(List<DipendenteBatchDto> dipendenti) {
+        this.dipendenti = dipendenti;
+    }
+
+    public Integer getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public void setNextAfterId(Integer nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+}
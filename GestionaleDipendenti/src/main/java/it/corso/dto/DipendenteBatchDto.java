@@ -0,0 +1,54 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code DipendenteBatchDto} rappresenta un Data Transfer Object (DTO) che descrive l'esito della ricerca
+ * di un singolo ID all'interno di una richiesta di dipendenti per lista di ID.
+ *
+ * Gli elementi vengono restituiti nello stesso ordine degli ID richiesti; gli ID che non corrispondono
+ * a nessun dipendente sono indicati con {@link #trovato} uguale a {@code false}.
+ *
+ * <ul>
+ * <li>{@link #id}: L'ID richiesto.</li>
+ * <li>{@link #trovato}: Indica se esiste un dipendente con l'ID richiesto.</li>
+ * <li>{@link #dipendente}: I dati del dipendente, rappresentati da {@link DipendenteDto}, o {@code null} se non trovato.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DipendenteBatchDto {
+
+    private int id;
+
+    private boolean trovato;
+
+    private DipendenteDto dipendente;
+
+    // Getter e Setter
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public boolean isTrovato() {
+        return trovato;
+    }
+
+    public void setTrovato(boolean trovato) {
+        this.trovato = trovato;
+    }
+
+    public DipendenteDto getDipendente() {
+        return dipendente;
+    }
+
+    public void setDipendente(DipendenteDto dipendente) {
+        this.dipendente = dipendente;
+    }
+}
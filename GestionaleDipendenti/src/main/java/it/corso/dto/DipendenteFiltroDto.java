@@ -0,0 +1,137 @@
+package it.corso.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * La classe {@code DipendenteFiltroDto} rappresenta un Data Transfer Object (DTO) che raccoglie i parametri
+ * della ricerca multi-criterio dei dipendenti. I filtri non valorizzati vengono ignorati; quelli valorizzati
+ * vengono combinati in AND.
+ *
+ * <ul>
+ * <li>{@link #dipartimento}: I nomi dei dipartimenti ammessi (il dipendente deve appartenere a uno di essi).</li>
+ * <li>{@link #ruolo}: I nomi dei ruoli ammessi (il dipendente deve avere almeno uno di essi).</li>
+ * <li>{@link #stipendioMin} e {@link #stipendioMax}: L'intervallo dello stipendio, estremi inclusi.</li>
+ * <li>{@link #dataAssunzioneDa} e {@link #dataAssunzioneA}: L'intervallo della data di assunzione, estremi inclusi.</li>
+ * <li>{@link #dataNascitaDa} e {@link #dataNascitaA}: L'intervallo della data di nascita, estremi inclusi.</li>
+ * <li>{@link #sort}: Il campo di ordinamento: {@code id}, {@code cognome}, {@code stipendio}, {@code dataAssunzione} o {@code dataNascita}.</li>
+ * <li>{@link #direction}: La direzione dell'ordinamento, {@code asc} o {@code desc}.</li>
+ * </ul>
+ *
+ * Le date sono espresse nel formato ISO {@code yyyy-MM-dd}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DipendenteFiltroDto {
+
+    private List<String> dipartimento;
+
+    private List<String> ruolo;
+
+    private Double stipendioMin;
+
+    private Double stipendioMax;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataAssunzioneDa;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataAssunzioneA;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataNascitaDa;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataNascitaA;
+
+    private String sort = "id";
+
+    private String direction = "asc";
+
+    // Getter e Setter
+
+    public List<String> getDipartimento() {
+        return dipartimento;
+    }
+
+    public void setDipartimento(List<String> dipartimento) {
+        this.dipartimento = dipartimento;
+    }
+
+    public List<String> getRuolo() {
+        return ruolo;
+    }
+
+    public void setRuolo(List<String> ruolo) {
+        this.ruolo = ruolo;
+    }
+
+    public Double getStipendioMin() {
+        return stipendioMin;
+    }
+
+    public void setStipendioMin(Double stipendioMin) {
+        this.stipendioMin = stipendioMin;
+    }
+
+    public Double getStipendioMax() {
+        return stipendioMax;
+    }
+
+    public void setStipendioMax(Double stipendioMax) {
+        this.stipendioMax = stipendioMax;
+    }
+
+    public LocalDate getDataAssunzioneDa() {
+        return dataAssunzioneDa;
+    }
+
+    public void setDataAssunzioneDa(LocalDate dataAssunzioneDa) {
+        this.dataAssunzioneDa = dataAssunzioneDa;
+    }
+
+    public LocalDate getDataAssunzioneA() {
+        return dataAssunzioneA;
+    }
+
+    public void setDataAssunzioneA(LocalDate dataAssunzioneA) {
+        this.dataAssunzioneA = dataAssunzioneA;
+    }
+
+    public LocalDate getDataNascitaDa() {
+        return dataNascitaDa;
+    }
+
+    public void setDataNascitaDa(LocalDate dataNascitaDa) {
+        this.dataNascitaDa = dataNascitaDa;
+    }
+
+    public LocalDate getDataNascitaA() {
+        return dataNascitaA;
+    }
+
+    public void setDataNascitaA(LocalDate dataNascitaA) {
+        this.dataNascitaA = dataNascitaA;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+}
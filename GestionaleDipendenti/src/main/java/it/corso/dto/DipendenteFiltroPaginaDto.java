@@ -0,0 +1,64 @@
+package it.corso.dto;
+
+import java.util.List;
+
+/**
+ * La classe {@code DipendenteFiltroPaginaDto} rappresenta un Data Transfer Object (DTO) utilizzato per restituire
+ * una pagina di risultati della ricerca multi-criterio dei dipendenti.
+ *
+ * <ul>
+ * <li>{@link #totale}: Il numero totale di dipendenti che soddisfano i filtri.</li>
+ * <li>{@link #pagina}: Il numero della pagina restituita, a partire da 0.</li>
+ * <li>{@link #dimensione}: Il numero massimo di dipendenti per pagina.</li>
+ * <li>{@link #dipendenti}: I dipendenti della pagina, rappresentati da {@link DipendenteDto}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DipendenteFiltroPaginaDto {
+
+    private long totale;
+
+    private int pagina;
+
+    private int dimensione;
+
+    private List<DipendenteDto> dipendenti;
+
+    // Getter e Setter
+
+    public long getTotale() {
+        return totale;
+    }
+
+    public void setTotale(long totale) {
+        this.totale = totale;
+    }
+
+    public int getPagina() {
+        return pagina;
+    }
+
+    public void setPagina(int pagina) {
+        this.pagina = pagina;
+    }
+
+    public int getDimensione() {
+        return dimensione;
+    }
+
+    public void setDimensione(int dimensione) {
+        this.dimensione = dimensione;
+    }
+
+    public List<DipendenteDto> getDipendenti() {
+        return dipendenti;
+    }
+
+    public void setDipendenti(List<DipendenteDto> dipendenti) {
+        this.dipendenti = dipendenti;
+    }
+}
@@ -0,0 +1,45 @@
+package it.corso.dto;
+
+import java.util.List;
+
+/**
+ * La classe {@code DipendentePaginaDto} rappresenta un Data Transfer Object (DTO) utilizzato per restituire
+ * una pagina di dipendenti ottenuta tramite paginazione keyset (a cursore).
+ *
+ * Oltre ai dipendenti della pagina, contiene il cursore opaco da passare alla richiesta successiva
+ * per ottenere la pagina seguente. Il cursore è {@code null} quando non ci sono altre pagine.
+ *
+ * <ul>
+ * <li>{@link #dipendenti}: La lista dei dipendenti della pagina, rappresentati da {@link DipendenteDto}.</li>
+ * <li>{@link #nextCursor}: Il cursore della pagina successiva, o {@code null} se la pagina è l'ultima.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DipendentePaginaDto {
+
+    private List<DipendenteDto> dipendenti;
+
+    private String nextCursor;
+
+    // Getter e Setter
+
+    public List<DipendenteDto> getDipendenti() {
+        return dipendenti;
+    }
+
+    public void setDipendenti(List<DipendenteDto> dipendenti) {
+        this.dipendenti = dipendenti;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,51 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code DipendenteRicercaDto} rappresenta un Data Transfer Object (DTO) che descrive
+ * un risultato della ricerca full-text dei dipendenti.
+ *
+ * <ul>
+ * <li>{@link #id}: L'ID del dipendente.</li>
+ * <li>{@link #punteggio}: La rilevanza del risultato rispetto alla ricerca; i risultati sono ordinati per punteggio decrescente.</li>
+ * <li>{@link #dipendente}: I dati del dipendente, rappresentati da {@link DipendenteDto}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DipendenteRicercaDto {
+
+    private int id;
+
+    private float punteggio;
+
+    private DipendenteDto dipendente;
+
+    // Getter e Setter
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public float getPunteggio() {
+        return punteggio;
+    }
+
+    public void setPunteggio(float punteggio) {
+        this.punteggio = punteggio;
+    }
+
+    public DipendenteDto getDipendente() {
+        return dipendente;
+    }
+
+    public void setDipendente(DipendenteDto dipendente) {
+        this.dipendente = dipendente;
+    }
+}
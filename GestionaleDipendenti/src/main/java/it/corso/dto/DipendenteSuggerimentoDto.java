@@ -0,0 +1,51 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code DipendenteSuggerimentoDto} rappresenta un Data Transfer Object (DTO) utilizzato
+ * per i suggerimenti della ricerca per prefisso (autocompletamento).
+ *
+ * <ul>
+ * <li>{@link #id}: L'ID del dipendente.</li>
+ * <li>{@link #nome}: Il nome del dipendente.</li>
+ * <li>{@link #cognome}: Il cognome del dipendente.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DipendenteSuggerimentoDto {
+
+    private int id;
+
+    private String nome;
+
+    private String cognome;
+
+    // Getter e Setter
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getCognome() {
+        return cognome;
+    }
+
+    public void setCognome(String cognome) {
+        this.cognome = cognome;
+    }
+}
@@ -0,0 +1,73 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code RegioneCacheDto} rappresenta un Data Transfer Object (DTO) con le statistiche
+ * di una regione della cache di secondo livello di Hibernate.
+ *
+ * <ul>
+ * <li>{@link #regione}: Il nome della regione.</li>
+ * <li>{@link #hit}: Il numero di letture servite dalla cache.</li>
+ * <li>{@link #miss}: Il numero di letture non trovate nella cache, che hanno richiesto un accesso al database.</li>
+ * <li>{@link #put}: Il numero di elementi inseriti nella cache.</li>
+ * <li>{@link #elementi}: Il numero di elementi attualmente presenti nella regione, o -1 se non disponibile.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class RegioneCacheDto {
+
+    private String regione;
+
+    private long hit;
+
+    private long miss;
+
+    private long put;
+
+    private long elementi;
+
+    // Getter e Setter
+
+    public String getRegione() {
+        return regione;
+    }
+
+    public void setRegione(String regione) {
+        this.regione = regione;
+    }
+
+    public long getHit() {
+        return hit;
+    }
+
+    public void setHit(long hit) {
+        this.hit = hit;
+    }
+
+    public long getMiss() {
+        return miss;
+    }
+
+    public void setMiss(long miss) {
+        this.miss = miss;
+    }
+
+    public long getPut() {
+        return put;
+    }
+
+    public void setPut(long put) {
+        this.put = put;
+    }
+
+    public long getElementi() {
+        return elementi;
+    }
+
+    public void setElementi(long elementi) {
+        this.elementi = elementi;
+    }
+}
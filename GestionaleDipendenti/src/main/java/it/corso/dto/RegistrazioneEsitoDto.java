@@ -0,0 +1,65 @@
+package it.corso.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * La classe {@code RegistrazioneEsitoDto} rappresenta un Data Transfer Object (DTO) che descrive l'esito
+ * della registrazione di un singolo elemento di una registrazione massiva di dipendenti.
+ *
+ * <ul>
+ * <li>{@link #indice}: La posizione dell'elemento nell'array JSON ricevuto, a partire da 0.</li>
+ * <li>{@link #registrato}: Indica se il dipendente è stato registrato.</li>
+ * <li>{@link #id}: L'ID assegnato al dipendente registrato, o {@code null} se non è stato registrato.</li>
+ * <li>{@link #errori}: I messaggi di errore che hanno impedito la registrazione.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class RegistrazioneEsitoDto {
+
+    private int indice;
+
+    private boolean registrato;
+
+    private Integer id;
+
+    private List<String> errori = new ArrayList<>();
+
+    // Getter e Setter
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+
+    public boolean isRegistrato() {
+        return registrato;
+    }
+
+    public void setRegistrato(boolean registrato) {
+        this.registrato = registrato;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public List<String> getErrori() {
+        return errori;
+    }
+
+    public void setErrori(List<String> errori) {
+        this.errori = errori;
+    }
+}
@@ -0,0 +1,75 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code RegolaStipendioDto} rappresenta un Data Transfer Object (DTO) che descrive una regola
+ * di adeguamento degli stipendi. I filtri indicati devono essere soddisfatti tutti; un filtro {@code null}
+ * non limita i dipendenti interessati.
+ *
+ * <ul>
+ * <li>{@link #tipo}: Il tipo di adeguamento, {@code percentuale} oppure {@code importo}.</li>
+ * <li>{@link #valore}: La percentuale (ad esempio {@code 3.5}) o l'importo fisso da sommare allo stipendio;
+ *     con un importo negativo lo stipendio risultante non scende sotto zero.</li>
+ * <li>{@link #dipartimento}: Il nome del dipartimento, corrispondente a un valore di {@link it.corso.model.NomeDipartimento}.</li>
+ * <li>{@link #ruolo}: Il nome del ruolo, corrispondente a un valore di {@link it.corso.model.NomeRuolo}.</li>
+ * <li>{@link #anniAnzianita}: Gli anni minimi trascorsi dalla data di assunzione.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class RegolaStipendioDto {
+
+    private String tipo;
+
+    private double valore;
+
+    private String dipartimento;
+
+    private String ruolo;
+
+    private Integer anniAnzianita;
+
+    // Getter e Setter
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public double getValore() {
+        return valore;
+    }
+
+    public void setValore(double valore) {
+        this.valore = valore;
+    }
+
+    public String getDipartimento() {
+        return dipartimento;
+    }
+
+    public void setDipartimento(String dipartimento) {
+        this.dipartimento = dipartimento;
+    }
+
+    public String getRuolo() {
+        return ruolo;
+    }
+
+    public void setRuolo(String ruolo) {
+        this.ruolo = ruolo;
+    }
+
+    public Integer getAnniAnzianita() {
+        return anniAnzianita;
+    }
+
+    public void setAnniAnzianita(Integer anniAnzianita) {
+        this.anniAnzianita = anniAnzianita;
+    }
+}
@@ -0,0 +1,52 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code RegolaStipendioEsitoDto} rappresenta un Data Transfer Object (DTO) che descrive l'effetto
+ * di una regola di un adeguamento degli stipendi.
+ *
+ * <ul>
+ * <li>{@link #indice}: La posizione della regola nella richiesta, a partire da 0.</li>
+ * <li>{@link #dipendenti}: Il numero di dipendenti interessati, nell'anteprima, o aggiornati finora, durante l'esecuzione.</li>
+ * <li>{@link #variazioneTotale}: La variazione della somma degli stipendi dovuta alla regola, applicata dopo le precedenti,
+ * presente solo nell'anteprima.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class RegolaStipendioEsitoDto {
+
+    private int indice;
+
+    private long dipendenti;
+
+    private Double variazioneTotale;
+
+    // Getter e Setter
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+
+    public long getDipendenti() {
+        return dipendenti;
+    }
+
+    public void setDipendenti(long dipendenti) {
+        this.dipendenti = dipendenti;
+    }
+
+    public Double getVariazioneTotale() {
+        return variazioneTotale;
+    }
+
+    public void setVariazioneTotale(Double variazioneTotale) {
+        this.variazioneTotale = variazioneTotale;
+    }
+}
@@ -0,0 +1,52 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code RiassegnazioneRuoloDto} rappresenta un Data Transfer Object (DTO) utilizzato per assegnare
+ * o rimuovere un ruolo a tutti i dipendenti che soddisfano i filtri indicati. Un filtro {@code null}
+ * non limita i dipendenti interessati.
+ *
+ * <ul>
+ * <li>{@link #ruolo}: Il nome del ruolo da assegnare o rimuovere, corrispondente a un valore di {@link it.corso.model.NomeRuolo}.</li>
+ * <li>{@link #dipartimento}: Il nome del dipartimento dei dipendenti, corrispondente a un valore di {@link it.corso.model.NomeDipartimento}.</li>
+ * <li>{@link #conRuolo}: Il nome di un altro ruolo che i dipendenti devono possedere.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class RiassegnazioneRuoloDto {
+
+    private String ruolo;
+
+    private String dipartimento;
+
+    private String conRuolo;
+
+    // Getter e Setter
+
+    public String getRuolo() {
+        return ruolo;
+    }
+
+    public void setRuolo(String ruolo) {
+        this.ruolo = ruolo;
+    }
+
+    public String getDipartimento() {
+        return dipartimento;
+    }
+
+    public void setDipartimento(String dipartimento) {
+        this.dipartimento = dipartimento;
+    }
+
+    public String getConRuolo() {
+        return conRuolo;
+    }
+
+    public void setConRuolo(String conRuolo) {
+        this.conRuolo = conRuolo;
+    }
+}
@@ -0,0 +1,64 @@
+package it.corso.dto;
+
+import java.util.List;
+
+/**
+ * La classe {@code RicercaPaginaDto} rappresenta un Data Transfer Object (DTO) utilizzato per restituire
+ * una pagina di risultati della ricerca full-text dei dipendenti.
+ *
+ * <ul>
+ * <li>{@link #totale}: Il numero totale di dipendenti che corrispondono alla ricerca.</li>
+ * <li>{@link #pagina}: Il numero della pagina restituita, a partire da 0.</li>
+ * <li>{@link #dimensione}: Il numero massimo di risultati per pagina.</li>
+ * <li>{@link #risultati}: I risultati della pagina, rappresentati da {@link DipendenteRicercaDto}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class RicercaPaginaDto {
+
+    private long totale;
+
+    private int pagina;
+
+    private int dimensione;
+
+    private List<DipendenteRicercaDto> risultati;
+
+    // Getter e Setter
+
+    public long getTotale() {
+        return totale;
+    }
+
+    public void setTotale(long totale) {
+        this.totale = totale;
+    }
+
+    public int getPagina() {
+        return pagina;
+    }
+
+    public void setPagina(int pagina) {
+        this.pagina = pagina;
+    }
+
+    public int getDimensione() {
+        return dimensione;
+    }
+
+    public void setDimensione(int dimensione) {
+        this.dimensione = dimensione;
+    }
+
+    public List<DipendenteRicercaDto> getRisultati() {
+        return risultati;
+    }
+
+    public void setRisultati(List<DipendenteRicercaDto> risultati) {
+        this.risultati = risultati;
+    }
+}
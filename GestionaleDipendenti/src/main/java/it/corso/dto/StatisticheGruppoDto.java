@@ -0,0 +1,98 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code StatisticheGruppoDto} rappresenta un Data Transfer Object (DTO) con le statistiche
+ * retributive di un gruppo di dipendenti, calcolate dal database con una query {@code GROUP BY}.
+ *
+ * Viene costruita direttamente dalla query tramite un'espressione {@code SELECT new}, senza idratare entità.
+ *
+ * <ul>
+ * <li>{@link #gruppo}: Il nome del dipartimento o del ruolo.</li>
+ * <li>{@link #conteggio}: Il numero di dipendenti del gruppo.</li>
+ * <li>{@link #somma}: La somma degli stipendi.</li>
+ * <li>{@link #media}: La media degli stipendi.</li>
+ * <li>{@link #minimo}: Lo stipendio minimo.</li>
+ * <li>{@link #massimo}: Lo stipendio massimo.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class StatisticheGruppoDto {
+
+    private String gruppo;
+
+    private long conteggio;
+
+    private double somma;
+
+    private double media;
+
+    private double minimo;
+
+    private double massimo;
+
+    public StatisticheGruppoDto() {
+    }
+
+    public StatisticheGruppoDto(String gruppo, Long conteggio, Double somma, Double media, Double minimo, Double massimo) {
+        this.gruppo = gruppo;
+        this.conteggio = conteggio;
+        this.somma = somma;
+        this.media = media;
+        this.minimo = minimo;
+        this.massimo = massimo;
+    }
+
+    // Getter e Setter
+
+    public String getGruppo() {
+        return gruppo;
+    }
+
+    public void setGruppo(String gruppo) {
+        this.gruppo = gruppo;
+    }
+
+    public long getConteggio() {
+        return conteggio;
+    }
+
+    public void setConteggio(long conteggio) {
+        this.conteggio = conteggio;
+    }
+
+    public double getSomma() {
+        return somma;
+    }
+
+    public void setSomma(double somma) {
+        this.somma = somma;
+    }
+
+    public double getMedia() {
+        return media;
+    }
+
+    public void setMedia(double media) {
+        this.media = media;
+    }
+
+    public double getMinimo() {
+        return minimo;
+    }
+
+    public void setMinimo(double minimo) {
+        this.minimo = minimo;
+    }
+
+    public double getMassimo() {
+        return massimo;
+    }
+
+    public void setMassimo(double massimo) {
+        this.massimo = massimo;
+    }
+}
@@ -0,0 +1,115 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code StatisticheStipendioDto} rappresenta un Data Transfer Object (DTO) con le statistiche
+ * degli stipendi di un gruppo di dipendenti.
+ *
+ * <ul>
+ * <li>{@link #gruppo}: Il nome del gruppo (dipartimento, ruolo o {@code TOTALE}).</li>
+ * <li>{@link #conteggio}: Il numero di dipendenti del gruppo.</li>
+ * <li>{@link #somma}: La somma degli stipendi.</li>
+ * <li>{@link #media}: La media degli stipendi.</li>
+ * <li>{@link #minimo}: Lo stipendio minimo.</li>
+ * <li>{@link #massimo}: Lo stipendio massimo.</li>
+ * <li>{@link #p50}, {@link #p90}, {@link #p99}: Il 50°, 90° e 99° percentile degli stipendi (metodo nearest-rank).</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class StatisticheStipendioDto {
+
+    private String gruppo;
+
+    private long conteggio;
+
+    private double somma;
+
+    private double media;
+
+    private double minimo;
+
+    private double massimo;
+
+    private double p50;
+
+    private double p90;
+
+    private double p99;
+
+    // Getter e Setter
+
+    public String getGruppo() {
+        return gruppo;
+    }
+
+    public void setGruppo(String gruppo) {
+        this.gruppo = gruppo;
+    }
+
+    public long getConteggio() {
+        return conteggio;
+    }
+
+    public void setConteggio(long conteggio) {
+        this.conteggio = conteggio;
+    }
+
+    public double getSomma() {
+        return somma;
+    }
+
+    public void setSomma(double somma) {
+        this.somma = somma;
+    }
+
+    public double getMedia() {
+        return media;
+    }
+
+    public void setMedia(double media) {
+        this.media = media;
+    }
+
+    public double getMinimo() {
+        return minimo;
+    }
+
+    public void setMinimo(double minimo) {
+        this.minimo = minimo;
+    }
+
+    public double getMassimo() {
+        return massimo;
+    }
+
+    public void setMassimo(double massimo) {
+        this.massimo = massimo;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public void setP50(double p50) {
+        this.p50 = p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public void setP90(double p90) {
+        this.p90 = p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public void setP99(double p99) {
+        this.p99 = p99;
+    }
+}
@@ -0,0 +1,84 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code StipendioClassificaDto} rappresenta un Data Transfer Object (DTO) utilizzato per restituire
+ * un dipendente della classifica degli stipendi più alti di un dipartimento.
+ *
+ * <ul>
+ * <li>{@link #dipartimento}: Il nome del dipartimento.</li>
+ * <li>{@link #posizione}: La posizione nella classifica del dipartimento, a partire da 1.</li>
+ * <li>{@link #id}: L'ID del dipendente.</li>
+ * <li>{@link #nome}: Il nome del dipendente.</li>
+ * <li>{@link #cognome}: Il cognome del dipendente.</li>
+ * <li>{@link #stipendio}: Lo stipendio del dipendente.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class StipendioClassificaDto {
+
+    private String dipartimento;
+
+    private int posizione;
+
+    private int id;
+
+    private String nome;
+
+    private String cognome;
+
+    private double stipendio;
+
+    // Getter e Setter
+
+    public String getDipartimento() {
+        return dipartimento;
+    }
+
+    public void setDipartimento(String dipartimento) {
+        this.dipartimento = dipartimento;
+    }
+
+    public int getPosizione() {
+        return posizione;
+    }
+
+    public void setPosizione(int posizione) {
+        this.posizione = posizione;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getCognome() {
+        return cognome;
+    }
+
+    public void setCognome(String cognome) {
+        this.cognome = cognome;
+    }
+
+    public double getStipendio() {
+        return stipendio;
+    }
+
+    public void setStipendio(double stipendio) {
+        this.stipendio = stipendio;
+    }
+}
@@ -0,0 +1,51 @@
+package it.corso.dto;
+
+/**
+ * La classe {@code TrasferimentoDipartimentoDto} rappresenta un Data Transfer Object (DTO) utilizzato per
+ * spostare tutti i dipendenti di un dipartimento, o quelli con un ruolo specifico, in un altro dipartimento.
+ *
+ * <ul>
+ * <li>{@link #dipartimentoOrigine}: Il nome del dipartimento di partenza, corrispondente a un valore di {@link it.corso.model.NomeDipartimento}.</li>
+ * <li>{@link #dipartimentoDestinazione}: Il nome del dipartimento di arrivo.</li>
+ * <li>{@link #conRuolo}: Il nome del ruolo che i dipendenti devono possedere, o {@code null} per spostarli tutti.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class TrasferimentoDipartimentoDto {
+
+    private String dipartimentoOrigine;
+
+    private String dipartimentoDestinazione;
+
+    private String conRuolo;
+
+    // Getter e Setter
+
+    public String getDipartimentoOrigine() {
+        return dipartimentoOrigine;
+    }
+
+    public void setDipartimentoOrigine(String dipartimentoOrigine) {
+        this.dipartimentoOrigine = dipartimentoOrigine;
+    }
+
+    public String getDipartimentoDestinazione() {
+        return dipartimentoDestinazione;
+    }
+
+    public void setDipartimentoDestinazione(String dipartimentoDestinazione) {
+        this.dipartimentoDestinazione = dipartimentoDestinazione;
+    }
+
+    public String getConRuolo() {
+        return conRuolo;
+    }
+
+    public void setConRuolo(String conRuolo) {
+        this.conRuolo = conRuolo;
+    }
+}
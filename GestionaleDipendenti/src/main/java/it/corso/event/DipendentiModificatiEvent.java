@@ -0,0 +1,63 @@
+package it.corso.event;
+
+import java.util.List;
+
+/**
+ * La classe {@code DipendentiModificatiEvent} rappresenta l'evento pubblicato da
+ * {@link it.corso.service.DipendenteServiceImpl} dopo ogni registrazione, modifica o eliminazione di dipendenti.
+ *
+ * Gli indici in memoria che derivano dalla tabella {@code dipendente} lo ricevono tramite
+ * {@link org.springframework.transaction.event.TransactionalEventListener}, così da aggiornarsi
+ * solo dopo il commit della transazione che ha prodotto le modifiche.
+ *
+ * <ul>
+ * <li>{@link #salvati}: I dipendenti registrati o modificati, nel loro stato finale.</li>
+ * <li>{@link #eliminati}: Gli ID dei dipendenti eliminati.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public final class DipendentiModificatiEvent {
+
+    private final List<IstantaneaDipendente> salvati;
+
+    private final List<Integer> eliminati;
+
+    public DipendentiModificatiEvent(List<IstantaneaDipendente> salvati, List<Integer> eliminati) {
+        this.salvati = List.copyOf(salvati);
+        this.eliminati = List.copyOf(eliminati);
+    }
+
+    /**
+     * Crea l'evento relativo a dipendenti registrati o modificati.
+     *
+     * @param salvati i dipendenti registrati o modificati
+     * @return l'evento
+     */
+    public static DipendentiModificatiEvent salvati(List<IstantaneaDipendente> salvati) {
+        return new DipendentiModificatiEvent(salvati, List.of());
+    }
+
+    /**
+     * Crea l'evento relativo a dipendenti eliminati.
+     *
+     * @param eliminati gli ID dei dipendenti eliminati
+     * @return l'evento
+     */
+    public static DipendentiModificatiEvent eliminati(List<Integer> eliminati) {
+        return new DipendentiModificatiEvent(List.of(), eliminati);
+    }
+
+    // Getter
+
+    public List<IstantaneaDipendente> getSalvati() {
+        return salvati;
+    }
+
+    public List<Integer> getEliminati() {
+        return eliminati;
+    }
+}
@@ -0,0 +1,99 @@
+package it.corso.event;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+
+/**
+ * La classe {@code DipendentiRiorganizzatiEvent} rappresenta l'evento pubblicato da
+ * {@link it.corso.service.RiorganizzazioneServiceImpl} dopo un trasferimento di dipartimento o una riassegnazione
+ * di ruoli eseguiti con istruzioni massive, che non passano dal contesto di persistenza.
+ *
+ * Poiché i dipendenti modificati non vengono caricati, l'evento contiene i loro ID, letti con un lock prima
+ * dell'istruzione massiva, e la modifica comune a tutti: gli indici in memoria la applicano ai soli dipendenti
+ * indicati, come per {@link DipendentiModificatiEvent}, e l'indice di ricerca full-text li reindicizza.
+ * Ogni modifica imposta un valore assoluto (il dipartimento, la presenza o l'assenza di un ruolo), quindi
+ * applicarla più volte allo stesso dipendente non ha ulteriori effetti.
+ *
+ * <ul>
+ * <li>{@link #ids}: Gli ID dei dipendenti modificati, da non modificare.</li>
+ * <li>{@link #dipartimento}: Il nuovo dipartimento dei dipendenti, o {@code null} se non cambia.</li>
+ * <li>{@link #ruoloAggiunto}: Il ruolo assegnato ai dipendenti, o {@code null}.</li>
+ * <li>{@link #ruoloRimosso}: Il ruolo rimosso ai dipendenti, o {@code null}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public final class DipendentiRiorganizzatiEvent {
+
+    private final RoaringBitmap ids;
+
+    private final NomeDipartimento dipartimento;
+
+    private final NomeRuolo ruoloAggiunto;
+
+    private final NomeRuolo ruoloRimosso;
+
+    public DipendentiRiorganizzatiEvent(RoaringBitmap ids, NomeDipartimento dipartimento, NomeRuolo ruoloAggiunto,
+            NomeRuolo ruoloRimosso) {
+        this.ids = ids.clone();
+        this.dipartimento = dipartimento;
+        this.ruoloAggiunto = ruoloAggiunto;
+        this.ruoloRimosso = ruoloRimosso;
+    }
+
+    /**
+     * Crea l'evento relativo a dipendenti trasferiti in un altro dipartimento.
+     *
+     * @param ids gli ID dei dipendenti trasferiti
+     * @param dipartimento il dipartimento di arrivo
+     * @return l'evento
+     */
+    public static DipendentiRiorganizzatiEvent trasferiti(RoaringBitmap ids, NomeDipartimento dipartimento) {
+        return new DipendentiRiorganizzatiEvent(ids, dipartimento, null, null);
+    }
+
+    /**
+     * Crea l'evento relativo a dipendenti a cui è stato assegnato un ruolo.
+     *
+     * @param ids gli ID dei dipendenti a cui è stato assegnato il ruolo
+     * @param ruolo il ruolo assegnato
+     * @return l'evento
+     */
+    public static DipendentiRiorganizzatiEvent ruoloAggiunto(RoaringBitmap ids, NomeRuolo ruolo) {
+        return new DipendentiRiorganizzatiEvent(ids, null, ruolo, null);
+    }
+
+    /**
+     * Crea l'evento relativo a dipendenti a cui è stato rimosso un ruolo.
+     *
+     * @param ids gli ID dei dipendenti a cui è stato rimosso il ruolo
+     * @param ruolo il ruolo rimosso
+     * @return l'evento
+     */
+    public static DipendentiRiorganizzatiEvent ruoloRimosso(RoaringBitmap ids, NomeRuolo ruolo) {
+        return new DipendentiRiorganizzatiEvent(ids, null, null, ruolo);
+    }
+
+    // Getter
+
+    public RoaringBitmap getIds() {
+        return ids;
+    }
+
+    public NomeDipartimento getDipartimento() {
+        return dipartimento;
+    }
+
+    public NomeRuolo getRuoloAggiunto() {
+        return ruoloAggiunto;
+    }
+
+    public NomeRuolo getRuoloRimosso() {
+        return ruoloRimosso;
+    }
+}
@@ -0,0 +1,180 @@
+package it.corso.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * La classe {@code IndiceInMemoria} è la base degli indici che mantengono in memoria una copia dei dati dei
+ * dipendenti: la caricano all'avvio e la aggiornano in modo incrementale a ogni {@link DipendentiModificatiEvent}
+ * e {@link DipendentiRiorganizzatiEvent}, dopo il commit della transazione che ha modificato i dipendenti.
+ *
+ * La ricostruzione legge i dati in una transazione in sola lettura e costruisce una nuova struttura, che
+ * sostituisce la precedente solo al termine della lettura. Gli eventi ricevuti durante la lettura vengono
+ * applicati sia alla struttura corrente sia, prima della sostituzione, a quella nuova: le modifiche confermate
+ * mentre la lettura è in corso, comprese quelle accettate prima di {@link ApplicationReadyEvent}, non vanno perse.
+ * Riapplicare un evento già compreso nella lettura non ha effetto, perché ogni evento contiene lo stato completo
+ * dei dipendenti o, per le riorganizzazioni, il valore assoluto del dipartimento o del ruolo modificato.
+ *
+ * Letture e scritture della struttura sono coordinate da un {@link ReentrantReadWriteLock}: le sottoclassi
+ * la leggono con {@link #consulta(Function)} e non devono quindi renderla thread-safe.
+ *
+ * @param <T> la struttura dati dell'indice
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public abstract class IndiceInMemoria<T> {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private T dati;
+
+    /**
+     * Gli eventi applicati durante una ricostruzione, da riapplicare alla nuova struttura prima della sostituzione;
+     * {@code null} se non è in corso alcuna ricostruzione. Protetto da {@link #lock}.
+     */
+    private List<Object> eventiInAttesa;
+
+    /**
+     * Serializza le ricostruzioni, così che ognuna raccolga gli eventi per l'intera durata della propria lettura.
+     */
+    private final Object caricamento = new Object();
+
+    /**
+     * @param dati la struttura vuota usata fino al primo caricamento
+     */
+    protected IndiceInMemoria(T dati) {
+        this.dati = dati;
+    }
+
+    /**
+     * Ricostruisce l'indice leggendo i dati dal database, senza perdere gli eventi ricevuti durante la lettura.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carica() {
+        synchronized (caricamento) {
+            lock.writeLock().lock();
+            try {
+                eventiInAttesa = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            T nuoviDati = null;
+            try {
+                TransactionTemplate transazione = new TransactionTemplate(transactionManager);
+                transazione.setReadOnly(true);
+                nuoviDati = transazione.execute(status -> leggi());
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (nuoviDati != null) {
+                        for (Object event : eventiInAttesa) {
+                            riapplica(nuoviDati, event);
+                        }
+                        dati = nuoviDati;
+                    }
+                    eventiInAttesa = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Aggiorna l'indice con i dipendenti registrati, modificati o eliminati.
+     *
+     * @param event l'evento con le modifiche
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDipendentiModificati(DipendentiModificatiEvent event) {
+        registra(event);
+    }
+
+    /**
+     * Aggiorna l'indice dopo un trasferimento di dipartimento o una riassegnazione di ruoli eseguiti
+     * con istruzioni massive, applicando la modifica ai soli dipendenti indicati nell'evento.
+     *
+     * @param event l'evento dell'operazione massiva
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDipendentiRiorganizzati(DipendentiRiorganizzatiEvent event) {
+        registra(event);
+    }
+
+    private void registra(Object event) {
+        lock.writeLock().lock();
+        try {
+            riapplica(dati, event);
+            if (eventiInAttesa != null) {
+                eventiInAttesa.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void riapplica(T struttura, Object event) {
+        switch (event) {
+            case DipendentiModificatiEvent modificati -> applica(struttura, modificati);
+            case DipendentiRiorganizzatiEvent riorganizzati -> applica(struttura, riorganizzati);
+            default -> throw new IllegalStateException("Evento non previsto: " + event);
+        }
+    }
+
+    /**
+     * Esegue una lettura della struttura corrente mentre nessun evento la sta modificando.
+     *
+     * @param <R> il tipo del risultato
+     * @param lettura la lettura, che non deve modificare la struttura né restituirne parti modificabili
+     * @return il risultato della lettura
+     */
+    protected <R> R consulta(Function<? super T, R> lettura) {
+        lock.readLock().lock();
+        try {
+            return lettura.apply(dati);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Legge dal database una nuova struttura completa. Viene invocato all'interno di una transazione in sola lettura.
+     *
+     * @return la nuova struttura
+     */
+    protected abstract T leggi();
+
+    /**
+     * Applica alla struttura i dipendenti registrati, modificati o eliminati.
+     *
+     * @param struttura la struttura da aggiornare
+     * @param event l'evento con le modifiche
+     */
+    protected abstract void applica(T struttura, DipendentiModificatiEvent event);
+
+    /**
+     * Applica alla struttura una riorganizzazione massiva. Non fa nulla per gli indici che non contengono
+     * dipartimento e ruoli dei dipendenti.
+     *
+     * @param struttura la struttura da aggiornare
+     * @param event l'evento dell'operazione massiva
+     */
+    protected void applica(T struttura, DipendentiRiorganizzatiEvent event) {
+    }
+
+}
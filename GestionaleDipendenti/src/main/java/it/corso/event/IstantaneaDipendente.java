@@ -0,0 +1,84 @@
+package it.corso.event;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+
+/**
+ * La classe {@code IstantaneaDipendente} contiene una copia immutabile dei dati di un dipendente
+ * nel momento in cui è stato salvato, con dipartimento e ruoli espressi tramite i rispettivi enum.
+ *
+ * Viene trasportata da {@link DipendentiModificatiEvent} e può essere letta dopo la chiusura della transazione,
+ * senza accedere al contesto di persistenza né inizializzare associazioni lazy.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public final class IstantaneaDipendente {
+
+    private final int id;
+
+    private final String nome;
+
+    private final String cognome;
+
+    private final LocalDate dataNascita;
+
+    private final LocalDate dataAssunzione;
+
+    private final double stipendio;
+
+    private final NomeDipartimento dipartimento;
+
+    private final Set<NomeRuolo> ruoli;
+
+    public IstantaneaDipendente(int id, String nome, String cognome, LocalDate dataNascita, LocalDate dataAssunzione,
+            double stipendio, NomeDipartimento dipartimento, Set<NomeRuolo> ruoli) {
+        this.id = id;
+        this.nome = nome;
+        this.cognome = cognome;
+        this.dataNascita = dataNascita;
+        this.dataAssunzione = dataAssunzione;
+        this.stipendio = stipendio;
+        this.dipartimento = dipartimento;
+        this.ruoli = Set.copyOf(ruoli);
+    }
+
+    // Getter
+
+    public int getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getCognome() {
+        return cognome;
+    }
+
+    public LocalDate getDataNascita() {
+        return dataNascita;
+    }
+
+    public LocalDate getDataAssunzione() {
+        return dataAssunzione;
+    }
+
+    public double getStipendio() {
+        return stipendio;
+    }
+
+    public NomeDipartimento getDipartimento() {
+        return dipartimento;
+    }
+
+    public Set<NomeRuolo> getRuoli() {
+        return ruoli;
+    }
+}
@@ -0,0 +1,533 @@
+package it.corso.generatore;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+
+/**
+ * La classe {@code GeneratoreDataset} genera dipendenti sintetici e li scrive direttamente nelle tabelle
+ * {@code dipendente} e {@code dipendente_ruolo} con batch JDBC, senza passare per JPA.
+ * Le righe mancanti di {@code dipartimento} e {@code ruolo} vengono create, una per ciascun valore
+ * di {@link NomeDipartimento} e {@link NomeRuolo}.
+ *
+ * La generazione è deterministica: a parità di seme, numero di dipendenti e contenuto iniziale delle tabelle
+ * produce gli stessi dati. Le date sono calcolate rispetto a {@link #DATA_RIFERIMENTO} e non alla data corrente.
+ *
+ * Le distribuzioni approssimano quelle di un'azienda reale:
+ * <ul>
+ * <li>nomi e cognomi: scelti da elenchi ordinati per frequenza, con i primi più probabili degli ultimi;</li>
+ * <li>dipartimento: con pesi diversi per dipartimento ({@code IT} il più numeroso);</li>
+ * <li>ruoli: un ruolo per circa l'80% dei dipendenti, due per il 17% e tre per il 3%, con {@code Impiegato}
+ *     il più frequente e un solo {@code CEO} ogni 10000 dipendenti circa;</li>
+ * <li>età: normale con media 42 anni, compresa tra 20 e 66;</li>
+ * <li>anzianità: esponenziale con media 7 anni, non precedente al compimento dei 18 anni;</li>
+ * <li>stipendio: log-normale attorno a una base che dipende dal ruolo più pagato e dal dipartimento,
+ *     con un aumento dell'1,5% per anno di anzianità, arrotondato alle centinaia.</li>
+ * </ul>
+ *
+ * I dipendenti vengono scritti a blocchi da {@code gestionale.generatore.scrittori} thread in parallelo,
+ * ciascuno con la propria connessione e un commit per blocco. Con MySQL i batch vengono inviati come INSERT multi-riga
+ * grazie a {@code rewriteBatchedStatements=true} nell'URL del datasource, oppure, con
+ * {@code gestionale.generatore.load-data=true}, caricati con {@code LOAD DATA LOCAL INFILE}; durante la generazione
+ * vengono disattivati per la sessione i controlli delle chiavi esterne e di unicità, che i dati generati
+ * rispettano per costruzione.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+public class GeneratoreDataset {
+
+    /**
+     * Data rispetto alla quale vengono calcolate età e anzianità dei dipendenti generati.
+     */
+    public static final LocalDate DATA_RIFERIMENTO = LocalDate.of(2025, 1, 1);
+
+    private static final int DIMENSIONE_BLOCCO = 5000;
+
+    private static final String[] NOMI = { "Giuseppe", "Maria", "Giovanni", "Anna", "Antonio", "Giuseppina", "Mario",
+            "Rosa", "Luigi", "Angela", "Francesco", "Giovanna", "Angelo", "Teresa", "Vincenzo", "Lucia", "Pietro",
+            "Carmela", "Salvatore", "Caterina", "Carlo", "Francesca", "Franco", "Laura", "Domenico", "Antonietta",
+            "Bruno", "Carla", "Paolo", "Elena", "Michele", "Concetta", "Giorgio", "Rita", "Aldo", "Margherita",
+            "Sergio", "Franca", "Luciano", "Paola", "Marco", "Giulia", "Luca", "Chiara", "Alessandro", "Sara",
+            "Andrea", "Alessia", "Matteo", "Giorgia", "Lorenzo", "Martina" };
+
+    private static final String[] COGNOMI = { "Rossi", "Russo", "Ferrari", "Esposito", "Bianchi", "Romano", "Colombo",
+            "Ricci", "Marino", "Greco", "Bruno", "Gallo", "Conti", "Costa", "Giordano", "Mancini", "Rizzo", "Lombardi",
+            "Moretti", "Barbieri", "Fontana", "Santoro", "Mariani", "Rinaldi", "Caruso", "Ferrara", "Galli", "Martini",
+            "Leone", "Longo", "Gentile", "Martinelli", "Vitale", "Lombardo", "Serra", "Coppola", "Santini", "Marchetti",
+            "Parisi", "Villa", "Conte", "Ferraro", "Ferri", "Fabbri", "Bianco", "Marini", "Grasso", "Valentini",
+            "Messina", "Sala", "Gatti", "Pellegrini", "Palumbo", "Sanna", "Farina", "Rizzi", "Monti", "Cattaneo",
+            "Morelli", "Amato", "Silvestri", "Mazza", "Testa", "Grassi", "Pellegrino", "Carbone", "Giuliani",
+            "Benedetti", "Barone", "Rossetti", "Caputo", "Montanari", "Guerra", "Palmieri", "Bernardi", "Martino",
+            "Fiore", "Ferretti", "Bellini", "Basile", "Riva", "Donati", "Piras", "Vitali", "Battaglia", "Sartori",
+            "Neri", "Costantini", "Milani", "Pagano", "Ruggiero", "Sorrentino", "Orlando", "Damico", "Negri" };
+
+    private static final EnumMap<NomeDipartimento, Integer> PESI_DIPARTIMENTO = new EnumMap<>(NomeDipartimento.class);
+
+    private static final EnumMap<NomeDipartimento, Double> FATTORI_DIPARTIMENTO = new EnumMap<>(NomeDipartimento.class);
+
+    private static final EnumMap<NomeRuolo, Integer> PESI_RUOLO = new EnumMap<>(NomeRuolo.class);
+
+    private static final EnumMap<NomeRuolo, Double> STIPENDI_BASE = new EnumMap<>(NomeRuolo.class);
+
+    static {
+        PESI_DIPARTIMENTO.put(NomeDipartimento.Amministrativo, 15);
+        PESI_DIPARTIMENTO.put(NomeDipartimento.Finanza, 12);
+        PESI_DIPARTIMENTO.put(NomeDipartimento.Marketing, 18);
+        PESI_DIPARTIMENTO.put(NomeDipartimento.IT, 40);
+        PESI_DIPARTIMENTO.put(NomeDipartimento.HR, 15);
+        FATTORI_DIPARTIMENTO.put(NomeDipartimento.Amministrativo, 0.95);
+        FATTORI_DIPARTIMENTO.put(NomeDipartimento.Finanza, 1.15);
+        FATTORI_DIPARTIMENTO.put(NomeDipartimento.Marketing, 1.0);
+        FATTORI_DIPARTIMENTO.put(NomeDipartimento.IT, 1.1);
+        FATTORI_DIPARTIMENTO.put(NomeDipartimento.HR, 0.95);
+        PESI_RUOLO.put(NomeRuolo.CEO, 1);
+        PESI_RUOLO.put(NomeRuolo.Recruiter, 900);
+        PESI_RUOLO.put(NomeRuolo.Segretario, 800);
+        PESI_RUOLO.put(NomeRuolo.Impiegato, 7000);
+        PESI_RUOLO.put(NomeRuolo.Manager, 1299);
+        STIPENDI_BASE.put(NomeRuolo.CEO, 180000.0);
+        STIPENDI_BASE.put(NomeRuolo.Recruiter, 32000.0);
+        STIPENDI_BASE.put(NomeRuolo.Segretario, 26000.0);
+        STIPENDI_BASE.put(NomeRuolo.Impiegato, 29000.0);
+        STIPENDI_BASE.put(NomeRuolo.Manager, 52000.0);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${gestionale.generatore.scrittori:4}")
+    private int scrittori;
+
+    @Value("${gestionale.generatore.load-data:false}")
+    private boolean loadData;
+
+    /**
+     * Genera e inserisce i dipendenti, con ID successivi al massimo già presente, e aggiorna il generatore di ID
+     * usato da Hibernate ({@code id_generatore}) in modo che i dipendenti registrati in seguito non ne riusino gli ID.
+     *
+     * @param numero il numero di dipendenti da generare
+     * @param seme il seme del generatore casuale
+     * @return il numero di righe inserite in {@code dipendente_ruolo}
+     * @throws SQLException se una scrittura fallisce; le righe dei blocchi già confermati restano nel database
+     */
+    public long genera(int numero, long seme) throws SQLException {
+        try (Connection connessione = dataSource.getConnection()) {
+            boolean autoCommit = connessione.getAutoCommit();
+            boolean mysql = "MySQL".equals(connessione.getMetaData().getDatabaseProductName());
+            if (loadData && !mysql) {
+                throw new SQLFeatureNotSupportedException("gestionale.generatore.load-data è supportato solo con MySQL");
+            }
+            connessione.setAutoCommit(false);
+            try {
+                int[] idDipartimenti = idDipartimenti(connessione);
+                int[] idRuoli = idRuoli(connessione);
+                int primoId = maxIdDipendente(connessione) + 1;
+                connessione.commit();
+                long righeRuoli = inserisciDipendenti(mysql, seme, primoId, numero, idDipartimenti, idRuoli);
+                aggiornaIdGeneratore(connessione, primoId + numero);
+                connessione.commit();
+                return righeRuoli;
+            } catch (SQLException e) {
+                connessione.rollback();
+                throw e;
+            } finally {
+                connessione.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Divide i dipendenti in blocchi di {@link #DIMENSIONE_BLOCCO} e li fa scrivere da {@code gestionale.generatore.scrittori}
+     * thread, ciascuno con la propria connessione, che si contendono i blocchi finché non sono esauriti.
+     * Ogni blocco ha un generatore casuale ricavato dal seme e dal numero del blocco, quindi i dati non dipendono
+     * né dal numero di scrittori né dall'ordine in cui i blocchi vengono scritti.
+     * Al primo errore gli altri scrittori terminano dopo il blocco in corso.
+     */
+    private long inserisciDipendenti(boolean mysql, long seme, int primoId, int numero, int[] idDipartimenti,
+            int[] idRuoli) throws SQLException {
+        int blocchi = (numero + DIMENSIONE_BLOCCO - 1) / DIMENSIONE_BLOCCO;
+        AtomicInteger prossimoBlocco = new AtomicInteger();
+        AtomicLong righeRuoli = new AtomicLong();
+        List<Future<Void>> scritture = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(scrittori, blocchi)))) {
+            for (int i = 0; i < Math.min(scrittori, blocchi); i++) {
+                scritture.add(executor.submit(() -> {
+                    scriviBlocchi(mysql, seme, primoId, numero, blocchi, prossimoBlocco, righeRuoli, idDipartimenti, idRuoli);
+                    return null;
+                }));
+            }
+        }
+        for (Future<Void> scrittura : scritture) {
+            try {
+                scrittura.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof SQLException sqlException ? sqlException : new SQLException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+        }
+        return righeRuoli.get();
+    }
+
+    private void scriviBlocchi(boolean mysql, long seme, int primoId, int numero, int blocchi, AtomicInteger prossimoBlocco,
+            AtomicLong righeRuoli, int[] idDipartimenti, int[] idRuoli) throws SQLException, IOException {
+        try (Connection connessione = dataSource.getConnection()) {
+            boolean autoCommit = connessione.getAutoCommit();
+            connessione.setAutoCommit(false);
+            if (mysql) {
+                impostaControlli(connessione, 0);
+            }
+            try (Scrittura scrittura = loadData ? new ScritturaLoadData(connessione) : new ScritturaBatch(connessione)) {
+                int blocco;
+                while ((blocco = prossimoBlocco.getAndIncrement()) < blocchi) {
+                    int inizio = blocco * DIMENSIONE_BLOCCO;
+                    Random random = new Random(seme ^ (blocco * 0x9E3779B97F4A7C15L));
+                    long righe = generaBlocco(random, primoId + inizio, Math.min(DIMENSIONE_BLOCCO, numero - inizio),
+                            idDipartimenti, idRuoli, scrittura);
+                    scrittura.scrivi();
+                    connessione.commit();
+                    righeRuoli.addAndGet(righe);
+                }
+            } catch (SQLException | IOException | RuntimeException e) {
+                prossimoBlocco.set(blocchi);
+                connessione.rollback();
+                throw e;
+            } finally {
+                if (mysql) {
+                    impostaControlli(connessione, 1);
+                }
+                connessione.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Genera un blocco di dipendenti consecutivi e li passa a {@code scrittura}.
+     *
+     * @return il numero di righe di {@code dipendente_ruolo} generate
+     */
+    private long generaBlocco(Random random, int primoId, int numero, int[] idDipartimenti, int[] idRuoli,
+            Scrittura scrittura) throws SQLException, IOException {
+        NomeDipartimento[] dipartimenti = NomeDipartimento.values();
+        NomeRuolo[] ruoli = NomeRuolo.values();
+        int[] cumulatiDipartimenti = cumulati(dipartimenti, PESI_DIPARTIMENTO);
+        int[] cumulatiRuoli = cumulati(ruoli, PESI_RUOLO);
+        long righeRuoli = 0;
+        for (int i = 0; i < numero; i++) {
+            int id = primoId + i;
+            NomeDipartimento dipartimento = dipartimenti[estrai(random, cumulatiDipartimenti)];
+            int numeroRuoli = random.nextInt(100) < 80 ? 1 : random.nextInt(100) < 85 ? 2 : 3;
+            int ruoliEstratti = 0;
+            double stipendioBase = 0;
+            while (Integer.bitCount(ruoliEstratti) < numeroRuoli) {
+                int ruolo = estrai(random, cumulatiRuoli);
+                if ((ruoliEstratti & (1 << ruolo)) == 0) {
+                    ruoliEstratti |= 1 << ruolo;
+                    stipendioBase = Math.max(stipendioBase, STIPENDI_BASE.get(ruoli[ruolo]));
+                    scrittura.ruolo(id, idRuoli[ruolo]);
+                    righeRuoli++;
+                }
+            }
+            double eta = Math.min(66, Math.max(20, 42 + random.nextGaussian() * 10));
+            LocalDate dataNascita = DATA_RIFERIMENTO.minusDays(Math.round(eta * 365.25));
+            double anzianita = Math.min(eta - 18, -Math.log(1 - random.nextDouble()) * 7);
+            LocalDate dataAssunzione = DATA_RIFERIMENTO.minusDays(1 + Math.round(anzianita * 365.25));
+            double stipendio = stipendioBase * FATTORI_DIPARTIMENTO.get(dipartimento)
+                    * Math.exp(random.nextGaussian() * 0.2) * (1 + 0.015 * anzianita);
+
+            scrittura.dipendente(id, NOMI[estraiFrequente(random, NOMI.length)],
+                    COGNOMI[estraiFrequente(random, COGNOMI.length)], dataNascita, dataAssunzione,
+                    Math.round(stipendio / 100) * 100.0, idDipartimenti[dipartimento.ordinal()]);
+        }
+        return righeRuoli;
+    }
+
+    /**
+     * Destinazione delle righe di un blocco: le accumula con {@link #dipendente} e {@link #ruolo}
+     * e le invia al database con {@link #scrivi()}, prima del commit del blocco.
+     */
+    private interface Scrittura extends AutoCloseable {
+
+        void dipendente(int id, String nome, String cognome, LocalDate dataNascita, LocalDate dataAssunzione,
+                double stipendio, int idDipartimento) throws SQLException, IOException;
+
+        void ruolo(int idDipendente, int idRuolo) throws SQLException, IOException;
+
+        void scrivi() throws SQLException, IOException;
+
+        @Override
+        void close() throws SQLException, IOException;
+
+    }
+
+    /**
+     * Scrive le righe con batch JDBC; con MySQL {@code rewriteBatchedStatements=true} li trasforma in INSERT multi-riga.
+     */
+    private static class ScritturaBatch implements Scrittura {
+
+        private final PreparedStatement dipendente;
+
+        private final PreparedStatement dipendenteRuolo;
+
+        ScritturaBatch(Connection connessione) throws SQLException {
+            dipendente = connessione.prepareStatement("INSERT INTO dipendente (id, nome, cognome, data_nascita, "
+                    + "data_assunzione, stipendio, id_dipartimento) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            dipendenteRuolo = connessione.prepareStatement("INSERT INTO dipendente_ruolo (id_dipendente, id_ruolo) VALUES (?, ?)");
+        }
+
+        @Override
+        public void dipendente(int id, String nome, String cognome, LocalDate dataNascita, LocalDate dataAssunzione,
+                double stipendio, int idDipartimento) throws SQLException {
+            dipendente.setInt(1, id);
+            dipendente.setString(2, nome);
+            dipendente.setString(3, cognome);
+            dipendente.setDate(4, Date.valueOf(dataNascita));
+            dipendente.setDate(5, Date.valueOf(dataAssunzione));
+            dipendente.setDouble(6, stipendio);
+            dipendente.setInt(7, idDipartimento);
+            dipendente.addBatch();
+        }
+
+        @Override
+        public void ruolo(int idDipendente, int idRuolo) throws SQLException {
+            dipendenteRuolo.setInt(1, idDipendente);
+            dipendenteRuolo.setInt(2, idRuolo);
+            dipendenteRuolo.addBatch();
+        }
+
+        @Override
+        public void scrivi() throws SQLException {
+            dipendente.executeBatch();
+            dipendenteRuolo.executeBatch();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (dipendente; dipendenteRuolo) {
+            }
+        }
+
+    }
+
+    /**
+     * Scrive le righe in due file temporanei separati da tabulazioni e li carica con {@code LOAD DATA LOCAL INFILE},
+     * che evita il parsing di un INSERT per riga. Richiede {@code local_infile=ON} sul server e il permesso lato
+     * client, concesso dal profilo {@code generatore} con {@code allowLoadLocalInfileInPath} sulla cartella temporanea.
+     */
+    private static class ScritturaLoadData implements Scrittura {
+
+        private final Connection connessione;
+
+        private final Path fileDipendenti;
+
+        private final Path fileRuoli;
+
+        private BufferedWriter dipendenti;
+
+        private BufferedWriter ruoli;
+
+        ScritturaLoadData(Connection connessione) throws IOException {
+            this.connessione = connessione;
+            fileDipendenti = Files.createTempFile("dipendente", ".tsv");
+            fileRuoli = Files.createTempFile("dipendente_ruolo", ".tsv");
+            apri();
+        }
+
+        private void apri() throws IOException {
+            dipendenti = Files.newBufferedWriter(fileDipendenti, StandardCharsets.UTF_8);
+            ruoli = Files.newBufferedWriter(fileRuoli, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void dipendente(int id, String nome, String cognome, LocalDate dataNascita, LocalDate dataAssunzione,
+                double stipendio, int idDipartimento) throws IOException {
+            dipendenti.append(Integer.toString(id)).append('\t').append(nome).append('\t').append(cognome).append('\t')
+                    .append(dataNascita.toString()).append('\t').append(dataAssunzione.toString()).append('\t')
+                    .append(Double.toString(stipendio)).append('\t').append(Integer.toString(idDipartimento)).append('\n');
+        }
+
+        @Override
+        public void ruolo(int idDipendente, int idRuolo) throws IOException {
+            ruoli.append(Integer.toString(idDipendente)).append('\t').append(Integer.toString(idRuolo)).append('\n');
+        }
+
+        @Override
+        public void scrivi() throws SQLException, IOException {
+            dipendenti.close();
+            ruoli.close();
+            carica(fileDipendenti, "dipendente", "id, nome, cognome, data_nascita, data_assunzione, stipendio, id_dipartimento");
+            carica(fileRuoli, "dipendente_ruolo", "id_dipendente, id_ruolo");
+            apri();
+        }
+
+        private void carica(Path file, String tabella, String colonne) throws SQLException {
+            try (Statement statement = connessione.createStatement()) {
+                statement.execute("LOAD DATA LOCAL INFILE '" + file.toAbsolutePath().toString().replace('\\', '/')
+                        + "' INTO TABLE " + tabella + " CHARACTER SET utf8mb4"
+                        + " FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' (" + colonne + ")");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                dipendenti.close();
+                ruoli.close();
+            } finally {
+                Files.deleteIfExists(fileDipendenti);
+                Files.deleteIfExists(fileRuoli);
+            }
+        }
+
+    }
+
+    /**
+     * Restituisce gli ID dei dipartimenti indicizzati per ordinale di {@link NomeDipartimento},
+     * inserendo i dipartimenti mancanti.
+     */
+    private int[] idDipartimenti(Connection connessione) throws SQLException {
+        NomeDipartimento[] nomi = NomeDipartimento.values();
+        String[] nomiStringa = new String[nomi.length];
+        for (int i = 0; i < nomi.length; i++) {
+            nomiStringa[i] = nomi[i].name();
+        }
+        return idRiferimento(connessione, "dipartimento", nomiStringa);
+    }
+
+    /**
+     * Restituisce gli ID dei ruoli indicizzati per ordinale di {@link NomeRuolo}, inserendo i ruoli mancanti.
+     */
+    private int[] idRuoli(Connection connessione) throws SQLException {
+        NomeRuolo[] nomi = NomeRuolo.values();
+        String[] nomiStringa = new String[nomi.length];
+        for (int i = 0; i < nomi.length; i++) {
+            nomiStringa[i] = nomi[i].name();
+        }
+        return idRiferimento(connessione, "ruolo", nomiStringa);
+    }
+
+    private int[] idRiferimento(Connection connessione, String tabella, String[] nomi) throws SQLException {
+        int[] ids = new int[nomi.length];
+        int maxId = 0;
+        try (Statement statement = connessione.createStatement();
+                ResultSet righe = statement.executeQuery("SELECT id, nome FROM " + tabella)) {
+            while (righe.next()) {
+                maxId = Math.max(maxId, righe.getInt(1));
+                for (int i = 0; i < nomi.length; i++) {
+                    if (nomi[i].equals(righe.getString(2))) {
+                        ids[i] = righe.getInt(1);
+                    }
+                }
+            }
+        }
+        try (PreparedStatement inserimento = connessione.prepareStatement("INSERT INTO " + tabella + " (id, nome) VALUES (?, ?)")) {
+            for (int i = 0; i < nomi.length; i++) {
+                if (ids[i] == 0) {
+                    ids[i] = ++maxId;
+                    inserimento.setInt(1, ids[i]);
+                    inserimento.setString(2, nomi[i]);
+                    inserimento.executeUpdate();
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void impostaControlli(Connection connessione, int valore) throws SQLException {
+        try (Statement statement = connessione.createStatement()) {
+            statement.execute("SET SESSION foreign_key_checks = " + valore + ", unique_checks = " + valore);
+        }
+    }
+
+    private int maxIdDipendente(Connection connessione) throws SQLException {
+        try (Statement statement = connessione.createStatement();
+                ResultSet righe = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM dipendente")) {
+            righe.next();
+            return righe.getInt(1);
+        }
+    }
+
+    /**
+     * Porta il prossimo ID di {@code id_generatore} almeno a {@code prossimoId}, creando la riga se manca.
+     */
+    private void aggiornaIdGeneratore(Connection connessione, int prossimoId) throws SQLException {
+        Long valore = null;
+        try (Statement statement = connessione.createStatement();
+                ResultSet righe = statement.executeQuery("SELECT valore FROM id_generatore WHERE nome_sequenza = 'dipendente'")) {
+            if (righe.next()) {
+                valore = righe.getLong(1);
+            }
+        }
+        String sql = valore == null ? "INSERT INTO id_generatore (valore, nome_sequenza) VALUES (?, 'dipendente')"
+                : "UPDATE id_generatore SET valore = ? WHERE nome_sequenza = 'dipendente'";
+        if (valore == null || valore < prossimoId) {
+            try (PreparedStatement statement = connessione.prepareStatement(sql)) {
+                statement.setLong(1, prossimoId);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private static <E extends Enum<E>> int[] cumulati(E[] valori, EnumMap<E, Integer> pesi) {
+        int[] cumulati = new int[valori.length];
+        int somma = 0;
+        for (int i = 0; i < valori.length; i++) {
+            somma += pesi.getOrDefault(valori[i], 1);
+            cumulati[i] = somma;
+        }
+        return cumulati;
+    }
+
+    private static int estrai(Random random, int[] cumulati) {
+        int estratto = random.nextInt(cumulati[cumulati.length - 1]);
+        int i = 0;
+        while (cumulati[i] <= estratto) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Estrae un indice tra {@code 0} e {@code numero - 1} con probabilità decrescente, in modo che i primi elementi
+     * degli elenchi (i più frequenti) vengano scelti più spesso degli ultimi.
+     */
+    private static int estraiFrequente(Random random, int numero) {
+        double u = random.nextDouble();
+        return (int) (u * u * numero);
+    }
+
+}
@@ -0,0 +1,63 @@
+package it.corso.generatore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * La classe {@code GeneratoreRunner} avvia {@link GeneratoreDataset} quando è attivo il profilo {@code generatore}
+ * e termina l'applicazione al termine della generazione, prima che vengano caricati gli indici in memoria.
+ *
+ * <pre>
+ * java -jar GestionaleDipendenti.jar --spring.profiles.active=generatore --gestionale.generatore.dipendenti=1000000 --gestionale.generatore.seme=42
+ * </pre>
+ *
+ * <ul>
+ * <li>{@code gestionale.generatore.dipendenti}: Il numero di dipendenti da generare (predefinito 1000000).</li>
+ * <li>{@code gestionale.generatore.seme}: Il seme del generatore casuale (predefinito 42).</li>
+ * <li>{@code gestionale.generatore.scrittori}: Il numero di thread che scrivono in parallelo (predefinito 4),
+ *     non superiore alla dimensione del pool di connessioni.</li>
+ * <li>{@code gestionale.generatore.load-data}: Se {@code true}, con MySQL carica i dati con {@code LOAD DATA LOCAL INFILE}
+ *     (predefinito {@code false}); il server deve avere {@code local_infile=ON}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+@Profile("generatore")
+public class GeneratoreRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(GeneratoreRunner.class);
+
+    @Autowired
+    private GeneratoreDataset generatoreDataset;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${gestionale.generatore.dipendenti:1000000}")
+    private int dipendenti;
+
+    @Value("${gestionale.generatore.seme:42}")
+    private long seme;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long inizio = System.nanoTime();
+        long righeRuoli = generatoreDataset.genera(dipendenti, seme);
+        long millis = (System.nanoTime() - inizio) / 1_000_000;
+        log.info("Generati {} dipendenti e {} ruoli in {} ms (seme {})", dipendenti, righeRuoli, millis, seme);
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+}
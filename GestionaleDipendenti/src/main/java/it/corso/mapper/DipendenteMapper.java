@@ -0,0 +1,147 @@
+package it.corso.mapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import it.corso.dto.DipendenteByDipartimentoDto;
+import it.corso.dto.DipendenteByRuoloDto;
+import it.corso.dto.DipendenteDipartimentoDto;
+import it.corso.dto.DipendenteDto;
+import it.corso.dto.DipendenteDtoRegistration;
+import it.corso.dto.DipendenteRuoloDto;
+import it.corso.model.Dipartimento;
+import it.corso.model.Dipendente;
+import it.corso.model.Ruolo;
+
+/**
+ * La classe {@code DipendenteMapper} converte l'entità {@link Dipendente} nei DTO del package {@code it.corso.dto}
+ * e il DTO di registrazione nell'entità, copiando i campi in modo esplicito senza ricorrere alla reflection.
+ *
+ * La semantica dei campi è la stessa della mappatura per nome usata in precedenza con ModelMapper:
+ * un dipartimento {@code null} produce un DTO del dipartimento {@code null}, un insieme di ruoli {@code null}
+ * produce una lista {@code null}, e i ruoli vengono sempre copiati in una nuova {@link ArrayList}.
+ *
+ * <ul>
+ * <li>{@link #toDipendenteDto(Dipendente)}: Converte un dipendente in {@link DipendenteDto}.</li>
+ * <li>{@link #toDipendenteByDipartimentoDto(Dipendente)}: Converte un dipendente in {@link DipendenteByDipartimentoDto}.</li>
+ * <li>{@link #toDipendenteByRuoloDto(Dipendente)}: Converte un dipendente in {@link DipendenteByRuoloDto}.</li>
+ * <li>{@link #toDipartimentoDto(Dipartimento)}: Converte un dipartimento in {@link DipendenteDipartimentoDto}.</li>
+ * <li>{@link #toRuoliDto(Collection)}: Converte una collezione di ruoli in una lista di {@link DipendenteRuoloDto}.</li>
+ * <li>{@link #toDipendente(DipendenteDtoRegistration)}: Converte il DTO di registrazione in un nuovo {@link Dipendente}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+public class DipendenteMapper {
+
+    /**
+     * Converte un dipendente nel DTO completo, con dipartimento e ruoli.
+     *
+     * @param dipendente il dipendente da convertire
+     * @return il {@link DipendenteDto} corrispondente
+     */
+    public DipendenteDto toDipendenteDto(Dipendente dipendente) {
+        DipendenteDto dto = new DipendenteDto();
+        dto.setNome(dipendente.getNome());
+        dto.setCognome(dipendente.getCognome());
+        dto.setDataNascita(dipendente.getDataNascita());
+        dto.setDataAssunzione(dipendente.getDataAssunzione());
+        dto.setStipendio(dipendente.getStipendio());
+        dto.setDipartimento(toDipartimentoDto(dipendente.getDipartimento()));
+        dto.setRuoli(toRuoliDto(dipendente.getRuoli()));
+        return dto;
+    }
+
+    /**
+     * Converte un dipendente nel DTO usato per la ricerca per dipartimento, che include i ruoli ma non il dipartimento.
+     *
+     * @param dipendente il dipendente da convertire
+     * @return il {@link DipendenteByDipartimentoDto} corrispondente
+     */
+    public DipendenteByDipartimentoDto toDipendenteByDipartimentoDto(Dipendente dipendente) {
+        DipendenteByDipartimentoDto dto = new DipendenteByDipartimentoDto();
+        dto.setNome(dipendente.getNome());
+        dto.setCognome(dipendente.getCognome());
+        dto.setDataNascita(dipendente.getDataNascita());
+        dto.setDataAssunzione(dipendente.getDataAssunzione());
+        dto.setStipendio(dipendente.getStipendio());
+        dto.setRuoli(toRuoliDto(dipendente.getRuoli()));
+        return dto;
+    }
+
+    /**
+     * Converte un dipendente nel DTO usato per la ricerca per ruolo, che include il dipartimento ma non i ruoli.
+     *
+     * @param dipendente il dipendente da convertire
+     * @return il {@link DipendenteByRuoloDto} corrispondente
+     */
+    public DipendenteByRuoloDto toDipendenteByRuoloDto(Dipendente dipendente) {
+        DipendenteByRuoloDto dto = new DipendenteByRuoloDto();
+        dto.setNome(dipendente.getNome());
+        dto.setCognome(dipendente.getCognome());
+        dto.setDataNascita(dipendente.getDataNascita());
+        dto.setDataAssunzione(dipendente.getDataAssunzione());
+        dto.setStipendio(dipendente.getStipendio());
+        dto.setDipartimento(toDipartimentoDto(dipendente.getDipartimento()));
+        return dto;
+    }
+
+    /**
+     * Converte un dipartimento nel DTO annidato nei DTO del dipendente.
+     *
+     * @param dipartimento il dipartimento da convertire, può essere {@code null}
+     * @return il {@link DipendenteDipartimentoDto} corrispondente, o {@code null} se il dipartimento è {@code null}
+     */
+    public DipendenteDipartimentoDto toDipartimentoDto(Dipartimento dipartimento) {
+        if (dipartimento == null) {
+            return null;
+        }
+        DipendenteDipartimentoDto dto = new DipendenteDipartimentoDto();
+        dto.setNome(dipartimento.getNome());
+        return dto;
+    }
+
+    /**
+     * Converte una collezione di ruoli nella lista di DTO annidata nei DTO del dipendente, nell'ordine di iterazione.
+     *
+     * @param ruoli i ruoli da convertire, può essere {@code null}
+     * @return la lista di {@link DipendenteRuoloDto} corrispondente, o {@code null} se la collezione è {@code null}
+     */
+    public List<DipendenteRuoloDto> toRuoliDto(Collection<Ruolo> ruoli) {
+        if (ruoli == null) {
+            return null;
+        }
+        List<DipendenteRuoloDto> dto = new ArrayList<>(ruoli.size());
+        for (Ruolo ruolo : ruoli) {
+            DipendenteRuoloDto ruoloDto = new DipendenteRuoloDto();
+            ruoloDto.setNome(ruolo.getNome());
+            dto.add(ruoloDto);
+        }
+        return dto;
+    }
+
+    /**
+     * Crea un nuovo dipendente a partire dal DTO di registrazione, copiando i dati anagrafici e lo stipendio.
+     * Dipartimento e ruoli non vengono copiati: devono essere risolti e associati dal chiamante.
+     *
+     * @param dipendenteDto il DTO di registrazione
+     * @return il nuovo {@link Dipendente}, non ancora salvato
+     */
+    public Dipendente toDipendente(DipendenteDtoRegistration dipendenteDto) {
+        Dipendente dipendente = new Dipendente();
+        dipendente.setNome(dipendenteDto.getNome());
+        dipendente.setCognome(dipendenteDto.getCognome());
+        dipendente.setDataNascita(dipendenteDto.getDataNascita());
+        dipendente.setDataAssunzione(dipendenteDto.getDataAssunzione());
+        dipendente.setStipendio(dipendenteDto.getStipendio());
+        return dipendente;
+    }
+
+}
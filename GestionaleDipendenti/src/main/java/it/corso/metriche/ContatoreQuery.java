@@ -0,0 +1,46 @@
+package it.corso.metriche;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * La classe {@code ContatoreQuery} conta le istruzioni SQL preparate da Hibernate nel thread corrente,
+ * senza modificarle. Viene registrata come {@link StatementInspector} da {@link it.corso.config.MetricheConfig}
+ * e letta da {@link MetricheRichiestaFilter} per misurare le query eseguite da ogni richiesta HTTP.
+ *
+ * Il conteggio è associato al thread: le istruzioni eseguite su altri thread (ad esempio nelle esportazioni
+ * in streaming o nell'indicizzazione asincrona) non vengono attribuite alla richiesta.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class ContatoreQuery implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<int[]> CONTEGGIO = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        CONTEGGIO.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Azzera il conteggio del thread corrente.
+     */
+    public static void azzera() {
+        CONTEGGIO.get()[0] = 0;
+    }
+
+    /**
+     * Restituisce il numero di istruzioni preparate nel thread corrente dall'ultimo azzeramento.
+     *
+     * @return il numero di istruzioni
+     */
+    public static int conteggio() {
+        return CONTEGGIO.get()[0];
+    }
+
+}
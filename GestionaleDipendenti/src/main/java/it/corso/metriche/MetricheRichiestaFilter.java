@@ -0,0 +1,54 @@
+package it.corso.metriche;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * La classe {@code MetricheRichiestaFilter} registra il numero di istruzioni SQL eseguite da ogni richiesta HTTP
+ * nella distribuzione {@code gestionale.http.query}, con i tag {@code method} e {@code uri}.
+ * Il tag {@code uri} contiene il pattern dell'endpoint (ad esempio {@code /api/dipendente/get/{id}}), come per
+ * {@code http.server.requests}, in modo che le due metriche possano essere confrontate per endpoint.
+ *
+ * @see ContatoreQuery
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class MetricheRichiestaFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    public MetricheRichiestaFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContatoreQuery.azzera();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("gestionale.http.query")
+                    .description("Istruzioni SQL eseguite per richiesta")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .register(registry)
+                    .record(ContatoreQuery.conteggio());
+        }
+    }
+
+}
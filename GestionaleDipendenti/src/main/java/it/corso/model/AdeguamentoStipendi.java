@@ -0,0 +1,121 @@
+package it.corso.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+
+/**
+ * La classe {@code AdeguamentoStipendi} rappresenta un'entità che modella un adeguamento massivo degli stipendi
+ * avviato in background, con le sue regole e il punto di ripresa.
+ *
+ * L'adeguamento riguarda i dipendenti con ID fino a {@code ultimoId}, letto all'avvio, e viene eseguito a blocchi
+ * di ID consecutivi: {@code ultimoIdCompletato} è l'ultimo ID del blocco più recente confermato e viene aggiornato
+ * nella stessa transazione degli stipendi del blocco. Un adeguamento interrotto può quindi essere ripreso dal blocco
+ * successivo senza applicare due volte le regole ai dipendenti già adeguati.
+ *
+ * Le regole sono memorizzate già convertite, con la data di assunzione limite calcolata all'avvio,
+ * nella tabella {@code adeguamento_stipendi_regola}. La tabella associata nel database è {@code adeguamento_stipendi}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Entity
+@Table(name = "adeguamento_stipendi")
+public class AdeguamentoStipendi {
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Column(nullable = false, length = 16)
+    private String stato;
+
+    @Column(name = "ultimo_id")
+    private int ultimoId;
+
+    @Column(name = "ultimo_id_completato")
+    private int ultimoIdCompletato;
+
+    @Column(name = "blocchi_totali")
+    private int blocchiTotali;
+
+    @Column(name = "blocchi_completati")
+    private int blocchiCompletati;
+
+    /**
+     * Le regole dell'adeguamento, nell'ordine in cui vengono applicate.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "adeguamento_stipendi_regola", joinColumns = @JoinColumn(name = "id_adeguamento"))
+    @OrderColumn(name = "indice")
+    private List<RegolaAdeguamento> regole = new ArrayList<>();
+
+    // Getter e Setter
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStato() {
+        return stato;
+    }
+
+    public void setStato(String stato) {
+        this.stato = stato;
+    }
+
+    public int getUltimoId() {
+        return ultimoId;
+    }
+
+    public void setUltimoId(int ultimoId) {
+        this.ultimoId = ultimoId;
+    }
+
+    public int getUltimoIdCompletato() {
+        return ultimoIdCompletato;
+    }
+
+    public void setUltimoIdCompletato(int ultimoIdCompletato) {
+        this.ultimoIdCompletato = ultimoIdCompletato;
+    }
+
+    public int getBlocchiTotali() {
+        return blocchiTotali;
+    }
+
+    public void setBlocchiTotali(int blocchiTotali) {
+        this.blocchiTotali = blocchiTotali;
+    }
+
+    public int getBlocchiCompletati() {
+        return blocchiCompletati;
+    }
+
+    public void setBlocchiCompletati(int blocchiCompletati) {
+        this.blocchiCompletati = blocchiCompletati;
+    }
+
+    public List<RegolaAdeguamento> getRegole() {
+        return regole;
+    }
+
+    public void setRegole(List<RegolaAdeguamento> regole) {
+        this.regole = regole;
+    }
+}
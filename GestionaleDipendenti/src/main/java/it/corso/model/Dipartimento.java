@@ -3,6 +3,11 @@ package it.corso.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -22,10 +27,14 @@ import jakarta.persistence.Table;
  * 
  * La relazione tra {@code Dipartimento} e {@code Dipendente} è uno a molti, 
  * dove un dipartimento può avere più dipendenti associati. La relazione è mappata usando 
- * {@code OneToMany} con le operazioni di {@code CascadeType.REFRESH} e il fetch type {@code FetchType.EAGER}.
+ * {@code OneToMany} con le operazioni di {@code CascadeType.REFRESH} e il fetch type {@code FetchType.LAZY}.
  * 
  * Il campo {@code nome} è salvato come stringa e rappresenta un valore dell'enum {@link NomeDipartimento}.
  * 
+ * I dipartimenti sono dati di riferimento che non vengono mai modificati dall'applicazione: quando la cache
+ * di secondo livello è attiva (profilo {@code cache}) vengono memorizzati con strategia {@code READ_ONLY}.
+ * Il nome è incluso nell'indice di ricerca full-text dei dipendenti.
+ * 
  * @author Madalina Cires
  * @author Giorgia Alloisio
  * @author Alessia Boasi
@@ -33,6 +42,8 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "dipartimento")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "dipartimento")
 public class Dipartimento {
 
     @Id
@@ -41,14 +52,15 @@ public class Dipartimento {
 
     @Column(name = "nome")
     @Enumerated(EnumType.STRING)
+    @FullTextField(analyzer = "nome")
     private NomeDipartimento nome;
 
     /**
      * La lista dei dipendenti associati al dipartimento. La relazione è uno a molti e viene gestita con
-     * il fetch type {@code FetchType.EAGER}, il che significa che i dipendenti vengono caricati insieme al dipartimento.
+     * il fetch type {@code FetchType.LAZY}, il che significa che i dipendenti vengono caricati solo al primo accesso alla lista.
      * Le operazioni di cascata usano {@code CascadeType.REFRESH}, e i dipendenti orfani vengono rimossi dal dipartimento.
      */
-    @OneToMany(mappedBy = "dipartimento", cascade = CascadeType.REFRESH, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "dipartimento", cascade = CascadeType.REFRESH, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<Dipendente> dipendenti = new ArrayList<>();
 
     // Getter e Setter
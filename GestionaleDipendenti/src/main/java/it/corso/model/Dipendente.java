@@ -1,9 +1,19 @@
 package it.corso.model;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,11 +21,16 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 
 /**
  * La classe {@code Dipendente} rappresenta un'entità che modella un dipendente aziendale nel sistema.
@@ -26,23 +41,69 @@ import jakarta.persistence.Table;
  * 
  * La tabella associata nel database è definita come {@code dipendente}.
  * 
+ * Gli ID sono generati tramite la tabella {@code id_generatore}, che riserva blocchi di 50 valori alla volta:
+ * a differenza di {@code GenerationType.IDENTITY}, l'ID è noto prima dell'INSERT e Hibernate può quindi
+ * raggruppare gli inserimenti in batch JDBC.
+ * 
+ * Quando la cache di secondo livello è attiva (profilo {@code cache}), il dipendente e il suo insieme di ruoli
+ * vengono memorizzati con strategia {@code READ_WRITE}.
+ * 
+ * Il dipendente è indicizzato da Hibernate Search in un indice Lucene locale, con nome, cognome e i nomi
+ * del dipartimento e dei ruoli; l'indice viene aggiornato in modo asincrono a ogni scrittura.
+ * 
+ * Gli indici della tabella supportano i filtri della ricerca multi-criterio ({@link it.corso.dao.DipendenteSpecifications})
+ * e la paginazione keyset per cognome; per i database esistenti sono creati dallo script {@code db/indici_ricerca.sql}.
+ * 
+ * Le associazioni sono caricate in modo lazy: ogni query di {@link it.corso.dao.DipendenteDao} dichiara
+ * quale parte del grafo caricare tramite uno dei seguenti entity graph.
+ * <ul>
+ * <li>{@code Dipendente.dipartimento}: carica il dipartimento.</li>
+ * <li>{@code Dipendente.ruoli}: carica i ruoli.</li>
+ * <li>{@code Dipendente.completo}: carica il dipartimento e i ruoli.</li>
+ * </ul>
+ * 
  * @author Madalina Cires
  * @author Giorgia Alloisio
  * @author Alessia Boasi
  * 
  */
 @Entity
-@Table(name = "dipendente")
+@Table(name = "dipendente", indexes = {
+    @Index(name = "idx_dipendente_dipartimento_stipendio", columnList = "id_dipartimento, stipendio"),
+    @Index(name = "idx_dipendente_stipendio", columnList = "stipendio"),
+    @Index(name = "idx_dipendente_data_assunzione", columnList = "data_assunzione"),
+    @Index(name = "idx_dipendente_data_nascita", columnList = "data_nascita"),
+    @Index(name = "idx_dipendente_cognome_id", columnList = "cognome, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dipendente")
+@Indexed(index = "dipendente")
+@NamedEntityGraph(name = "Dipendente.dipartimento", attributeNodes = @NamedAttributeNode("dipartimento"))
+@NamedEntityGraph(name = "Dipendente.ruoli", attributeNodes = @NamedAttributeNode("ruoli"))
+@NamedEntityGraph(name = "Dipendente.completo", attributeNodes = {
+    @NamedAttributeNode("dipartimento"),
+    @NamedAttributeNode("ruoli")
+})
 public class Dipendente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "dipendente_generatore")
+    @TableGenerator(
+        name = "dipendente_generatore",
+        table = "id_generatore",
+        pkColumnName = "nome_sequenza",
+        valueColumnName = "valore",
+        pkColumnValue = "dipendente",
+        allocationSize = 50
+    )
     private int id;
 
     @Column(name = "nome")
+    @FullTextField(analyzer = "nome")
     private String nome;
 
     @Column(name = "cognome")
+    @FullTextField(analyzer = "nome")
     private String cognome;
 
     @Column(name = "data_nascita")
@@ -57,26 +118,46 @@ public class Dipendente {
     /**
      * Il dipartimento a cui appartiene il dipendente. 
      * Definisce una relazione molti-a-uno con l'entità {@code Dipartimento}.
-     * Viene usato il fetch type {@code FetchType.EAGER} per caricare il dipartimento insieme al dipendente.
+     * Viene usato il fetch type {@code FetchType.LAZY}: il dipartimento viene caricato solo dalle query
+     * che lo richiedono tramite entity graph.
      * Le operazioni di cascata utilizzano {@code CascadeType.REFRESH}.
+     * Il nome del dipartimento è incluso nell'indice di ricerca; poiché i dipartimenti non vengono modificati,
+     * l'indice viene aggiornato solo quando cambia il dipartimento associato al dipendente.
      */
-    @ManyToOne(cascade = CascadeType.REFRESH, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = CascadeType.REFRESH, fetch = FetchType.LAZY)
     @JoinColumn(name = "id_dipartimento", referencedColumnName = "id")
+    @IndexedEmbedded(includePaths = "nome")
+    @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
     private Dipartimento dipartimento;
 
     /**
-     * La lista di ruoli che il dipendente possiede, modellata come una relazione molti-a-molti con {@code Ruolo}.
-     * La tabella di raccordo è definita come {@code dipendente_ruolo}.
-     * Viene usato il fetch type {@code FetchType.EAGER} per caricare i ruoli insieme al dipendente.
+     * L'insieme dei ruoli che il dipendente possiede, modellato come una relazione molti-a-molti con {@code Ruolo}.
+     * La tabella di raccordo è definita come {@code dipendente_ruolo}, di cui questo lato è il proprietario.
+     * Essendo un insieme, Hibernate applica le modifiche riga per riga: aggiungere o rimuovere un ruolo
+     * inserisce o elimina solo la riga corrispondente, invece di eliminare e reinserire tutte le righe del dipendente.
+     * I ruoli sono ordinati per ID.
+     * Viene usato il fetch type {@code FetchType.LAZY}: i ruoli vengono caricati dalle query che li richiedono
+     * tramite entity graph, oppure a blocchi di 100 dipendenti per le query paginate, dove il fetch join
+     * di una collezione impedirebbe di limitare le righe lato database.
      * Le operazioni di cascata utilizzano {@code CascadeType.REFRESH}.
+     * I nomi dei ruoli sono inclusi nell'indice di ricerca, aggiornato quando cambiano i ruoli del dipendente.
      */
-    @ManyToMany(cascade = CascadeType.REFRESH, fetch = FetchType.EAGER)
+    @ManyToMany(cascade = CascadeType.REFRESH, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @OrderBy("id")
+    @IndexedEmbedded(includePaths = "nome")
+    @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dipendente-ruoli")
     @JoinTable(
         name = "dipendente_ruolo", 
         joinColumns = @JoinColumn(name = "id_dipendente", referencedColumnName = "id"),
-        inverseJoinColumns = @JoinColumn(name = "id_ruolo", referencedColumnName = "id")
+        inverseJoinColumns = @JoinColumn(name = "id_ruolo", referencedColumnName = "id"),
+        indexes = {
+            @Index(name = "idx_dipendente_ruolo_dipendente_ruolo", columnList = "id_dipendente, id_ruolo"),
+            @Index(name = "idx_dipendente_ruolo_ruolo_dipendente", columnList = "id_ruolo, id_dipendente")
+        }
     )
-    private List<Ruolo> ruoli = new ArrayList<>();
+    private Set<Ruolo> ruoli = new LinkedHashSet<>();
 
     
     // Getter e Setter
@@ -137,11 +218,11 @@ public class Dipendente {
         this.dipartimento = dipartimento;
     }
 
-    public List<Ruolo> getRuoli() {
+    public Set<Ruolo> getRuoli() {
         return ruoli;
     }
 
-    public void setRuoli(List<Ruolo> ruoli) {
+    public void setRuoli(Set<Ruolo> ruoli) {
         this.ruoli = ruoli;
     }
 
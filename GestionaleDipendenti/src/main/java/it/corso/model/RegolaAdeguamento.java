@@ -0,0 +1,98 @@
+package it.corso.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * La classe {@code RegolaAdeguamento} rappresenta una regola di un {@link AdeguamentoStipendi}, convertita
+ * nei parametri dell'istruzione UPDATE: il nuovo stipendio è {@code stipendio * fattore + importo}, non inferiore a zero,
+ * per i dipendenti che soddisfano tutti i filtri diversi da {@code null}.
+ *
+ * {@code dipendenti} conta i dipendenti adeguati dalla regola nei blocchi già confermati.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Embeddable
+public class RegolaAdeguamento {
+
+    private double fattore;
+
+    private double importo;
+
+    @Column(name = "id_dipartimento")
+    private Integer idDipartimento;
+
+    @Column(name = "id_ruolo")
+    private Integer idRuolo;
+
+    @Column(name = "assunto_entro")
+    private LocalDate assuntoEntro;
+
+    private long dipendenti;
+
+    public RegolaAdeguamento() {
+    }
+
+    public RegolaAdeguamento(double fattore, double importo, Integer idDipartimento, Integer idRuolo, LocalDate assuntoEntro) {
+        this.fattore = fattore;
+        this.importo = importo;
+        this.idDipartimento = idDipartimento;
+        this.idRuolo = idRuolo;
+        this.assuntoEntro = assuntoEntro;
+    }
+
+    // Getter e Setter
+
+    public double getFattore() {
+        return fattore;
+    }
+
+    public void setFattore(double fattore) {
+        this.fattore = fattore;
+    }
+
+    public double getImporto() {
+        return importo;
+    }
+
+    public void setImporto(double importo) {
+        this.importo = importo;
+    }
+
+    public Integer getIdDipartimento() {
+        return idDipartimento;
+    }
+
+    public void setIdDipartimento(Integer idDipartimento) {
+        this.idDipartimento = idDipartimento;
+    }
+
+    public Integer getIdRuolo() {
+        return idRuolo;
+    }
+
+    public void setIdRuolo(Integer idRuolo) {
+        this.idRuolo = idRuolo;
+    }
+
+    public LocalDate getAssuntoEntro() {
+        return assuntoEntro;
+    }
+
+    public void setAssuntoEntro(LocalDate assuntoEntro) {
+        this.assuntoEntro = assuntoEntro;
+    }
+
+    public long getDipendenti() {
+        return dipendenti;
+    }
+
+    public void setDipendenti(long dipendenti) {
+        this.dipendenti = dipendenti;
+    }
+}
@@ -3,6 +3,11 @@ package it.corso.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,8 +17,6 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 
@@ -26,6 +29,14 @@ import jakarta.persistence.Table;
  * 
  * La tabella associata nel database è definita come {@code ruolo}.
  * 
+ * I ruoli sono dati di riferimento che non vengono mai modificati dall'applicazione: quando la cache
+ * di secondo livello è attiva (profilo {@code cache}) vengono memorizzati con strategia {@code READ_ONLY}.
+ * Il nome è incluso nell'indice di ricerca full-text dei dipendenti.
+ * 
+ * Due ruoli sono uguali se hanno lo stesso ID, così che i riferimenti ottenuti da
+ * {@link it.corso.cache.DatiRiferimentoCache} possano essere confrontati con i ruoli caricati dal database
+ * nell'insieme dei ruoli di un {@link Dipendente}.
+ * 
  * @author Madalina Cires
  * @author Giorgia Alloisio
  * @author Alessia Boasi
@@ -33,6 +44,8 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "ruolo")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "ruolo")
 public class Ruolo {
 
     @Id
@@ -41,20 +54,17 @@ public class Ruolo {
 
     @Column(name = "nome")
     @Enumerated(EnumType.STRING)
+    @FullTextField(analyzer = "nome")
     private NomeRuolo nome;
 
     /**
      * La lista dei dipendenti associati a questo ruolo. La relazione è molti-a-molti e viene gestita con
-     * il fetch type {@code FetchType.EAGER}, il che significa che i dipendenti vengono caricati insieme al ruolo.
+     * il fetch type {@code FetchType.LAZY}, il che significa che i dipendenti vengono caricati solo al primo accesso alla lista.
      * Le operazioni di cascata usano {@code CascadeType.REFRESH}.
-     * La tabella di raccordo utilizzata è definita come {@code dipendente_ruolo}.
+     * È il lato inverso della relazione: la tabella di raccordo {@code dipendente_ruolo} è mappata
+     * da {@link Dipendente#getRuoli()} e le modifiche a questa lista non vengono salvate.
      */
-    @ManyToMany(cascade = CascadeType.REFRESH, fetch = FetchType.EAGER)
-    @JoinTable(
-        name = "dipendente_ruolo", 
-        joinColumns = @JoinColumn(name = "id_ruolo", referencedColumnName = "id"),
-        inverseJoinColumns = @JoinColumn(name = "id_dipendente", referencedColumnName = "id")
-    )
+    @ManyToMany(mappedBy = "ruoli", cascade = CascadeType.REFRESH, fetch = FetchType.LAZY)
     private List<Dipendente> dipendenti = new ArrayList<>();
 
     // Getter e Setter
@@ -83,4 +93,17 @@ public class Ruolo {
         this.dipendenti = dipendenti;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Ruolo ruolo && getId() == ruolo.getId();
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(getId());
+    }
+
 }
@@ -0,0 +1,28 @@
+package it.corso.search;
+
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * La classe {@code AnalisiRicercaConfigurer} definisce gli analizzatori Lucene usati dall'indice di ricerca full-text.
+ *
+ * L'analizzatore {@code nome} divide il testo in parole, lo porta in minuscolo e rimuove gli accenti,
+ * così che ad esempio {@code "Nicolò"} e {@code "nicolo"} producano lo stesso termine.
+ * È usato per nome e cognome del dipendente e per i nomi di dipartimenti e ruoli.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class AnalisiRicercaConfigurer implements LuceneAnalysisConfigurer {
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer("nome").custom()
+                .tokenizer("standard")
+                .tokenFilter("lowercase")
+                .tokenFilter("asciiFolding");
+    }
+
+}
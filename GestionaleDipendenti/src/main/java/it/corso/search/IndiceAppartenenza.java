@@ -0,0 +1,175 @@
+package it.corso.search;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import it.corso.dao.DipendenteColonne;
+import it.corso.dao.DipendenteDao;
+import it.corso.dao.DipendenteRuoloColonne;
+import it.corso.event.DipendentiModificatiEvent;
+import it.corso.event.DipendentiRiorganizzatiEvent;
+import it.corso.event.IndiceInMemoria;
+import it.corso.event.IstantaneaDipendente;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+
+/**
+ * La classe {@code IndiceAppartenenza} mantiene in memoria un indice bitmap dell'appartenenza dei dipendenti
+ * a dipartimenti e ruoli: una {@link RoaringBitmap} compressa degli ID dei dipendenti per ciascun valore di
+ * {@link NomeDipartimento} e di {@link NomeRuolo}, più una bitmap con tutti i dipendenti.
+ *
+ * Le combinazioni di filtri diventano operazioni insiemistiche tra bitmap (OR tra i dipartimenti, AND o OR
+ * tra i ruoli, AND NOT per le esclusioni) e il conteggio dei risultati non richiede alcuna query.
+ * Gli ID risultanti, ordinati in modo crescente, possono essere caricati con una sola query batch.
+ *
+ * L'indice viene caricato all'avvio e aggiornato in modo incrementale come descritto in {@link IndiceInMemoria}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+public class IndiceAppartenenza extends IndiceInMemoria<IndiceAppartenenza.Bitmap> {
+
+    @Autowired
+    private DipendenteDao dipendenteDao;
+
+    public IndiceAppartenenza() {
+        super(new Bitmap());
+    }
+
+    /**
+     * Legge il dipartimento e i ruoli di tutti i dipendenti.
+     */
+    @Override
+    protected Bitmap leggi() {
+        Bitmap letta = new Bitmap();
+        try (Stream<DipendenteColonne> righe = dipendenteDao.streamColonne()) {
+            righe.forEach(d -> {
+                letta.tutti.add(d.getId());
+                if (d.getDipartimento() != null) {
+                    letta.dipartimenti.get(d.getDipartimento()).add(d.getId());
+                }
+            });
+        }
+        try (Stream<DipendenteRuoloColonne> ruoli = dipendenteDao.streamRuoli()) {
+            ruoli.forEach(r -> letta.ruoli.get(r.getRuolo()).add(r.getIdDipendente()));
+        }
+        letta.ottimizza();
+        return letta;
+    }
+
+    @Override
+    protected void applica(Bitmap b, DipendentiModificatiEvent event) {
+        for (IstantaneaDipendente d : event.getSalvati()) {
+            b.rimuovi(d.getId());
+            b.tutti.add(d.getId());
+            if (d.getDipartimento() != null) {
+                b.dipartimenti.get(d.getDipartimento()).add(d.getId());
+            }
+            d.getRuoli().forEach(ruolo -> b.ruoli.get(ruolo).add(d.getId()));
+        }
+        event.getEliminati().forEach(b::rimuovi);
+    }
+
+    /**
+     * Applica la riorganizzazione con operazioni tra la bitmap degli ID dell'evento e quelle dell'indice.
+     */
+    @Override
+    protected void applica(Bitmap b, DipendentiRiorganizzatiEvent event) {
+        RoaringBitmap presenti = RoaringBitmap.and(event.getIds(), b.tutti);
+        if (event.getDipartimento() != null) {
+            b.dipartimenti.values().forEach(d -> d.andNot(presenti));
+            b.dipartimenti.get(event.getDipartimento()).or(presenti);
+        }
+        if (event.getRuoloAggiunto() != null) {
+            b.ruoli.get(event.getRuoloAggiunto()).or(presenti);
+        }
+        if (event.getRuoloRimosso() != null) {
+            b.ruoli.get(event.getRuoloRimosso()).andNot(presenti);
+        }
+    }
+
+    /**
+     * Calcola l'insieme degli ID dei dipendenti che soddisfano la combinazione di filtri indicata.
+     * Un filtro vuoto o {@code null} non limita il risultato.
+     *
+     * @param dipartimenti i dipartimenti ammessi (OR), o {@code null}
+     * @param ruoli i ruoli richiesti, o {@code null}
+     * @param tuttiRuoli {@code true} se il dipendente deve avere tutti i ruoli indicati (AND), {@code false} se ne basta uno (OR)
+     * @param esclusiDipartimenti i dipartimenti da escludere, o {@code null}
+     * @param esclusiRuoli i ruoli da escludere: sono esclusi i dipendenti che ne hanno almeno uno, o {@code null}
+     * @return una nuova bitmap con gli ID dei dipendenti che soddisfano i filtri
+     */
+    public RoaringBitmap cerca(Collection<NomeDipartimento> dipartimenti, Collection<NomeRuolo> ruoli, boolean tuttiRuoli,
+            Collection<NomeDipartimento> esclusiDipartimenti, Collection<NomeRuolo> esclusiRuoli) {
+        return consulta(bitmap -> {
+            RoaringBitmap risultato = bitmap.tutti.clone();
+            if (dipartimenti != null && !dipartimenti.isEmpty()) {
+                RoaringBitmap unione = new RoaringBitmap();
+                dipartimenti.forEach(d -> unione.or(bitmap.dipartimenti.get(d)));
+                risultato.and(unione);
+            }
+            if (ruoli != null && !ruoli.isEmpty()) {
+                if (tuttiRuoli) {
+                    ruoli.forEach(r -> risultato.and(bitmap.ruoli.get(r)));
+                } else {
+                    RoaringBitmap unione = new RoaringBitmap();
+                    ruoli.forEach(r -> unione.or(bitmap.ruoli.get(r)));
+                    risultato.and(unione);
+                }
+            }
+            if (esclusiDipartimenti != null) {
+                esclusiDipartimenti.forEach(d -> risultato.andNot(bitmap.dipartimenti.get(d)));
+            }
+            if (esclusiRuoli != null) {
+                esclusiRuoli.forEach(r -> risultato.andNot(bitmap.ruoli.get(r)));
+            }
+            return risultato;
+        });
+    }
+
+    /**
+     * Le bitmap dell'indice. Non è thread-safe: gli accessi sono coordinati da {@link IndiceInMemoria}.
+     */
+    static final class Bitmap {
+
+        private final RoaringBitmap tutti = new RoaringBitmap();
+
+        private final Map<NomeDipartimento, RoaringBitmap> dipartimenti = new EnumMap<>(NomeDipartimento.class);
+
+        private final Map<NomeRuolo, RoaringBitmap> ruoli = new EnumMap<>(NomeRuolo.class);
+
+        private Bitmap() {
+            for (NomeDipartimento dipartimento : NomeDipartimento.values()) {
+                dipartimenti.put(dipartimento, new RoaringBitmap());
+            }
+            for (NomeRuolo ruolo : NomeRuolo.values()) {
+                ruoli.put(ruolo, new RoaringBitmap());
+            }
+        }
+
+        private void rimuovi(int id) {
+            tutti.remove(id);
+            dipartimenti.values().forEach(b -> b.remove(id));
+            ruoli.values().forEach(b -> b.remove(id));
+        }
+
+        /**
+         * Converte in run-length i container che occupano meno spazio in questa forma, come gli intervalli di ID consecutivi.
+         */
+        private void ottimizza() {
+            tutti.runOptimize();
+            dipartimenti.values().forEach(RoaringBitmap::runOptimize);
+            ruoli.values().forEach(RoaringBitmap::runOptimize);
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package it.corso.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import it.corso.dao.DipendenteDao;
+import it.corso.dao.DipendenteNominativo;
+import it.corso.dto.DipendenteSuggerimentoDto;
+import it.corso.event.DipendentiModificatiEvent;
+import it.corso.event.IndiceInMemoria;
+import it.corso.event.IstantaneaDipendente;
+
+/**
+ * La classe {@code IndicePrefissi} mantiene in memoria un indice ordinato di nome e cognome dei dipendenti,
+ * usato per l'autocompletamento senza interrogare il database.
+ *
+ * Per ogni dipendente vengono indicizzati, in forma normalizzata (minuscolo e senza accenti, ad esempio
+ * {@code "Nicolò"} diventa {@code "nicolo"}), il nome, il cognome e le combinazioni "nome cognome" e
+ * "cognome nome". Ogni chiave è formata dal termine seguito da {@code '\0'} e dall'ID, così che la ricerca
+ * di un prefisso corrisponda a una scansione ordinata di {@link TreeSet#tailSet(Object)},
+ * che restituisce per primi i termini uguali al prefisso e poi quelli più lunghi in ordine alfabetico.
+ *
+ * L'indice viene caricato all'avvio e aggiornato in modo incrementale a ogni {@link DipendentiModificatiEvent},
+ * come descritto in {@link IndiceInMemoria}: un dipendente eliminato o rinominato mentre la tabella viene letta
+ * non ricompare con i dati precedenti.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+public class IndicePrefissi extends IndiceInMemoria<IndicePrefissi.Voci> {
+
+    private static final Pattern SEGNI_DIACRITICI = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SPAZI = Pattern.compile("\\s+");
+
+    private static final char SEPARATORE = '\0';
+
+    @Autowired
+    private DipendenteDao dipendenteDao;
+
+    public IndicePrefissi() {
+        super(new Voci());
+    }
+
+    /**
+     * Legge nome e cognome di tutti i dipendenti presenti nel database.
+     */
+    @Override
+    protected Voci leggi() {
+        Voci lette = new Voci();
+        for (DipendenteNominativo dipendente : dipendenteDao.findAllProjectedBy()) {
+            lette.aggiorna(dipendente.getId(), dipendente.getNome(), dipendente.getCognome());
+        }
+        return lette;
+    }
+
+    @Override
+    protected void applica(Voci v, DipendentiModificatiEvent event) {
+        for (IstantaneaDipendente dipendente : event.getSalvati()) {
+            v.aggiorna(dipendente.getId(), dipendente.getNome(), dipendente.getCognome());
+        }
+        event.getEliminati().forEach(v::rimuovi);
+    }
+
+    /**
+     * Restituisce i dipendenti il cui nome, cognome, "nome cognome" o "cognome nome" inizia con il prefisso indicato.
+     *
+     * @param prefisso il testo digitato, confrontato senza distinzione tra maiuscole, minuscole e accenti
+     * @param limite il numero massimo di risultati
+     * @return al massimo {@code limite} suggerimenti, senza duplicati
+     */
+    public List<DipendenteSuggerimentoDto> cerca(String prefisso, int limite) {
+        String termine = normalizza(prefisso);
+        List<DipendenteSuggerimentoDto> risultati = new ArrayList<>();
+        if (termine.isEmpty()) {
+            return risultati;
+        }
+        return consulta(v -> {
+            Set<Integer> trovati = new LinkedHashSet<>();
+            for (String chiave : v.chiavi.tailSet(termine)) {
+                if (!chiave.startsWith(termine) || trovati.size() == limite) {
+                    break;
+                }
+                trovati.add(Integer.valueOf(chiave.substring(chiave.lastIndexOf(SEPARATORE) + 1)));
+            }
+            for (Integer id : trovati) {
+                DipendenteSuggerimentoDto voce = v.voci.get(id);
+                if (voce != null) {
+                    risultati.add(voce);
+                }
+            }
+            return risultati;
+        });
+    }
+
+    private static List<String> chiavi(DipendenteSuggerimentoDto voce) {
+        String nome = normalizza(voce.getNome());
+        String cognome = normalizza(voce.getCognome());
+        String suffisso = SEPARATORE + Integer.toString(voce.getId());
+        return List.of(nome + suffisso, cognome + suffisso,
+                nome + ' ' + cognome + suffisso, cognome + ' ' + nome + suffisso);
+    }
+
+    /**
+     * Le chiavi ordinate e le voci dell'indice. Non è thread-safe: gli accessi sono coordinati da {@link IndiceInMemoria}.
+     * Le voci restituite dalle ricerche non vengono modificate, ma sostituite.
+     */
+    static final class Voci {
+
+        private final NavigableSet<String> chiavi = new TreeSet<>();
+
+        private final Map<Integer, DipendenteSuggerimentoDto> voci = new HashMap<>();
+
+        /**
+         * Inserisce o sostituisce le chiavi di un dipendente.
+         */
+        private void aggiorna(int id, String nome, String cognome) {
+            DipendenteSuggerimentoDto nuovaVoce = new DipendenteSuggerimentoDto();
+            nuovaVoce.setId(id);
+            nuovaVoce.setNome(nome);
+            nuovaVoce.setCognome(cognome);
+            DipendenteSuggerimentoDto vecchiaVoce = voci.put(id, nuovaVoce);
+            if (vecchiaVoce != null) {
+                chiavi.removeAll(chiavi(vecchiaVoce));
+            }
+            chiavi.addAll(chiavi(nuovaVoce));
+        }
+
+        /**
+         * Rimuove le chiavi di un dipendente.
+         */
+        private void rimuovi(int id) {
+            DipendenteSuggerimentoDto vecchiaVoce = voci.remove(id);
+            if (vecchiaVoce != null) {
+                chiavi.removeAll(chiavi(vecchiaVoce));
+            }
+        }
+    }
+
+    /**
+     * Porta il testo in minuscolo, rimuove gli accenti e riduce gli spazi a uno solo.
+     *
+     * @param testo il testo da normalizzare, può essere {@code null}
+     * @return il testo normalizzato
+     */
+    static String normalizza(String testo) {
+        if (testo == null) {
+            return "";
+        }
+        String senzaAccenti = SEGNI_DIACRITICI.matcher(Normalizer.normalize(testo, Normalizer.Form.NFD)).replaceAll("");
+        return SPAZI.matcher(senzaAccenti.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+}
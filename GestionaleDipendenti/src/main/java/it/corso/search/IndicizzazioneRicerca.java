@@ -0,0 +1,130 @@
+package it.corso.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import it.corso.event.DipendentiRiorganizzatiEvent;
+import it.corso.model.Dipendente;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * La classe {@code IndicizzazioneRicerca} ricostruisce l'indice di ricerca full-text a partire dalla tabella
+ * {@code dipendente}, tramite il mass indexer di Hibernate Search.
+ *
+ * Le scritture eseguite dall'applicazione aggiornano l'indice automaticamente; la ricostruzione serve per
+ * i dati già presenti nel database o modificati al di fuori dell'applicazione. All'avvio viene eseguita in
+ * background se {@code gestionale.search.mass-index-on-startup} è {@code true}, e può essere invocata in
+ * qualsiasi momento con {@link #reindicizza()}.
+ *
+ * Le modifiche massive, che non passano dal contesto di persistenza, pubblicano un {@link DipendentiRiorganizzatiEvent}:
+ * dopo il commit vengono reindicizzati in background, a blocchi, solo i dipendenti indicati nell'evento, sostituendo
+ * i loro documenti. Il mass indexer non viene usato in questo caso perché svuota l'indice prima di ricostruirlo:
+ * fino al termine della ricostruzione le ricerche restituirebbero solo una parte dei dipendenti.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Component
+public class IndicizzazioneRicerca {
+
+    /**
+     * Numero di dipendenti caricati e reindicizzati per blocco dopo un'operazione massiva.
+     */
+    private static final int DIMENSIONE_BLOCCO = 100;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskExecutor taskExecutor;
+
+    @Value("${gestionale.search.mass-index-on-startup:true}")
+    private boolean massIndexOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (massIndexOnStartup) {
+            reindicizza();
+        }
+    }
+
+    /**
+     * Reindicizza in background i dipendenti modificati da un'operazione massiva.
+     *
+     * @param event l'evento con gli ID dei dipendenti da reindicizzare
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDipendentiRiorganizzati(DipendentiRiorganizzatiEvent event) {
+        taskExecutor.execute(() -> {
+            try {
+                reindicizza(event.getIds());
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Avvia in background la ricostruzione dell'indice dei dipendenti.
+     * Il mass indexer svuota l'indice prima di ricostruirlo: fino al termine le ricerche restituiscono
+     * solo i dipendenti già reindicizzati.
+     */
+    public void reindicizza() {
+        Search.mapping(entityManagerFactory).scope(Dipendente.class).massIndexer()
+                .threadsToLoadObjects(2)
+                .batchSizeToLoadObjects(100)
+                .start()
+                .whenComplete((risultato, e) -> {
+                    if (e != null) {
+                        e.printStackTrace();
+                    }
+                });
+    }
+
+    /**
+     * Sostituisce nell'indice i documenti dei dipendenti indicati, caricandoli a blocchi di
+     * {@value #DIMENSIONE_BLOCCO} e svuotando il contesto di persistenza dopo ogni blocco.
+     * I dipendenti eliminati nel frattempo non vengono trovati e sono già stati rimossi dall'indice.
+     *
+     * @param ids gli ID dei dipendenti
+     */
+    private void reindicizza(RoaringBitmap ids) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+            IntIterator iteratore = ids.getIntIterator();
+            List<Integer> blocco = new ArrayList<>(DIMENSIONE_BLOCCO);
+            while (iteratore.hasNext()) {
+                blocco.add(iteratore.next());
+                if (blocco.size() == DIMENSIONE_BLOCCO || !iteratore.hasNext()) {
+                    List<Dipendente> dipendenti = entityManager.createQuery(
+                            "SELECT e FROM Dipendente e WHERE e.id IN :ids", Dipendente.class)
+                            .setParameter("ids", blocco)
+                            .getResultList();
+                    dipendenti.forEach(indexingPlan::addOrUpdate);
+                    indexingPlan.execute();
+                    entityManager.clear();
+                    blocco.clear();
+                }
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package it.corso.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import it.corso.dto.StatisticheStipendioDto;
+
+/**
+ * L'interfaccia {@code AnalyticsService} definisce i metodi per le analisi aggregate sui dipendenti,
+ * usate dai cruscotti del personale e delle paghe.
+ *
+ * <ul>
+ * <li>{@link #getStatisticheStipendio(String, LocalDate, LocalDate)}: Calcola le statistiche degli stipendi per gruppo.</li>
+ * </ul>
+ *
+ * @see StatisticheStipendioDto
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface AnalyticsService {
+
+    /**
+     * Calcola somma, media, minimo, massimo e percentili degli stipendi, raggruppati per dipartimento,
+     * per ruolo o sull'intero insieme dei dipendenti.
+     *
+     * @param raggruppamento {@code dipartimento}, {@code ruolo} o {@code nessuno}
+     * @param assuntiDa la prima data di assunzione inclusa, o {@code null}
+     * @param assuntiA l'ultima data di assunzione inclusa, o {@code null}
+     * @return le statistiche di ciascun gruppo con almeno un dipendente, o {@code null} se il raggruppamento non è valido
+     */
+    List<StatisticheStipendioDto> getStatisticheStipendio(String raggruppamento, LocalDate assuntiDa, LocalDate assuntiA);
+
+}
@@ -0,0 +1,49 @@
+package it.corso.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+import it.corso.analytics.SnapshotColonnare;
+import it.corso.dto.StatisticheStipendioDto;
+
+/**
+ * L'implementazione della classe {@code AnalyticsService}.
+ * Le statistiche sono calcolate sullo snapshot a colonne in memoria {@link SnapshotColonnare},
+ * senza interrogare il database.
+ * La durata di ogni metodo pubblico viene registrata nel timer {@code gestionale.service}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Service
+@Timed("gestionale.service")
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    @Autowired
+    private SnapshotColonnare snapshot;
+
+    /**
+     * Calcola le statistiche degli stipendi scorrendo le colonne dello snapshot in memoria.
+     *
+     * @param raggruppamento {@code dipartimento}, {@code ruolo} o {@code nessuno}
+     * @param assuntiDa la prima data di assunzione inclusa, o {@code null}
+     * @param assuntiA l'ultima data di assunzione inclusa, o {@code null}
+     * @return le statistiche di ciascun gruppo, o {@code null} se il raggruppamento non è valido
+     */
+    @Override
+    public List<StatisticheStipendioDto> getStatisticheStipendio(String raggruppamento, LocalDate assuntiDa, LocalDate assuntiA) {
+        try {
+            return snapshot.statisticheStipendio(raggruppamento, assuntiDa, assuntiA);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
@@ -1,12 +1,24 @@
 package it.corso.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
+import it.corso.dto.AppartenenzaFiltroDto;
+import it.corso.dto.AppartenenzaPaginaDto;
+import it.corso.dto.DipendenteBatchDto;
 import it.corso.dto.DipendenteByDipartimentoDto;
 import it.corso.dto.DipendenteByRuoloDto;
 import it.corso.dto.DipendenteDto;
 import it.corso.dto.DipendenteDtoRegistration;
 import it.corso.dto.DipendenteDtoUpdate;
+import it.corso.dto.DipendenteFiltroDto;
+import it.corso.dto.DipendenteFiltroPaginaDto;
+import it.corso.dto.DipendentePaginaDto;
+import it.corso.dto.DipendenteSuggerimentoDto;
+import it.corso.dto.RicercaPaginaDto;
+import it.corso.dto.StatisticheGruppoDto;
+import it.corso.dto.StipendioClassificaDto;
 
 /**
  * L'interfaccia {@code DipendenteService} definisce i metodi per la gestione dei dipendenti
@@ -15,10 +27,21 @@ import it.corso.dto.DipendenteDtoUpdate;
  * 
  * <ul>
  * <li>{@link #registrationDipendente(DipendenteDtoRegistration)}: Registra un nuovo dipendente.</li>
+ * <li>{@link #registrationDipendenti(List)}: Registra un blocco di nuovi dipendenti in un'unica transazione.</li>
  * <li>{@link #updateDipendenteData(DipendenteDtoUpdate)}: Aggiorna i dati di un dipendente esistente.</li>
  * <li>{@link #deleteDipendenteById(int)}: Elimina un dipendente in base al suo ID.</li>
+ * <li>{@link #deleteDipendentiByIds(List)}: Elimina più dipendenti in base a una lista di ID.</li>
  * <li>{@link #getDipendenteById(int)}: Recupera un dipendente in base al suo ID.</li>
- * <li>{@link #getAllDipendenti()}: Restituisce tutti i dipendenti.</li>
+ * <li>{@link #getDipendentiByIds(List)}: Recupera più dipendenti in base a una lista di ID.</li>
+ * <li>{@link #getDipendentiPage(int, int, String, String)}: Restituisce una pagina di dipendenti (paginazione keyset).</li>
+ * <li>{@link #exportDipendenti(OutputStream)}: Esporta tutti i dipendenti in formato NDJSON.</li>
+ * <li>{@link #getDipendentiByPrefisso(String, int)}: Cerca dipendenti il cui nome o cognome inizia con un prefisso.</li>
+ * <li>{@link #getDipendentiByAppartenenza(AppartenenzaFiltroDto, int, int)}: Cerca dipendenti per appartenenza a dipartimenti e ruoli tramite l'indice bitmap.</li>
+ * <li>{@link #getDipendentiByFiltro(DipendenteFiltroDto, int, int)}: Cerca dipendenti combinando più filtri in un'unica query.</li>
+ * <li>{@link #getDipendentiByTesto(String, int, int)}: Esegue una ricerca full-text tollerante agli errori di battitura.</li>
+ * <li>{@link #getStatisticheByDipartimento()}: Calcola le statistiche retributive per dipartimento.</li>
+ * <li>{@link #getStatisticheByRuolo()}: Calcola le statistiche retributive per ruolo.</li>
+ * <li>{@link #getClassificaStipendi(int)}: Restituisce i dipendenti più pagati di ciascun dipartimento.</li>
  * <li>{@link #getDipendentiByNome(String)}: Cerca dipendenti in base al nome.</li>
  * <li>{@link #getDipendentiByDipartimento(String)}: Cerca dipendenti in base al dipartimento.</li>
  * <li>{@link #getDipendentiByRuolo(String)}: Cerca dipendenti in base al ruolo.</li>
@@ -29,6 +52,16 @@ import it.corso.dto.DipendenteDtoUpdate;
  * @see DipendenteDto
  * @see DipendenteByDipartimentoDto
  * @see DipendenteByRuoloDto
+ * @see DipendentePaginaDto
+ * @see DipendenteBatchDto
+ * @see DipendenteSuggerimentoDto
+ * @see RicercaPaginaDto
+ * @see DipendenteFiltroDto
+ * @see DipendenteFiltroPaginaDto
+ * @see AppartenenzaFiltroDto
+ * @see AppartenenzaPaginaDto
+ * @see StatisticheGruppoDto
+ * @see StipendioClassificaDto
  * 
  * @author Madalina Cires
  * @author Giorgia Alloisio
@@ -44,6 +77,16 @@ public interface DipendenteService {
      */
     void registrationDipendente(DipendenteDtoRegistration dipendenteDto);
 
+    /**
+     * Registra un blocco di nuovi dipendenti in un'unica transazione, con inserimenti raggruppati in batch JDBC.
+     * I DTO devono essere già stati validati.
+     * 
+     * @param dipendentiDto i DTO contenenti i dati dei nuovi dipendenti
+     * @return gli ID assegnati, nello stesso ordine dei DTO, con {@code 0} per i dipendenti non registrati
+     *         perché il dipartimento o uno dei ruoli non esiste
+     */
+    List<Integer> registrationDipendenti(List<DipendenteDtoRegistration> dipendentiDto);
+
     /**
      * Modifica i dati di un dipendente esistente.
      * 
@@ -58,6 +101,15 @@ public interface DipendenteService {
      */
     void deleteDipendenteById(int id);
 
+    /**
+     * Elimina più dipendenti in base a una lista di ID, in un'unica transazione e con un numero
+     * di istruzioni SQL che non dipende dal numero di ID.
+     * 
+     * @param ids gli ID dei dipendenti da eliminare
+     * @return il numero di dipendenti eliminati, o {@code -1} in caso di errore
+     */
+    int deleteDipendentiByIds(List<Integer> ids);
+
     /**
      * Recupera un dipendente in base al suo ID.
      * 
@@ -67,11 +119,102 @@ public interface DipendenteService {
     DipendenteDto getDipendenteById(int id);
 
     /**
-     * Restituisce tutti i dipendenti.
+     * Recupera più dipendenti in base a una lista di ID, con una sola query.
+     * 
+     * @param ids gli ID dei dipendenti da recuperare
+     * @return un elemento per ogni ID richiesto, nello stesso ordine, che indica se il dipendente è stato trovato,
+     *         o {@code null} in caso di errore
+     */
+    List<DipendenteBatchDto> getDipendentiByIds(List<Integer> ids);
+
+    /**
+     * Restituisce una pagina di dipendenti tramite paginazione keyset, senza caricare l'intera tabella.
+     * Se viene fornito un cursore, la pagina riparte dalla posizione da esso codificata
+     * e i parametri {@code afterId} e {@code sort} vengono ignorati.
+     * 
+     * @param afterId l'ID dopo il quale iniziare la pagina ({@code 0} per la prima pagina), usato con ordinamento per ID
+     * @param limit il numero massimo di dipendenti della pagina
+     * @param sort la chiave di ordinamento, {@code id} oppure {@code cognome}
+     * @param cursor il cursore restituito dalla pagina precedente, o {@code null}
+     * @return la pagina di dipendenti con il cursore della pagina successiva, o {@code null} in caso di errore
+     */
+    DipendentePaginaDto getDipendentiPage(int afterId, int limit, String sort, String cursor);
+
+    /**
+     * Esporta tutti i dipendenti sullo stream fornito in formato NDJSON (un {@link DipendenteDto} JSON per riga).
+     * I dipendenti vengono letti a blocchi, così che in memoria ne resti solo una piccola finestra
+     * indipendentemente dalla dimensione della tabella.
+     * 
+     * @param outputStream lo stream su cui scrivere l'esportazione
+     * @throws IOException se la scrittura sullo stream non riesce
+     */
+    void exportDipendenti(OutputStream outputStream) throws IOException;
+
+    /**
+     * Cerca i dipendenti il cui nome o cognome inizia con il prefisso indicato, per l'autocompletamento.
+     * Il confronto non distingue maiuscole, minuscole e lettere accentate.
+     * 
+     * @param prefisso il testo digitato
+     * @param limite il numero massimo di suggerimenti
+     * @return la lista dei suggerimenti, eventualmente vuota
+     */
+    List<DipendenteSuggerimentoDto> getDipendentiByPrefisso(String prefisso, int limite);
+
+    /**
+     * Cerca i dipendenti in base all'appartenenza a dipartimenti e ruoli, con combinazioni AND, OR e NOT,
+     * usando un indice in memoria. Il totale è calcolato senza interrogare il database; i dipendenti
+     * della pagina vengono caricati con una sola query.
+     * 
+     * @param filtro i filtri di appartenenza
+     * @param afterId l'ID dopo il quale iniziare la pagina ({@code 0} per la prima pagina)
+     * @param limit il numero massimo di dipendenti della pagina ({@code 0} per ottenere solo il totale)
+     * @return il totale e la pagina dei dipendenti in ordine di ID, o {@code null} se un filtro non è valido
+     */
+    AppartenenzaPaginaDto getDipendentiByAppartenenza(AppartenenzaFiltroDto filtro, int afterId, int limit);
+
+    /**
+     * Cerca i dipendenti che soddisfano tutti i filtri indicati, con paginazione e ordinamento eseguiti dal database.
+     * 
+     * @param filtro i filtri e l'ordinamento della ricerca
+     * @param pagina il numero della pagina, a partire da 0
+     * @param dimensione il numero massimo di dipendenti della pagina
+     * @return la pagina dei dipendenti con il numero totale di risultati, o {@code null} se un filtro
+     *         o l'ordinamento non sono validi
+     */
+    DipendenteFiltroPaginaDto getDipendentiByFiltro(DipendenteFiltroDto filtro, int pagina, int dimensione);
+
+    /**
+     * Cerca i dipendenti per nome, cognome, dipartimento e ruoli tramite l'indice full-text,
+     * tollerando errori di battitura e ignorando maiuscole, minuscole e accenti.
+     * 
+     * @param testo il testo da cercare
+     * @param pagina il numero della pagina, a partire da 0
+     * @param dimensione il numero massimo di risultati della pagina
+     * @return la pagina dei risultati ordinati per rilevanza, o {@code null} in caso di errore
+     */
+    RicercaPaginaDto getDipendentiByTesto(String testo, int pagina, int dimensione);
+
+    /**
+     * Calcola numero di dipendenti, somma, media, minimo e massimo degli stipendi per ciascun dipartimento.
+     * 
+     * @return le statistiche di ciascun dipartimento, o {@code null} in caso di errore
+     */
+    List<StatisticheGruppoDto> getStatisticheByDipartimento();
+
+    /**
+     * Calcola numero di dipendenti, somma, media, minimo e massimo degli stipendi per ciascun ruolo.
+     * 
+     * @return le statistiche di ciascun ruolo, o {@code null} in caso di errore
+     */
+    List<StatisticheGruppoDto> getStatisticheByRuolo();
+
+    /**
+     * Restituisce, per ciascun dipartimento, gli {@code n} dipendenti con lo stipendio più alto.
      * 
-     * @return una lista di DTO di tutti i dipendenti
+     * @param n il numero di dipendenti per dipartimento
+     * @return la classifica ordinata per dipartimento e posizione, o {@code null} in caso di errore
      */
-    List<DipendenteDto> getAllDipendenti();
+    List<StipendioClassificaDto> getClassificaStipendi(int n);
 
     /**
      * Cerca dipendenti in base al nome.
@@ -1,33 +1,97 @@
 package it.corso.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
-import org.modelmapper.ModelMapper;
+import org.apache.commons.codec.binary.Base64;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import it.corso.dao.DipartimentoDao;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+import it.corso.cache.DatiRiferimentoCache;
 import it.corso.dao.DipendenteDao;
-import it.corso.dao.RuoloDao;
+import it.corso.dao.DipendenteSpecifications;
+import it.corso.dao.StipendioClassifica;
+import it.corso.dto.AppartenenzaFiltroDto;
+import it.corso.dto.AppartenenzaPaginaDto;
+import it.corso.dto.DipendenteBatchDto;
 import it.corso.dto.DipendenteByDipartimentoDto;
 import it.corso.dto.DipendenteByRuoloDto;
 import it.corso.dto.DipendenteDto;
 import it.corso.dto.DipendenteDtoRegistration;
 import it.corso.dto.DipendenteDtoUpdate;
+import it.corso.dto.DipendenteFiltroDto;
+import it.corso.dto.DipendenteFiltroPaginaDto;
+import it.corso.dto.DipendentePaginaDto;
+import it.corso.dto.DipendenteRicercaDto;
+import it.corso.dto.DipendenteSuggerimentoDto;
+import it.corso.dto.RicercaPaginaDto;
+import it.corso.dto.StatisticheGruppoDto;
+import it.corso.dto.StipendioClassificaDto;
+import it.corso.event.DipendentiModificatiEvent;
+import it.corso.event.IstantaneaDipendente;
+import it.corso.mapper.DipendenteMapper;
 import it.corso.model.Dipartimento;
 import it.corso.model.Dipendente;
 import it.corso.model.NomeDipartimento;
 import it.corso.model.NomeRuolo;
 import it.corso.model.Ruolo;
+import it.corso.search.IndiceAppartenenza;
+import it.corso.search.IndicePrefissi;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * L'implementazione della classe {@code DipendenteService} che gestisce le operazioni sui dipendenti.
  * Fornisce metodi per registrare, modificare, eliminare e recuperare dipendenti, oltre a cercarli
  * in base al nome, dipartimento o ruolo.
  * 
- * Questa classe utilizza {@link ModelMapper} per convertire tra entità e DTO.
+ * Questa classe utilizza {@link DipendenteMapper} per convertire tra entità e DTO.
+ * Dopo ogni registrazione, modifica o eliminazione pubblica un {@link DipendentiModificatiEvent},
+ * con cui gli indici in memoria (come {@link IndicePrefissi}) si mantengono allineati al database.
+ * 
+ * Ogni operazione che accede al database viene eseguita in un'unica transazione: le registrazioni,
+ * le modifiche e le eliminazioni eseguono un solo commit, comprese le letture che le precedono,
+ * e gli eventi vengono consegnati agli indici in memoria dopo il commit. Le letture usano transazioni
+ * {@code readOnly}: Hibernate carica le entità in sola lettura, senza conservarne lo stato iniziale
+ * per il dirty checking, non esegue il flush della sessione e la connessione JDBC viene marcata in sola lettura.
+ * L'esportazione fa eccezione: usa una transazione per ogni blocco letto, per non occupare una connessione
+ * per tutta la durata dello scaricamento.
+ * 
+ * La durata di ogni metodo pubblico viene registrata nel timer {@code gestionale.service},
+ * con i tag {@code class} e {@code method}.
  * 
  * @author Madalina Cires
  * @author Giorgia Alloisio
@@ -35,55 +99,181 @@ import it.corso.model.Ruolo;
  * 
  */
 @Service
+@Timed("gestionale.service")
 public class DipendenteServiceImpl implements DipendenteService {
 
+    /**
+     * Chiave di ordinamento per ID, usata dalla paginazione keyset.
+     */
+    public static final String SORT_ID = "id";
+
+    /**
+     * Chiave di ordinamento per cognome (e ID a parità di cognome), usata dalla paginazione keyset.
+     */
+    public static final String SORT_COGNOME = "cognome";
+
+    /**
+     * Campi ammessi come ordinamento della ricerca multi-criterio.
+     */
+    private static final Set<String> SORT_FILTRO = Set.of(SORT_ID, SORT_COGNOME, "stipendio", "dataAssunzione", "dataNascita");
+
     @Autowired
     private DipendenteDao dipendenteDao;
 
     @Autowired
-    private DipartimentoDao dipartimentoDao;
+    private DatiRiferimentoCache datiRiferimento;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${gestionale.export.chunk-size:500}")
+    private int exportChunkSize;
+
+    @Autowired
+    private DipendenteMapper mapper;
 
     @Autowired
-    private RuoloDao ruoloDao;
+    private ApplicationEventPublisher eventPublisher;
 
-    private ModelMapper mapper = new ModelMapper();
+    @Autowired
+    private IndicePrefissi indicePrefissi;
+
+    @Autowired
+    private IndiceAppartenenza indiceAppartenenza;
 
     /**
      * Registra un nuovo dipendente con i dati forniti. 
-     * Cerca il dipartimento e i ruoli in base agli enum e li associa al dipendente.
+     * Risolve il dipartimento e i ruoli in base agli enum tramite {@link DatiRiferimentoCache}
+     * e li associa al dipendente, senza interrogare le tabelle di riferimento.
+     * In caso di errore la transazione viene annullata senza propagare l'eccezione.
      * 
      * @param dipendenteDto il DTO contenente i dati del dipendente
      */
     @Override
+    @Transactional
     public void registrationDipendente(DipendenteDtoRegistration dipendenteDto) {
         try {
-            Dipendente dipendente = mapper.map(dipendenteDto, Dipendente.class);
-            NomeDipartimento nomeDipEnum = NomeDipartimento.valueOf(dipendenteDto.getDipartimento());
-            Dipartimento dipartimento = dipartimentoDao.findByNome(nomeDipEnum);
-            List<String> ruoliString = dipendenteDto.getRuoli();
-            List<Ruolo> ruoli = new ArrayList<>();
-            for (String ruoloString : ruoliString) {
-                NomeRuolo nomeRuoloEnum = NomeRuolo.valueOf(ruoloString);
-                ruoli.add(ruoloDao.findByNome(nomeRuoloEnum));
-            }
-            if (dipartimento != null && !ruoli.isEmpty()) {
-                dipendente.setDipartimento(dipartimento);
-                dipendente.setRuoli(ruoli);
+            Dipendente dipendente = creaDipendente(dipendenteDto);
+            if (dipendente != null) {
                 dipendenteDao.save(dipendente);
+                eventPublisher.publishEvent(DipendentiModificatiEvent.salvati(List.of(creaIstantanea(dipendente))));
             }
         } catch (Exception e) {
             e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+    }
+
+    /**
+     * Registra un blocco di nuovi dipendenti in un'unica transazione.
+     * Gli ID vengono assegnati da Hibernate prima degli INSERT, che vengono quindi inviati in batch JDBC
+     * sia per {@code dipendente} sia per {@code dipendente_ruolo}. Al termine il contesto di persistenza
+     * viene svuotato, così che la memoria occupata non cresca con il numero di blocchi.
+     * 
+     * @param dipendentiDto i DTO contenenti i dati dei nuovi dipendenti, già validati
+     * @return gli ID assegnati, nello stesso ordine dei DTO, con {@code 0} per i dipendenti non registrati
+     */
+    @Override
+    @Transactional
+    public List<Integer> registrationDipendenti(List<DipendenteDtoRegistration> dipendentiDto) {
+        List<Dipendente> dipendenti = new ArrayList<>(dipendentiDto.size());
+        for (DipendenteDtoRegistration dipendenteDto : dipendentiDto) {
+            try {
+                dipendenti.add(creaDipendente(dipendenteDto));
+            } catch (IllegalArgumentException e) {
+                dipendenti.add(null);
+            }
         }
+        List<Dipendente> registrati = dipendenti.stream().filter(d -> d != null).toList();
+        dipendenteDao.saveAll(registrati);
+        entityManager.flush();
+        entityManager.clear();
+        List<IstantaneaDipendente> istantanee = new ArrayList<>(registrati.size());
+        registrati.forEach(d -> istantanee.add(creaIstantanea(d)));
+        eventPublisher.publishEvent(DipendentiModificatiEvent.salvati(istantanee));
+        List<Integer> ids = new ArrayList<>(dipendenti.size());
+        dipendenti.forEach(d -> ids.add(d != null ? d.getId() : 0));
+        return ids;
+    }
+
+    /**
+     * Crea un nuovo dipendente dal DTO di registrazione, risolvendo il dipartimento e i ruoli
+     * in base agli enum tramite {@link DatiRiferimentoCache}.
+     * 
+     * @param dipendenteDto il DTO contenente i dati del dipendente
+     * @return il nuovo dipendente da salvare, o {@code null} se il dipartimento o uno dei ruoli non esiste
+     * @throws IllegalArgumentException se il nome del dipartimento o di un ruolo non corrisponde a nessun valore degli enum
+     */
+    private Dipendente creaDipendente(DipendenteDtoRegistration dipendenteDto) {
+        Dipendente dipendente = mapper.toDipendente(dipendenteDto);
+        NomeDipartimento nomeDipEnum = NomeDipartimento.valueOf(dipendenteDto.getDipartimento());
+        Dipartimento dipartimento = datiRiferimento.getDipartimento(nomeDipEnum);
+        List<String> ruoliString = dipendenteDto.getRuoli();
+        Set<Ruolo> ruoli = new LinkedHashSet<>();
+        for (String ruoloString : ruoliString) {
+            NomeRuolo nomeRuoloEnum = NomeRuolo.valueOf(ruoloString);
+            ruoli.add(datiRiferimento.getRuolo(nomeRuoloEnum));
+        }
+        if (dipartimento != null && !ruoli.isEmpty() && !ruoli.contains(null)) {
+            dipendente.setDipartimento(dipartimento);
+            dipendente.setRuoli(ruoli);
+            return dipendente;
+        }
+        return null;
+    }
+
+    /**
+     * Crea l'istantanea di un dipendente da pubblicare con {@link DipendentiModificatiEvent}.
+     * Il dipartimento e i ruoli sono risolti tramite il loro ID con {@link DatiRiferimentoCache},
+     * così che i riferimenti non inizializzati non vengano caricati.
+     * 
+     * @param dipendente il dipendente salvato
+     * @return l'istantanea del dipendente
+     */
+    private IstantaneaDipendente creaIstantanea(Dipendente dipendente) {
+        NomeDipartimento nomeDipartimento = dipendente.getDipartimento() != null
+                ? datiRiferimento.getNomeDipartimento(dipendente.getDipartimento().getId())
+                : null;
+        EnumSet<NomeRuolo> nomiRuoli = EnumSet.noneOf(NomeRuolo.class);
+        for (Ruolo ruolo : dipendente.getRuoli()) {
+            NomeRuolo nomeRuolo = datiRiferimento.getNomeRuolo(ruolo.getId());
+            if (nomeRuolo != null) {
+                nomiRuoli.add(nomeRuolo);
+            }
+        }
+        return new IstantaneaDipendente(dipendente.getId(), dipendente.getNome(), dipendente.getCognome(),
+                dipendente.getDataNascita(), dipendente.getDataAssunzione(), dipendente.getStipendio(),
+                nomeDipartimento, nomiRuoli);
     }
 
     /**
      * Modifica i dati di un dipendente esistente.
+     * I ruoli vengono aggiornati applicando la differenza all'insieme già caricato: Hibernate elimina
+     * dalla tabella {@code dipendente_ruolo} solo i ruoli rimossi e inserisce solo quelli aggiunti,
+     * senza eseguire alcuna istruzione se i ruoli non cambiano.
+     * Dipartimento e ruoli vengono risolti prima di modificare l'entità gestita: se uno non esiste, o non è
+     * indicato alcun ruolo, il dipendente non viene modificato, nemmeno nei campi già validi.
+     * In caso di errore la transazione viene annullata senza propagare l'eccezione.
      * 
      * @param dipendenteDto il DTO contenente i nuovi dati del dipendente
      */
     @Override
+    @Transactional
     public void updateDipendenteData(DipendenteDtoUpdate dipendenteDto) {
         try {
+            Dipartimento dipartimento = datiRiferimento.getDipartimento(dipendenteDto.getDipartimento());
+            List<Integer> ruoliId = dipendenteDto.getRuoli();
+            Set<Ruolo> ruoli = new LinkedHashSet<>();
+            ruoliId.forEach(id -> ruoli.add(datiRiferimento.getRuolo(id)));
+            if (dipartimento == null || ruoli.isEmpty() || ruoli.contains(null)) {
+                return;
+            }
             Optional<Dipendente> dipendenteOptional = dipendenteDao.findById(dipendenteDto.getId());
             if (dipendenteOptional.isPresent()) {
                 Dipendente dipendente = dipendenteOptional.get();
@@ -92,56 +282,165 @@ public class DipendenteServiceImpl implements DipendenteService {
                 dipendente.setDataNascita(dipendenteDto.getDataNascita());
                 dipendente.setDataAssunzione(dipendenteDto.getDataAssunzione());
                 dipendente.setStipendio(dipendenteDto.getStipendio());
-                Dipartimento dipartimento = dipartimentoDao.findById(dipendenteDto.getDipartimento()).get();
-                List<Integer> ruoliId = dipendenteDto.getRuoli();
-                List<Ruolo> ruoli = new ArrayList<>();
-                if (dipartimento != null && !ruoliId.isEmpty()) {
-                    dipendente.setDipartimento(dipartimento);
-                    ruoliId.forEach(id -> ruoli.add(ruoloDao.findById(id).get()));
-                    dipendente.setRuoli(ruoli);
-                    dipendenteDao.save(dipendente);
-                }
+                dipendente.setDipartimento(dipartimento);
+                dipendente.getRuoli().retainAll(ruoli);
+                dipendente.getRuoli().addAll(ruoli);
+                dipendenteDao.save(dipendente);
+                eventPublisher.publishEvent(DipendentiModificatiEvent.salvati(List.of(creaIstantanea(dipendente))));
             }
         } catch (Exception e) {
             e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
         }
     }
 
     /**
-     * Elimina un dipendente in base al suo ID.
+     * Elimina un dipendente in base al suo ID, senza caricarlo, tramite {@link #eliminaDipendenti(Collection)}.
+     * In caso di errore la transazione viene annullata senza propagare l'eccezione.
      * 
      * @param id l'ID del dipendente da eliminare
      */
     @Override
+    @Transactional
     public void deleteDipendenteById(int id) {
         try {
-            Optional<Dipendente> dipendenteOptional = dipendenteDao.findById(id);
-            if (dipendenteOptional.isPresent()) {
-                dipendenteDao.delete(dipendenteOptional.get());
-            }
+            eliminaDipendenti(List.of(id));
         } catch (Exception e) {
             e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
         }
     }
 
     /**
-     * Restituisce una lista di tutti i dipendenti registrati.
+     * Elimina più dipendenti in base ai loro ID in un'unica transazione, senza caricarli,
+     * tramite {@link #eliminaDipendenti(Collection)}. Gli ID ripetuti o inesistenti vengono ignorati.
+     * In caso di errore la transazione viene annullata e nessun dipendente viene eliminato.
      * 
-     * @return una lista di DTO dei dipendenti
+     * @param ids gli ID dei dipendenti da eliminare
+     * @return il numero di dipendenti eliminati, o {@code -1} in caso di errore
      */
     @Override
-    public List<DipendenteDto> getAllDipendenti() {
+    @Transactional
+    public int deleteDipendentiByIds(List<Integer> ids) {
         try {
-            List<Dipendente> dipendenti = (List<Dipendente>) dipendenteDao.findAll();
-            List<DipendenteDto> dipendentiDto = new ArrayList<>();
-            dipendenti.forEach(d -> dipendentiDto.add(mapper.map(d, DipendenteDto.class)));
-            return dipendentiDto;
+            return eliminaDipendenti(new HashSet<>(ids));
+        } catch (Exception e) {
+            e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return -1;
+        }
+    }
+
+    /**
+     * Elimina i dipendenti indicati con {@link DipendenteDao#deleteByIdIn(Collection)}, che esegue una DELETE
+     * sulla tabella {@code dipendente_ruolo} e una sulla tabella {@code dipendente}, indipendentemente dal numero di ID.
+     * Poiché le entità non vengono caricate, i documenti vengono rimossi esplicitamente dall'indice di ricerca
+     * full-text al commit, e gli indici in memoria vengono aggiornati con {@link DipendentiModificatiEvent}.
+     * 
+     * @param ids gli ID distinti dei dipendenti da eliminare
+     * @return il numero di dipendenti eliminati
+     */
+    private int eliminaDipendenti(Collection<Integer> ids) {
+        int eliminati = dipendenteDao.deleteByIdIn(ids);
+        if (eliminati > 0) {
+            SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+            ids.forEach(id -> indexingPlan.purge(Dipendente.class, id, null));
+            eventPublisher.publishEvent(DipendentiModificatiEvent.eliminati(new ArrayList<>(ids)));
+        }
+        return eliminati;
+    }
+
+    /**
+     * Restituisce una pagina di dipendenti tramite paginazione keyset.
+     * Viene letta una riga in più del limite richiesto per sapere se esiste una pagina successiva:
+     * in tal caso il cursore restituito codifica la chiave di ordinamento e l'ID dell'ultimo dipendente della pagina.
+     * 
+     * @param afterId l'ID dopo il quale iniziare la pagina, usato con ordinamento per ID
+     * @param limit il numero massimo di dipendenti della pagina
+     * @param sort la chiave di ordinamento, {@code id} oppure {@code cognome}
+     * @param cursor il cursore restituito dalla pagina precedente, o {@code null}
+     * @return la pagina di dipendenti, o {@code null} se il cursore o l'ordinamento non sono validi
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DipendentePaginaDto getDipendentiPage(int afterId, int limit, String sort, String cursor) {
+        try {
+            String cognome = "";
+            if (cursor != null && !cursor.isEmpty()) {
+                String[] posizione = new String(Base64.decodeBase64(cursor), StandardCharsets.UTF_8).split(":", 3);
+                sort = posizione[0];
+                afterId = Integer.parseInt(posizione[1]);
+                cognome = posizione[2];
+            }
+            PageRequest pagina = PageRequest.ofSize(limit + 1);
+            List<Dipendente> dipendenti;
+            if (SORT_ID.equals(sort)) {
+                dipendenti = dipendenteDao.findPageOrderById(afterId, pagina);
+            } else if (SORT_COGNOME.equals(sort)) {
+                dipendenti = dipendenteDao.findPageOrderByCognome(cognome, afterId, pagina);
+            } else {
+                return null;
+            }
+            DipendentePaginaDto paginaDto = new DipendentePaginaDto();
+            if (dipendenti.size() > limit) {
+                dipendenti = dipendenti.subList(0, limit);
+                Dipendente ultimo = dipendenti.get(limit - 1);
+                String valore = SORT_COGNOME.equals(sort) ? ultimo.getCognome() : "";
+                String posizione = sort + ":" + ultimo.getId() + ":" + valore;
+                paginaDto.setNextCursor(Base64.encodeBase64URLSafeString(posizione.getBytes(StandardCharsets.UTF_8)));
+            }
+            List<DipendenteDto> dipendentiDto = new ArrayList<>(dipendenti.size());
+            dipendenti.forEach(d -> dipendentiDto.add(mapper.toDipendenteDto(d)));
+            paginaDto.setDipendenti(dipendentiDto);
+            return paginaDto;
         } catch (Exception e) {
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * Esporta tutti i dipendenti in formato NDJSON, scorrendo la tabella a blocchi di
+     * {@code gestionale.export.chunk-size} righe tramite la paginazione keyset per ID.
+     * Ogni blocco viene letto e convertito in DTO in una propria transazione in sola lettura, e scritto
+     * sullo stream dopo il commit: la connessione JDBC resta occupata solo per la lettura del blocco
+     * e non per la durata dello scaricamento, che dipende dalla velocità del client.
+     * Dopo ogni blocco il contesto di persistenza viene ripulito, così che le entità già lette
+     * possano essere raccolte dal garbage collector.
+     * 
+     * @param outputStream lo stream su cui scrivere l'esportazione
+     * @throws IOException se la scrittura sullo stream non riesce (ad esempio se il client si disconnette)
+     */
+    @Override
+    public void exportDipendenti(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        TransactionTemplate transazione = new TransactionTemplate(transactionManager);
+        transazione.setReadOnly(true);
+        PageRequest blocco = PageRequest.ofSize(exportChunkSize);
+        int[] afterId = { 0 };
+        List<DipendenteDto> dipendentiDto;
+        do {
+            dipendentiDto = transazione.execute(status -> {
+                List<Dipendente> dipendenti = dipendenteDao.findPageOrderById(afterId[0], blocco);
+                List<DipendenteDto> dtos = new ArrayList<>(dipendenti.size());
+                for (Dipendente d : dipendenti) {
+                    dtos.add(mapper.toDipendenteDto(d));
+                    afterId[0] = d.getId();
+                }
+                entityManager.clear();
+                return dtos;
+            });
+            for (DipendenteDto dto : dipendentiDto) {
+                objectMapper.writeValue(generator, dto);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        } while (dipendentiDto.size() == exportChunkSize);
+        generator.close();
+    }
+
     /**
      * Restituisce i dati di un dipendente in base al suo ID.
      * 
@@ -149,12 +448,13 @@ public class DipendenteServiceImpl implements DipendenteService {
      * @return un DTO contenente i dati del dipendente, o {@code null} se non trovato
      */
     @Override
+    @Transactional(readOnly = true)
     public DipendenteDto getDipendenteById(int id) {
         try {
             Optional<Dipendente> dipendenteOptional = dipendenteDao.findById(id);
             if (dipendenteOptional.isPresent()) {
                 Dipendente dipendente = dipendenteOptional.get();
-                return mapper.map(dipendente, DipendenteDto.class);
+                return mapper.toDipendenteDto(dipendente);
             }
             return null;
         } catch (Exception e) {
@@ -163,6 +463,277 @@ public class DipendenteServiceImpl implements DipendenteService {
         }
     }
 
+    /**
+     * Recupera più dipendenti in base a una lista di ID, eseguendo una sola query per tutti gli ID distinti.
+     * Il risultato mantiene l'ordine della richiesta, inclusi eventuali ID ripetuti.
+     * 
+     * @param ids gli ID dei dipendenti da recuperare
+     * @return un elemento per ogni ID richiesto, o {@code null} in caso di errore
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<DipendenteBatchDto> getDipendentiByIds(List<Integer> ids) {
+        try {
+            Map<Integer, DipendenteDto> trovati = new HashMap<>();
+            dipendenteDao.findByIdIn(new HashSet<>(ids)).forEach(d -> trovati.put(d.getId(), mapper.toDipendenteDto(d)));
+            List<DipendenteBatchDto> dipendentiDto = new ArrayList<>(ids.size());
+            for (Integer id : ids) {
+                DipendenteBatchDto dipendenteBatchDto = new DipendenteBatchDto();
+                dipendenteBatchDto.setId(id);
+                dipendenteBatchDto.setDipendente(trovati.get(id));
+                dipendenteBatchDto.setTrovato(dipendenteBatchDto.getDipendente() != null);
+                dipendentiDto.add(dipendenteBatchDto);
+            }
+            return dipendentiDto;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Restituisce i suggerimenti per l'autocompletamento leggendo l'indice in memoria {@link IndicePrefissi},
+     * senza interrogare il database.
+     * 
+     * @param prefisso il testo digitato
+     * @param limite il numero massimo di suggerimenti
+     * @return la lista dei suggerimenti, eventualmente vuota
+     */
+    @Override
+    public List<DipendenteSuggerimentoDto> getDipendentiByPrefisso(String prefisso, int limite) {
+        return indicePrefissi.cerca(prefisso, limite);
+    }
+
+    /**
+     * Risolve i filtri di appartenenza con l'indice bitmap {@link IndiceAppartenenza}, senza interrogare il database,
+     * e carica i dipendenti della pagina con una sola query tramite {@link #getDipendentiByIds(List)}.
+     * Con {@code limit} uguale a 0 viene calcolato solo il totale.
+     * 
+     * @param filtro i filtri di appartenenza
+     * @param afterId l'ID dopo il quale iniziare la pagina
+     * @param limit il numero massimo di dipendenti della pagina
+     * @return il totale e la pagina dei dipendenti in ordine di ID, o {@code null} se un filtro non è valido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AppartenenzaPaginaDto getDipendentiByAppartenenza(AppartenenzaFiltroDto filtro, int afterId, int limit) {
+        try {
+            RoaringBitmap risultato = indiceAppartenenza.cerca(
+                    nomiEnum(NomeDipartimento.class, filtro.getDipartimento()),
+                    nomiEnum(NomeRuolo.class, filtro.getRuolo()),
+                    filtro.isTuttiRuoli(),
+                    nomiEnum(NomeDipartimento.class, filtro.getEscludiDipartimento()),
+                    nomiEnum(NomeRuolo.class, filtro.getEscludiRuolo()));
+            AppartenenzaPaginaDto paginaDto = new AppartenenzaPaginaDto();
+            paginaDto.setTotale(risultato.getLongCardinality());
+            List<Integer> ids = new ArrayList<>(limit);
+            PeekableIntIterator iteratore = risultato.getIntIterator();
+            iteratore.advanceIfNeeded(afterId + 1);
+            while (iteratore.hasNext() && ids.size() < limit) {
+                ids.add(iteratore.next());
+            }
+            if (iteratore.hasNext() && !ids.isEmpty()) {
+                paginaDto.setNextAfterId(ids.get(ids.size() - 1));
+            }
+            paginaDto.setDipendenti(ids.isEmpty() ? new ArrayList<>() : getDipendentiByIds(ids));
+            return paginaDto;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converte una lista di nomi nei corrispondenti valori di un enum.
+     * 
+     * @param tipo la classe dell'enum
+     * @param nomi i nomi da convertire, può essere {@code null}
+     * @return i valori dell'enum, o {@code null} se la lista è {@code null}
+     * @throws IllegalArgumentException se un nome non corrisponde a nessun valore dell'enum
+     */
+    private static <E extends Enum<E>> List<E> nomiEnum(Class<E> tipo, List<String> nomi) {
+        if (nomi == null) {
+            return null;
+        }
+        List<E> valori = new ArrayList<>(nomi.size());
+        nomi.forEach(nome -> valori.add(Enum.valueOf(tipo, nome)));
+        return valori;
+    }
+
+    /**
+     * Esegue la ricerca multi-criterio combinando i filtri richiesti in un'unica query, con paginazione
+     * e ordinamento eseguiti dal database. I nomi di dipartimenti e ruoli vengono convertiti nei rispettivi ID
+     * tramite {@link DatiRiferimentoCache}; a parità del campo di ordinamento i dipendenti sono ordinati per ID.
+     * 
+     * @param filtro i filtri e l'ordinamento della ricerca
+     * @param pagina il numero della pagina, a partire da 0
+     * @param dimensione il numero massimo di dipendenti della pagina
+     * @return la pagina dei dipendenti, o {@code null} se un filtro o l'ordinamento non sono validi
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DipendenteFiltroPaginaDto getDipendentiByFiltro(DipendenteFiltroDto filtro, int pagina, int dimensione) {
+        try {
+            if (!SORT_FILTRO.contains(filtro.getSort())) {
+                return null;
+            }
+            Sort.Direction direzione = Sort.Direction.fromString(filtro.getDirection());
+            Sort ordinamento = Sort.by(direzione, filtro.getSort());
+            if (!SORT_ID.equals(filtro.getSort())) {
+                ordinamento = ordinamento.and(Sort.by(direzione, SORT_ID));
+            }
+            List<Integer> idDipartimenti = new ArrayList<>();
+            if (filtro.getDipartimento() != null) {
+                for (String nome : filtro.getDipartimento()) {
+                    Dipartimento dipartimento = datiRiferimento.getDipartimento(NomeDipartimento.valueOf(nome));
+                    if (dipartimento != null) {
+                        idDipartimenti.add(dipartimento.getId());
+                    }
+                }
+            }
+            List<Integer> idRuoli = new ArrayList<>();
+            if (filtro.getRuolo() != null) {
+                for (String nome : filtro.getRuolo()) {
+                    Ruolo ruolo = datiRiferimento.getRuolo(NomeRuolo.valueOf(nome));
+                    if (ruolo != null) {
+                        idRuoli.add(ruolo.getId());
+                    }
+                }
+            }
+            DipendenteFiltroPaginaDto paginaDto = new DipendenteFiltroPaginaDto();
+            paginaDto.setPagina(pagina);
+            paginaDto.setDimensione(dimensione);
+            boolean dipartimentiNonTrovati = filtro.getDipartimento() != null && !filtro.getDipartimento().isEmpty() && idDipartimenti.isEmpty();
+            boolean ruoliNonTrovati = filtro.getRuolo() != null && !filtro.getRuolo().isEmpty() && idRuoli.isEmpty();
+            if (dipartimentiNonTrovati || ruoliNonTrovati) {
+                paginaDto.setDipendenti(new ArrayList<>());
+                return paginaDto;
+            }
+            Specification<Dipendente> spec = Specification.allOf(
+                    DipendenteSpecifications.dipartimentoIn(idDipartimenti),
+                    DipendenteSpecifications.ruoloIn(idRuoli),
+                    DipendenteSpecifications.stipendioTra(filtro.getStipendioMin(), filtro.getStipendioMax()),
+                    DipendenteSpecifications.dataAssunzioneTra(filtro.getDataAssunzioneDa(), filtro.getDataAssunzioneA()),
+                    DipendenteSpecifications.dataNascitaTra(filtro.getDataNascitaDa(), filtro.getDataNascitaA()));
+            Page<Dipendente> dipendenti = dipendenteDao.findAll(spec, PageRequest.of(pagina, dimensione, ordinamento));
+            List<DipendenteDto> dipendentiDto = new ArrayList<>(dipendenti.getNumberOfElements());
+            dipendenti.forEach(d -> dipendentiDto.add(mapper.toDipendenteDto(d)));
+            paginaDto.setTotale(dipendenti.getTotalElements());
+            paginaDto.setDipendenti(dipendentiDto);
+            return paginaDto;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Esegue la ricerca full-text sull'indice Lucene dei dipendenti.
+     * Le corrispondenze esatte su nome e cognome hanno un peso doppio; le corrispondenze approssimate
+     * (fino a due caratteri di differenza, con la prima lettera esatta) sono cercate anche nei nomi
+     * di dipartimento e ruoli. I dipendenti della pagina vengono caricati con l'entity graph
+     * {@code Dipendente.completo}.
+     * Il testo non viene convertito nel tipo dei campi ({@code ValueConvert.NO}), perché i nomi di dipartimento
+     * e ruoli sono indicizzati a partire dagli enum.
+     * 
+     * @param testo il testo da cercare
+     * @param pagina il numero della pagina, a partire da 0
+     * @param dimensione il numero massimo di risultati della pagina
+     * @return la pagina dei risultati ordinati per rilevanza, o {@code null} in caso di errore
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RicercaPaginaDto getDipendentiByTesto(String testo, int pagina, int dimensione) {
+        try {
+            SearchResult<DipendenteRicercaDto> risultato = Search.session(entityManager)
+                    .search(Dipendente.class)
+                    .select(f -> f.composite()
+                            .from(f.entity(), f.score())
+                            .as((dipendente, punteggio) -> {
+                                DipendenteRicercaDto dto = new DipendenteRicercaDto();
+                                dto.setId(dipendente.getId());
+                                dto.setPunteggio(punteggio);
+                                dto.setDipendente(mapper.toDipendenteDto(dipendente));
+                                return dto;
+                            }))
+                    .where(f -> f.bool()
+                            .should(f.match().fields("nome", "cognome").matching(testo).boost(2f))
+                            .should(f.match().fields("nome", "cognome", "dipartimento.nome", "ruoli.nome")
+                                    .matching(testo, ValueConvert.NO).fuzzy(2, 1)))
+                    .loading(o -> o.graph("Dipendente.completo", GraphSemantic.FETCH))
+                    .fetch(pagina * dimensione, dimensione);
+            RicercaPaginaDto paginaDto = new RicercaPaginaDto();
+            paginaDto.setTotale(risultato.total().hitCount());
+            paginaDto.setPagina(pagina);
+            paginaDto.setDimensione(dimensione);
+            paginaDto.setRisultati(risultato.hits());
+            return paginaDto;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Calcola le statistiche retributive per dipartimento con una query {@code GROUP BY} eseguita dal database.
+     * 
+     * @return le statistiche di ciascun dipartimento, o {@code null} in caso di errore
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticheGruppoDto> getStatisticheByDipartimento() {
+        try {
+            return dipendenteDao.statisticheByDipartimento();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Calcola le statistiche retributive per ruolo con una query {@code GROUP BY} eseguita dal database.
+     * 
+     * @return le statistiche di ciascun ruolo, o {@code null} in caso di errore
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticheGruppoDto> getStatisticheByRuolo() {
+        try {
+            return dipendenteDao.statisticheByRuolo();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Restituisce i dipendenti più pagati di ciascun dipartimento, calcolati dal database con una funzione finestra.
+     * 
+     * @param n il numero di dipendenti per dipartimento
+     * @return la classifica ordinata per dipartimento e posizione, o {@code null} in caso di errore
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StipendioClassificaDto> getClassificaStipendi(int n) {
+        try {
+            List<StipendioClassifica> righe = dipendenteDao.classificaStipendi(n);
+            List<StipendioClassificaDto> classifica = new ArrayList<>(righe.size());
+            for (StipendioClassifica riga : righe) {
+                StipendioClassificaDto dto = new StipendioClassificaDto();
+                dto.setDipartimento(riga.getDipartimento());
+                dto.setPosizione(riga.getPosizione());
+                dto.setId(riga.getId());
+                dto.setNome(riga.getNome());
+                dto.setCognome(riga.getCognome());
+                dto.setStipendio(riga.getStipendio());
+                classifica.add(dto);
+            }
+            return classifica;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
     /**
      * Cerca dipendenti in base al nome fornito.
      * 
@@ -170,12 +741,13 @@ public class DipendenteServiceImpl implements DipendenteService {
      * @return una lista di DTO dei dipendenti con il nome specificato
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DipendenteDto> getDipendentiByNome(String nomeDipendente) {
         try {
             List<Dipendente> dipendenti = dipendenteDao.findByNome(nomeDipendente);
             List<DipendenteDto> dipendentiDto = new ArrayList<>();
             if (!dipendenti.isEmpty()) {
-                dipendenti.forEach(d -> dipendentiDto.add(mapper.map(d, DipendenteDto.class)));
+                dipendenti.forEach(d -> dipendentiDto.add(mapper.toDipendenteDto(d)));
                 return dipendentiDto;
             }
             return null;
@@ -192,14 +764,15 @@ public class DipendenteServiceImpl implements DipendenteService {
      * @return una lista di DTO dei dipendenti nel dipartimento specificato
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DipendenteByDipartimentoDto> getDipendentiByDipartimento(String nomeDipartimento) {
         try {
             NomeDipartimento nomeDipEnum = NomeDipartimento.valueOf(nomeDipartimento);
-            Dipartimento dipartimento = dipartimentoDao.findByNome(nomeDipEnum);
+            Dipartimento dipartimento = datiRiferimento.getDipartimento(nomeDipEnum);
             List<Dipendente> dipendenti = dipendenteDao.findByDipartimento(dipartimento);
             List<DipendenteByDipartimentoDto> dipendentiDto = new ArrayList<>();
             if (!dipendenti.isEmpty()) {
-                dipendenti.forEach(d -> dipendentiDto.add(mapper.map(d, DipendenteByDipartimentoDto.class)));
+                dipendenti.forEach(d -> dipendentiDto.add(mapper.toDipendenteByDipartimentoDto(d)));
                 return dipendentiDto;
             }
             return null;
@@ -216,13 +789,14 @@ public class DipendenteServiceImpl implements DipendenteService {
      * @return una lista di DTO dei dipendenti con il ruolo specificato
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DipendenteByRuoloDto> getDipendentiByRuolo(String nomeRuolo) {
         try {
             NomeRuolo nomeRuoloEnum = NomeRuolo.valueOf(nomeRuolo);
             List<Dipendente> dipendenti = dipendenteDao.findByRuolo(nomeRuoloEnum);
             List<DipendenteByRuoloDto> dipendentiDto = new ArrayList<>();
             if (!dipendenti.isEmpty()) {
-                dipendenti.forEach(d -> dipendentiDto.add(mapper.map(d, DipendenteByRuoloDto.class)));
+                dipendenti.forEach(d -> dipendentiDto.add(mapper.toDipendenteByRuoloDto(d)));
                 return dipendentiDto;
             }
             return null;
@@ -0,0 +1,50 @@
+package it.corso.service;
+
+import it.corso.dto.RiassegnazioneRuoloDto;
+import it.corso.dto.TrasferimentoDipartimentoDto;
+
+/**
+ * L'interfaccia {@code RiorganizzazioneService} definisce le operazioni massive di riorganizzazione
+ * dei dipendenti: trasferimenti tra dipartimenti e assegnazione o rimozione di ruoli.
+ *
+ * <ul>
+ * <li>{@link #trasferisciDipartimento(TrasferimentoDipartimentoDto)}: Sposta i dipendenti da un dipartimento a un altro.</li>
+ * <li>{@link #aggiungiRuolo(RiassegnazioneRuoloDto)}: Assegna un ruolo ai dipendenti che soddisfano i filtri.</li>
+ * <li>{@link #rimuoviRuolo(RiassegnazioneRuoloDto)}: Rimuove un ruolo ai dipendenti che soddisfano i filtri.</li>
+ * </ul>
+ *
+ * @see TrasferimentoDipartimentoDto
+ * @see RiassegnazioneRuoloDto
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface RiorganizzazioneService {
+
+    /**
+     * Sposta tutti i dipendenti di un dipartimento, o quelli con il ruolo indicato, in un altro dipartimento.
+     *
+     * @param trasferimentoDto i dipartimenti di partenza e di arrivo e il filtro sul ruolo
+     * @return il numero di dipendenti spostati, o {@code -1} se la richiesta non è valida o in caso di errore
+     */
+    int trasferisciDipartimento(TrasferimentoDipartimentoDto trasferimentoDto);
+
+    /**
+     * Assegna un ruolo ai dipendenti che soddisfano i filtri e non lo possiedono già.
+     *
+     * @param riassegnazioneDto il ruolo e i filtri
+     * @return il numero di ruoli assegnati, o {@code -1} se la richiesta non è valida o in caso di errore
+     */
+    int aggiungiRuolo(RiassegnazioneRuoloDto riassegnazioneDto);
+
+    /**
+     * Rimuove un ruolo ai dipendenti che soddisfano i filtri, tranne a quelli per cui è l'unico ruolo.
+     *
+     * @param riassegnazioneDto il ruolo e i filtri
+     * @return il numero di ruoli rimossi, o {@code -1} se la richiesta non è valida o in caso di errore
+     */
+    int rimuoviRuolo(RiassegnazioneRuoloDto riassegnazioneDto);
+
+}
@@ -0,0 +1,203 @@
+package it.corso.service;
+
+import java.util.stream.Stream;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import io.micrometer.core.annotation.Timed;
+
+import it.corso.cache.DatiRiferimentoCache;
+import it.corso.dao.DipendenteDao;
+import it.corso.dto.RiassegnazioneRuoloDto;
+import it.corso.dto.TrasferimentoDipartimentoDto;
+import it.corso.event.DipendentiRiorganizzatiEvent;
+import it.corso.model.Dipartimento;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import it.corso.model.Ruolo;
+
+/**
+ * L'implementazione della classe {@code RiorganizzazioneService} che esegue ogni operazione con una sola
+ * istruzione SQL su {@code dipendente.id_dipartimento} o su {@code dipendente_ruolo}, senza caricare i dipendenti.
+ *
+ * I nomi di dipartimenti e ruoli vengono convertiti nei rispettivi ID tramite {@link DatiRiferimentoCache}.
+ * Le istruzioni invalidano solo la regione della cache di secondo livello della tabella modificata.
+ * Prima dell'istruzione vengono letti, con gli stessi filtri e con un lock sulle righe dei dipendenti, gli ID
+ * dei dipendenti che verranno modificati; dopo il commit viene pubblicato un {@link DipendentiRiorganizzatiEvent}
+ * con questi ID e la modifica, che gli indici in memoria e l'indice di ricerca full-text applicano ai soli
+ * dipendenti indicati. Due operazioni sugli stessi dipendenti vengono così eseguite una dopo l'altra.
+ * In caso di errore la transazione viene annullata senza propagare l'eccezione e il metodo restituisce {@code -1}.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Service
+@Timed("gestionale.service")
+public class RiorganizzazioneServiceImpl implements RiorganizzazioneService {
+
+    @Autowired
+    private DipendenteDao dipendenteDao;
+
+    @Autowired
+    private DatiRiferimentoCache datiRiferimento;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Sposta i dipendenti nel dipartimento di arrivo.
+     *
+     * @param trasferimentoDto i dipartimenti di partenza e di arrivo e il filtro sul ruolo
+     * @return il numero di dipendenti spostati, o {@code -1} se un nome non è valido, i dipartimenti coincidono o in caso di errore
+     */
+    @Override
+    @Transactional
+    public int trasferisciDipartimento(TrasferimentoDipartimentoDto trasferimentoDto) {
+        try {
+            Dipartimento origine = dipartimento(trasferimentoDto.getDipartimentoOrigine());
+            Dipartimento destinazione = dipartimento(trasferimentoDto.getDipartimentoDestinazione());
+            Ruolo conRuolo = ruolo(trasferimentoDto.getConRuolo());
+            if (origine == null || destinazione == null || origine.getId() == destinazione.getId()) {
+                return -1;
+            }
+            Integer idConRuolo = id(conRuolo);
+            RoaringBitmap ids = new RoaringBitmap();
+            try (Stream<Integer> righe = dipendenteDao.streamIdsDaTrasferire(origine.getId(), idConRuolo)) {
+                righe.forEach(ids::add);
+            }
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int spostati = dipendenteDao.trasferisciDipartimento(origine.getId(), destinazione.getId(), idConRuolo);
+            eventPublisher.publishEvent(DipendentiRiorganizzatiEvent.trasferiti(ids,
+                    datiRiferimento.getNomeDipartimento(destinazione.getId())));
+            return spostati;
+        } catch (Exception e) {
+            e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return -1;
+        }
+    }
+
+    /**
+     * Assegna il ruolo ai dipendenti che soddisfano i filtri e non lo possiedono già.
+     *
+     * @param riassegnazioneDto il ruolo e i filtri
+     * @return il numero di ruoli assegnati, o {@code -1} se un nome non è valido, il filtro sul ruolo coincide con il ruolo o in caso di errore
+     */
+    @Override
+    @Transactional
+    public int aggiungiRuolo(RiassegnazioneRuoloDto riassegnazioneDto) {
+        try {
+            Ruolo ruolo = ruolo(riassegnazioneDto.getRuolo());
+            Dipartimento dipartimento = dipartimento(riassegnazioneDto.getDipartimento());
+            Ruolo conRuolo = ruolo(riassegnazioneDto.getConRuolo());
+            if (ruolo == null || ruolo.equals(conRuolo)) {
+                return -1;
+            }
+            Integer idDipartimento = id(dipartimento);
+            Integer idConRuolo = id(conRuolo);
+            RoaringBitmap ids = new RoaringBitmap();
+            try (Stream<Integer> righe = dipendenteDao.streamIdsSenzaRuolo(ruolo.getId(), idDipartimento, idConRuolo)) {
+                righe.forEach(ids::add);
+            }
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int aggiunti = dipendenteDao.aggiungiRuolo(ruolo.getId(), idDipartimento, idConRuolo);
+            eventPublisher.publishEvent(DipendentiRiorganizzatiEvent.ruoloAggiunto(ids,
+                    datiRiferimento.getNomeRuolo(ruolo.getId())));
+            return aggiunti;
+        } catch (Exception e) {
+            e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return -1;
+        }
+    }
+
+    /**
+     * Rimuove il ruolo ai dipendenti che soddisfano i filtri e ne possiedono almeno un altro.
+     *
+     * @param riassegnazioneDto il ruolo e i filtri
+     * @return il numero di ruoli rimossi, o {@code -1} se un nome non è valido, il filtro sul ruolo coincide con il ruolo o in caso di errore
+     */
+    @Override
+    @Transactional
+    public int rimuoviRuolo(RiassegnazioneRuoloDto riassegnazioneDto) {
+        try {
+            Ruolo ruolo = ruolo(riassegnazioneDto.getRuolo());
+            Dipartimento dipartimento = dipartimento(riassegnazioneDto.getDipartimento());
+            Ruolo conRuolo = ruolo(riassegnazioneDto.getConRuolo());
+            if (ruolo == null || ruolo.equals(conRuolo)) {
+                return -1;
+            }
+            Integer idDipartimento = id(dipartimento);
+            Integer idConRuolo = id(conRuolo);
+            RoaringBitmap ids = new RoaringBitmap();
+            try (Stream<Integer> righe = dipendenteDao.streamIdsConRuoloRimovibile(ruolo.getId(), idDipartimento, idConRuolo)) {
+                righe.forEach(ids::add);
+            }
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int rimossi = dipendenteDao.rimuoviRuolo(ruolo.getId(), idDipartimento, idConRuolo);
+            eventPublisher.publishEvent(DipendentiRiorganizzatiEvent.ruoloRimosso(ids,
+                    datiRiferimento.getNomeRuolo(ruolo.getId())));
+            return rimossi;
+        } catch (Exception e) {
+            e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return -1;
+        }
+    }
+
+    /**
+     * @param nome il nome del dipartimento, o {@code null}
+     * @return il dipartimento, o {@code null} se il nome è {@code null}
+     * @throws IllegalArgumentException se il nome non corrisponde a nessun valore di {@link NomeDipartimento}
+     *         o il dipartimento non esiste: un filtro indicato non viene mai ignorato
+     */
+    private Dipartimento dipartimento(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        Dipartimento dipartimento = datiRiferimento.getDipartimento(NomeDipartimento.valueOf(nome));
+        if (dipartimento == null) {
+            throw new IllegalArgumentException("Dipartimento non presente: " + nome);
+        }
+        return dipartimento;
+    }
+
+    /**
+     * @param nome il nome del ruolo, o {@code null}
+     * @return il ruolo, o {@code null} se il nome è {@code null}
+     * @throws IllegalArgumentException se il nome non corrisponde a nessun valore di {@link NomeRuolo}
+     *         o il ruolo non esiste: un filtro indicato non viene mai ignorato
+     */
+    private Ruolo ruolo(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        Ruolo ruolo = datiRiferimento.getRuolo(NomeRuolo.valueOf(nome));
+        if (ruolo == null) {
+            throw new IllegalArgumentException("Ruolo non presente: " + nome);
+        }
+        return ruolo;
+    }
+
+    private static Integer id(Dipartimento dipartimento) {
+        return dipartimento != null ? dipartimento.getId() : null;
+    }
+
+    private static Integer id(Ruolo ruolo) {
+        return ruolo != null ? ruolo.getId() : null;
+    }
+
+}
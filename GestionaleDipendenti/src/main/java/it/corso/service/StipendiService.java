@@ -0,0 +1,53 @@
+package it.corso.service;
+
+import it.corso.dto.AdeguamentoStipendiDto;
+import it.corso.dto.AdeguamentoStipendiEsitoDto;
+
+/**
+ * L'interfaccia {@code StipendiService} definisce i metodi per gli adeguamenti massivi degli stipendi,
+ * come gli aumenti annuali applicati a interi dipartimenti, ruoli o fasce di anzianità.
+ *
+ * <ul>
+ * <li>{@link #avviaAdeguamento(AdeguamentoStipendiDto)}: Calcola l'anteprima di un adeguamento o ne avvia l'esecuzione.</li>
+ * <li>{@link #riprendiAdeguamento(String)}: Riprende un adeguamento interrotto.</li>
+ * <li>{@link #getAdeguamento(String)}: Restituisce l'avanzamento di un adeguamento avviato.</li>
+ * </ul>
+ *
+ * @see AdeguamentoStipendiDto
+ * @see AdeguamentoStipendiEsitoDto
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface StipendiService {
+
+    /**
+     * Calcola l'anteprima di un adeguamento degli stipendi, se la richiesta è un dry-run,
+     * oppure ne avvia l'esecuzione in background.
+     *
+     * @param richiesta le regole dell'adeguamento
+     * @return l'anteprima completata o lo stato iniziale dell'esecuzione, o {@code null} se una regola
+     *         o l'identificativo non sono validi
+     */
+    AdeguamentoStipendiEsitoDto avviaAdeguamento(AdeguamentoStipendiDto richiesta);
+
+    /**
+     * Riprende un adeguamento interrotto dal blocco successivo all'ultimo completato,
+     * senza applicare di nuovo le regole ai blocchi già salvati.
+     *
+     * @param id l'identificativo dell'adeguamento
+     * @return lo stato dell'adeguamento, o {@code null} se non esiste
+     */
+    AdeguamentoStipendiEsitoDto riprendiAdeguamento(String id);
+
+    /**
+     * Restituisce l'avanzamento di un adeguamento avviato con {@link #avviaAdeguamento(AdeguamentoStipendiDto)}.
+     *
+     * @param id l'identificativo dell'adeguamento
+     * @return lo stato dell'adeguamento, o {@code null} se non esiste
+     */
+    AdeguamentoStipendiEsitoDto getAdeguamento(String id);
+
+}
@@ -0,0 +1,406 @@
+package it.corso.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.annotation.Timed;
+
+import it.corso.analytics.SnapshotColonnare;
+import it.corso.cache.DatiRiferimentoCache;
+import it.corso.dao.AdeguamentoStipendiDao;
+import it.corso.dao.DipendenteColonne;
+import it.corso.dao.DipendenteDao;
+import it.corso.dao.DipendenteRuoloColonne;
+import it.corso.dto.AdeguamentoStipendiDto;
+import it.corso.dto.AdeguamentoStipendiEsitoDto;
+import it.corso.dto.RegolaStipendioDto;
+import it.corso.dto.RegolaStipendioEsitoDto;
+import it.corso.model.AdeguamentoStipendi;
+import it.corso.model.Dipartimento;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import it.corso.model.RegolaAdeguamento;
+import it.corso.model.Ruolo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * L'implementazione della classe {@code StipendiService} che applica gli adeguamenti massivi degli stipendi
+ * con istruzioni UPDATE eseguite dal database, senza caricare i dipendenti.
+ *
+ * Ogni regola viene tradotta in {@link DipendenteDao#adeguaStipendi(double, double, int, int, Integer, Integer, LocalDate)}:
+ * una percentuale diventa un fattore moltiplicativo, un importo fisso viene sommato allo stipendio, e lo stipendio
+ * risultante non scende mai sotto zero. L'esecuzione avviene in background e suddivide i dipendenti in blocchi
+ * di {@code gestionale.stipendi.chunk-size} ID consecutivi: ogni blocco applica tutte le regole, nell'ordine,
+ * in una propria transazione, così che i lock sulle righe siano mantenuti per poco tempo.
+ * I dipendenti registrati dopo l'avvio, con ID successivi all'ultimo blocco, non vengono adeguati.
+ *
+ * L'adeguamento è salvato come {@link AdeguamentoStipendi}: ogni blocco blocca la sua riga, verifica di essere
+ * il successivo all'ultimo completato e ne aggiorna il punto di ripresa nella stessa transazione degli stipendi.
+ * Se un blocco non riesce l'esecuzione si interrompe nello stato {@code errore} e può essere ripresa con
+ * {@link #riprendiAdeguamento(String)}, o inviando di nuovo la richiesta con lo stesso identificativo:
+ * nessun blocco viene applicato due volte, nemmeno se l'applicazione si è arrestata durante l'esecuzione.
+ *
+ * Al termine lo snapshot {@link SnapshotColonnare} viene ricaricato, perché contiene gli stipendi;
+ * l'indice di ricerca full-text e gli indici in memoria non dipendono dallo stipendio e non devono essere aggiornati.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Service
+@Timed("gestionale.service")
+public class StipendiServiceImpl implements StipendiService {
+
+    /**
+     * Adeguamento in percentuale dello stipendio.
+     */
+    public static final String TIPO_PERCENTUALE = "percentuale";
+
+    /**
+     * Adeguamento di un importo fisso.
+     */
+    public static final String TIPO_IMPORTO = "importo";
+
+    /**
+     * Adeguamento in esecuzione.
+     */
+    public static final String STATO_IN_CORSO = "in_corso";
+
+    /**
+     * Adeguamento, o anteprima, completato.
+     */
+    public static final String STATO_COMPLETATO = "completato";
+
+    /**
+     * Adeguamento interrotto da un errore.
+     */
+    public static final String STATO_ERRORE = "errore";
+
+    /**
+     * Lunghezza massima dell'identificativo di un adeguamento.
+     */
+    private static final int LUNGHEZZA_MASSIMA_ID = 64;
+
+    @Autowired
+    private DipendenteDao dipendenteDao;
+
+    @Autowired
+    private AdeguamentoStipendiDao adeguamentoDao;
+
+    @Autowired
+    private DatiRiferimentoCache datiRiferimento;
+
+    @Autowired
+    private SnapshotColonnare snapshotColonnare;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskExecutor taskExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${gestionale.stipendi.chunk-size:10000}")
+    private int chunkSize;
+
+    /**
+     * Gli identificativi degli adeguamenti in esecuzione in questa istanza.
+     */
+    private final Set<String> inEsecuzione = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Converte le regole nei parametri delle istruzioni UPDATE e calcola l'anteprima o avvia l'esecuzione.
+     * Se la richiesta indica l'identificativo di un adeguamento già esistente, le regole non vengono rilette
+     * e l'adeguamento esistente viene restituito, o ripreso se era stato interrotto.
+     *
+     * @param richiesta le regole dell'adeguamento
+     * @return l'anteprima completata o lo stato iniziale dell'esecuzione, o {@code null} se una regola
+     *         o l'identificativo non sono validi
+     */
+    @Override
+    public AdeguamentoStipendiEsitoDto avviaAdeguamento(AdeguamentoStipendiDto richiesta) {
+        try {
+            String id = richiesta.getId();
+            if (id != null && (id.isBlank() || id.length() > LUNGHEZZA_MASSIMA_ID)) {
+                return null;
+            }
+            if (id != null && !richiesta.isDryRun() && adeguamentoDao.existsById(id)) {
+                return riprendiAdeguamento(id);
+            }
+            List<RegolaAdeguamento> regole = new ArrayList<>(richiesta.getRegole().size());
+            for (RegolaStipendioDto regolaDto : richiesta.getRegole()) {
+                RegolaAdeguamento regola = creaRegola(regolaDto);
+                if (regola == null) {
+                    return null;
+                }
+                regole.add(regola);
+            }
+            if (richiesta.isDryRun()) {
+                return anteprima(regole);
+            }
+            AdeguamentoStipendi adeguamento = new AdeguamentoStipendi();
+            adeguamento.setId(id != null ? id : UUID.randomUUID().toString());
+            adeguamento.setStato(STATO_IN_CORSO);
+            adeguamento.setRegole(regole);
+            TransactionTemplate transazione = new TransactionTemplate(transactionManager);
+            transazione.executeWithoutResult(status -> {
+                adeguamento.setUltimoId(dipendenteDao.findMaxId());
+                adeguamento.setBlocchiTotali(blocchi(adeguamento.getUltimoId()));
+                entityManager.persist(adeguamento);
+            });
+            inEsecuzione.add(adeguamento.getId());
+            taskExecutor.execute(() -> esegui(adeguamento.getId()));
+            return toEsitoDto(adeguamento);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Riprende un adeguamento interrotto dal blocco successivo all'ultimo completato.
+     * Un adeguamento completato o già in esecuzione in questa istanza viene restituito senza modifiche.
+     *
+     * @param id l'identificativo dell'adeguamento
+     * @return lo stato dell'adeguamento, o {@code null} se non esiste o in caso di errore
+     */
+    @Override
+    public AdeguamentoStipendiEsitoDto riprendiAdeguamento(String id) {
+        try {
+            AtomicBoolean ripreso = new AtomicBoolean();
+            TransactionTemplate transazione = new TransactionTemplate(transactionManager);
+            AdeguamentoStipendiEsitoDto esito = transazione.execute(status -> {
+                AdeguamentoStipendi adeguamento = adeguamentoDao.findByIdPerAggiornamento(id);
+                if (adeguamento == null) {
+                    return null;
+                }
+                if (!STATO_COMPLETATO.equals(adeguamento.getStato()) && !inEsecuzione.contains(id)) {
+                    adeguamento.setStato(STATO_IN_CORSO);
+                    adeguamento.setBlocchiTotali(adeguamento.getBlocchiCompletati()
+                            + blocchi(adeguamento.getUltimoId() - adeguamento.getUltimoIdCompletato()));
+                    ripreso.set(true);
+                }
+                return toEsitoDto(adeguamento);
+            });
+            if (ripreso.get() && inEsecuzione.add(id)) {
+                taskExecutor.execute(() -> esegui(id));
+            }
+            return esito;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Restituisce l'avanzamento di un adeguamento avviato.
+     *
+     * @param id l'identificativo dell'adeguamento
+     * @return lo stato dell'adeguamento, o {@code null} se non esiste
+     */
+    @Override
+    public AdeguamentoStipendiEsitoDto getAdeguamento(String id) {
+        try {
+            return adeguamentoDao.findById(id).map(StipendiServiceImpl::toEsitoDto).orElse(null);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Converte una regola nei parametri delle istruzioni UPDATE, risolvendo dipartimento e ruolo
+     * tramite {@link DatiRiferimentoCache}.
+     *
+     * @param regolaDto la regola ricevuta
+     * @return la regola convertita, o {@code null} se il tipo, il valore o l'anzianità non sono validi
+     * @throws IllegalArgumentException se il nome del dipartimento o del ruolo non corrisponde a nessun valore degli enum
+     */
+    private RegolaAdeguamento creaRegola(RegolaStipendioDto regolaDto) {
+        double fattore = 1;
+        double importo = 0;
+        if (TIPO_PERCENTUALE.equals(regolaDto.getTipo()) && regolaDto.getValore() > -100) {
+            fattore = 1 + regolaDto.getValore() / 100;
+        } else if (TIPO_IMPORTO.equals(regolaDto.getTipo())) {
+            importo = regolaDto.getValore();
+        } else {
+            return null;
+        }
+        Integer idDipartimento = null;
+        if (regolaDto.getDipartimento() != null) {
+            Dipartimento dipartimento = datiRiferimento.getDipartimento(NomeDipartimento.valueOf(regolaDto.getDipartimento()));
+            if (dipartimento == null) {
+                return null;
+            }
+            idDipartimento = dipartimento.getId();
+        }
+        Integer idRuolo = null;
+        if (regolaDto.getRuolo() != null) {
+            Ruolo ruolo = datiRiferimento.getRuolo(NomeRuolo.valueOf(regolaDto.getRuolo()));
+            if (ruolo == null) {
+                return null;
+            }
+            idRuolo = ruolo.getId();
+        }
+        LocalDate assuntoEntro = null;
+        if (regolaDto.getAnniAnzianita() != null) {
+            if (regolaDto.getAnniAnzianita() < 0) {
+                return null;
+            }
+            assuntoEntro = LocalDate.now().minusYears(regolaDto.getAnniAnzianita());
+        }
+        return new RegolaAdeguamento(fattore, importo, idDipartimento, idRuolo, assuntoEntro);
+    }
+
+    /**
+     * Calcola l'anteprima scorrendo una sola volta i ruoli e gli stipendi attuali di tutti i dipendenti,
+     * con {@link DipendenteDao#streamRuoli()} e {@link DipendenteDao#streamColonne()}, e applicando a ciascuno
+     * le regole nell'ordine, come le istruzioni UPDATE: la variazione di una regola è calcolata sullo stipendio
+     * risultante dalle regole precedenti e lo stipendio non scende sotto zero.
+     */
+    private AdeguamentoStipendiEsitoDto anteprima(List<RegolaAdeguamento> regole) {
+        NomeDipartimento[] dipartimenti = new NomeDipartimento[regole.size()];
+        int[] bitRuoli = new int[regole.size()];
+        for (int i = 0; i < regole.size(); i++) {
+            RegolaAdeguamento regola = regole.get(i);
+            dipartimenti[i] = regola.getIdDipartimento() != null ? datiRiferimento.getNomeDipartimento(regola.getIdDipartimento()) : null;
+            bitRuoli[i] = regola.getIdRuolo() != null ? 1 << datiRiferimento.getNomeRuolo(regola.getIdRuolo()).ordinal() : 0;
+        }
+        long[] dipendenti = new long[regole.size()];
+        double[] variazioni = new double[regole.size()];
+        TransactionTemplate transazione = new TransactionTemplate(transactionManager);
+        transazione.setReadOnly(true);
+        transazione.executeWithoutResult(status -> {
+            int[] ruoli = new int[dipendenteDao.findMaxId() + 1];
+            try (Stream<DipendenteRuoloColonne> righe = dipendenteDao.streamRuoli()) {
+                righe.filter(riga -> riga.getIdDipendente() < ruoli.length)
+                        .forEach(riga -> ruoli[riga.getIdDipendente()] |= 1 << riga.getRuolo().ordinal());
+            }
+            try (Stream<DipendenteColonne> righe = dipendenteDao.streamColonne()) {
+                righe.forEach(riga -> {
+                    int ruoliDipendente = riga.getId() < ruoli.length ? ruoli[riga.getId()] : 0;
+                    double stipendio = riga.getStipendio();
+                    for (int i = 0; i < regole.size(); i++) {
+                        RegolaAdeguamento regola = regole.get(i);
+                        if ((dipartimenti[i] == null || dipartimenti[i] == riga.getDipartimento())
+                                && (ruoliDipendente & bitRuoli[i]) == bitRuoli[i]
+                                && (regola.getAssuntoEntro() == null || (riga.getDataAssunzione() != null
+                                        && !riga.getDataAssunzione().isAfter(regola.getAssuntoEntro())))) {
+                            double nuovoStipendio = Math.max(stipendio * regola.getFattore() + regola.getImporto(), 0);
+                            dipendenti[i]++;
+                            variazioni[i] += nuovoStipendio - stipendio;
+                            stipendio = nuovoStipendio;
+                        }
+                    }
+                });
+            }
+        });
+        List<RegolaStipendioEsitoDto> esitiRegole = new ArrayList<>(regole.size());
+        for (int i = 0; i < regole.size(); i++) {
+            RegolaStipendioEsitoDto esito = new RegolaStipendioEsitoDto();
+            esito.setIndice(i);
+            esito.setDipendenti(dipendenti[i]);
+            esito.setVariazioneTotale(variazioni[i]);
+            esitiRegole.add(esito);
+        }
+        AdeguamentoStipendiEsitoDto esitoDto = new AdeguamentoStipendiEsitoDto();
+        esitoDto.setDryRun(true);
+        esitoDto.setStato(STATO_COMPLETATO);
+        esitoDto.setRegole(esitiRegole);
+        return esitoDto;
+    }
+
+    /**
+     * Applica le regole blocco per blocco, ciascun blocco in una propria transazione, finché l'adeguamento
+     * non è completato o un blocco non riesce.
+     *
+     * @param id l'identificativo dell'adeguamento da eseguire
+     */
+    private void esegui(String id) {
+        TransactionTemplate transazione = new TransactionTemplate(transactionManager);
+        try {
+            boolean altriBlocchi = true;
+            while (altriBlocchi) {
+                altriBlocchi = Boolean.TRUE.equals(transazione.execute(status -> eseguiBlocco(id)));
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            transazione.executeWithoutResult(status -> adeguamentoDao.findByIdPerAggiornamento(id).setStato(STATO_ERRORE));
+        } finally {
+            inEsecuzione.remove(id);
+            snapshotColonnare.carica();
+        }
+    }
+
+    /**
+     * Applica le regole al blocco successivo all'ultimo completato e sposta il punto di ripresa,
+     * con il lock sulla riga dell'adeguamento.
+     *
+     * @param id l'identificativo dell'adeguamento
+     * @return {@code true} se restano blocchi da eseguire
+     */
+    private boolean eseguiBlocco(String id) {
+        AdeguamentoStipendi adeguamento = adeguamentoDao.findByIdPerAggiornamento(id);
+        if (!STATO_IN_CORSO.equals(adeguamento.getStato())) {
+            return false;
+        }
+        int da = adeguamento.getUltimoIdCompletato() + 1;
+        if (da <= adeguamento.getUltimoId()) {
+            int a = (int) Math.min((long) da + chunkSize - 1, adeguamento.getUltimoId());
+            for (RegolaAdeguamento regola : adeguamento.getRegole()) {
+                regola.setDipendenti(regola.getDipendenti() + dipendenteDao.adeguaStipendi(regola.getFattore(),
+                        regola.getImporto(), da, a, regola.getIdDipartimento(), regola.getIdRuolo(), regola.getAssuntoEntro()));
+            }
+            adeguamento.setUltimoIdCompletato(a);
+            adeguamento.setBlocchiCompletati(adeguamento.getBlocchiCompletati() + 1);
+        }
+        if (adeguamento.getUltimoIdCompletato() >= adeguamento.getUltimoId()) {
+            adeguamento.setStato(STATO_COMPLETATO);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Restituisce il numero di blocchi necessari per {@code ids} ID consecutivi.
+     */
+    private int blocchi(int ids) {
+        return (ids + chunkSize - 1) / chunkSize;
+    }
+
+    private static AdeguamentoStipendiEsitoDto toEsitoDto(AdeguamentoStipendi adeguamento) {
+        AdeguamentoStipendiEsitoDto esitoDto = new AdeguamentoStipendiEsitoDto();
+        esitoDto.setId(adeguamento.getId());
+        esitoDto.setStato(adeguamento.getStato());
+        esitoDto.setBlocchiTotali(adeguamento.getBlocchiTotali());
+        esitoDto.setBlocchiCompletati(adeguamento.getBlocchiCompletati());
+        esitoDto.setUltimoIdCompletato(adeguamento.getUltimoIdCompletato());
+        List<RegolaStipendioEsitoDto> esitiRegole = new ArrayList<>(adeguamento.getRegole().size());
+        for (int i = 0; i < adeguamento.getRegole().size(); i++) {
+            RegolaStipendioEsitoDto esito = new RegolaStipendioEsitoDto();
+            esito.setIndice(i);
+            esito.setDipendenti(adeguamento.getRegole().get(i).getDipendenti());
+            esitiRegole.add(esito);
+        }
+        esitoDto.setRegole(esitiRegole);
+        return esitoDto;
+    }
+
+}
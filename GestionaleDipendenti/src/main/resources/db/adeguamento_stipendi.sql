@@ -0,0 +1,23 @@
+-- Adeguamenti massivi degli stipendi (/api/stipendi/adeguamento) e relative regole.
+-- ultimo_id_completato è il punto di ripresa: viene aggiornato nella stessa transazione di ogni blocco.
+CREATE TABLE IF NOT EXISTS adeguamento_stipendi (
+    id VARCHAR(64) NOT NULL PRIMARY KEY,
+    stato VARCHAR(16) NOT NULL,
+    ultimo_id INT NOT NULL,
+    ultimo_id_completato INT NOT NULL,
+    blocchi_totali INT NOT NULL,
+    blocchi_completati INT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS adeguamento_stipendi_regola (
+    id_adeguamento VARCHAR(64) NOT NULL,
+    indice INT NOT NULL,
+    fattore DOUBLE NOT NULL,
+    importo DOUBLE NOT NULL,
+    id_dipartimento INT NULL,
+    id_ruolo INT NULL,
+    assunto_entro DATE NULL,
+    dipendenti BIGINT NOT NULL,
+    PRIMARY KEY (id_adeguamento, indice),
+    FOREIGN KEY (id_adeguamento) REFERENCES adeguamento_stipendi (id)
+);
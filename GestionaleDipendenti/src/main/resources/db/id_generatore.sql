@@ -0,0 +1,9 @@
+-- Tabella usata da Hibernate per generare gli ID di dipendente a blocchi (optimizer pooled-lo).
+-- Il valore memorizzato è il primo ID del prossimo blocco: va inizializzato oltre l'ID massimo già presente.
+CREATE TABLE IF NOT EXISTS id_generatore (
+    nome_sequenza VARCHAR(255) NOT NULL PRIMARY KEY,
+    valore BIGINT NOT NULL
+);
+
+INSERT INTO id_generatore (nome_sequenza, valore)
+SELECT 'dipendente', COALESCE(MAX(id), 0) + 1 FROM dipendente;
@@ -0,0 +1,15 @@
+-- Indici per la ricerca multi-criterio (/api/dipendente/search/filter) e la paginazione keyset per cognome.
+-- Corrispondono agli indici dichiarati sulle entità: vanno eseguiti una sola volta sui database esistenti.
+
+-- Filtro per dipartimento con eventuale intervallo di stipendio.
+CREATE INDEX idx_dipendente_dipartimento_stipendio ON dipendente (id_dipartimento, stipendio);
+-- Filtri per intervallo senza dipartimento e relativi ordinamenti.
+CREATE INDEX idx_dipendente_stipendio ON dipendente (stipendio);
+CREATE INDEX idx_dipendente_data_assunzione ON dipendente (data_assunzione);
+CREATE INDEX idx_dipendente_data_nascita ON dipendente (data_nascita);
+-- Ordinamento per cognome con ID come criterio di spareggio.
+CREATE INDEX idx_dipendente_cognome_id ON dipendente (cognome, id);
+
+-- Subquery EXISTS sui ruoli di un dipendente e ricerca dei dipendenti di un ruolo.
+CREATE INDEX idx_dipendente_ruolo_dipendente_ruolo ON dipendente_ruolo (id_dipendente, id_ruolo);
+CREATE INDEX idx_dipendente_ruolo_ruolo_dipendente ON dipendente_ruolo (id_ruolo, id_dipendente);
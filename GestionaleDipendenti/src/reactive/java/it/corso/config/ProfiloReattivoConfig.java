@@ -0,0 +1,37 @@
+package it.corso.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * La classe {@code ProfiloReattivoConfig} crea il {@link DataSource} JDBC quando è attivo il profilo {@code reactive}.
+ *
+ * Con il profilo {@code reactive} Spring Boot configura la {@code ConnectionFactory} R2DBC e, in sua presenza,
+ * non crea più il {@link DataSource}. JPA, la ricerca full-text e gli indici in memoria continuano però a usare JDBC,
+ * per cui il {@link DataSource} viene creato qui con le stesse proprietà {@code spring.datasource.*} usate senza profilo.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ProfiloReattivoConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+}
@@ -0,0 +1,92 @@
+package it.corso.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import it.corso.dto.DipendenteByDipartimentoDto;
+import it.corso.dto.DipendenteByRuoloDto;
+import it.corso.dto.DipendenteDto;
+import it.corso.service.DipendenteReactiveService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * La classe {@code DipendenteReactiveController} gestisce con Spring WebFlux le letture dei dipendenti
+ * per ID, per dipartimento e per ruolo, con la stessa semantica dei corrispondenti endpoint di {@link DipendenteController}.
+ *
+ * È attiva solo con il profilo {@code reactive}, che avvia l'applicazione come applicazione reattiva.
+ * Le liste vengono restituite come {@link Flux}: con {@code Accept: application/x-ndjson} ogni dipendente
+ * viene scritto appena letto e la lettura dal database procede solo quando il client consuma la risposta,
+ * altrimenti viene restituito un unico array JSON.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@RestController
+@RequestMapping("/api/reactive/dipendente")
+@Profile("reactive")
+public class DipendenteReactiveController {
+
+    @Autowired
+    private DipendenteReactiveService dipendenteReactiveService;
+
+    /**
+     * Endpoint per ottenere un dipendente tramite il suo ID.
+     *
+     * @param id l'ID del dipendente
+     * @return il {@link DipendenteDto}, una risposta 200 OK senza corpo se il dipendente non esiste
+     *         o una risposta 400 Bad Request se l'ID è invalido
+     */
+    @GetMapping("/get/{id}")
+    public Mono<ResponseEntity<DipendenteDto>> getDipendenteById(@PathVariable int id) {
+        if (id <= 0) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return dipendenteReactiveService.getDipendenteById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build())
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    /**
+     * Endpoint per cercare dipendenti tramite il dipartimento.
+     *
+     * @param dipartimento il nome del dipartimento da cercare
+     * @return i {@link DipendenteByDipartimentoDto} in ordine di ID, o una risposta 400 Bad Request se il dipartimento non è valido
+     */
+    @GetMapping(value = "/get/nomeDipartimento", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<DipendenteByDipartimentoDto> getDipendentiByDipartimento(@RequestParam(required = false) String dipartimento) {
+        if (dipartimento == null || dipartimento.isEmpty()) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST));
+        }
+        return dipendenteReactiveService.getDipendentiByDipartimento(dipartimento)
+                .onErrorMap(IllegalArgumentException.class, e -> new ResponseStatusException(HttpStatus.BAD_REQUEST));
+    }
+
+    /**
+     * Endpoint per cercare dipendenti tramite il ruolo.
+     *
+     * @param ruolo il nome del ruolo da cercare
+     * @return i {@link DipendenteByRuoloDto} in ordine di ID, o una risposta 400 Bad Request se il ruolo non è valido
+     */
+    @GetMapping(value = "/get/nomeRuolo", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<DipendenteByRuoloDto> getDipendentiByRuolo(@RequestParam(required = false) String ruolo) {
+        if (ruolo == null || ruolo.isEmpty()) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST));
+        }
+        return dipendenteReactiveService.getDipendentiByRuolo(ruolo)
+                .onErrorMap(IllegalArgumentException.class, e -> new ResponseStatusException(HttpStatus.BAD_REQUEST));
+    }
+
+}
@@ -0,0 +1,74 @@
+package it.corso.dao;
+
+import java.util.Collection;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * L'interfaccia {@code DipendenteReactiveDao} legge i dipendenti tramite R2DBC, senza bloccare il thread chiamante,
+ * dalle stesse tabelle {@code dipendente}, {@code dipartimento}, {@code ruolo} e {@code dipendente_ruolo}
+ * mappate da {@link DipendenteDao}.
+ *
+ * Viene compilata solo nella build {@code -Preactive}, l'unica con R2DBC sul classpath, da avviare con il profilo {@code reactive}.
+ * Le query restituiscono i risultati in ordine di ID come {@link Flux}, che legge le righe dal database
+ * man mano che vengono richieste dal consumatore.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface DipendenteReactiveDao extends R2dbcRepository<DipendenteRiga, Integer> {
+
+    /**
+     * Legge un dipendente con il nome del suo dipartimento.
+     *
+     * @param id l'ID del dipendente
+     * @return il dipendente, o un {@link Mono} vuoto se non esiste
+     */
+    @Query("SELECT d.id, d.nome, d.cognome, d.data_nascita, d.data_assunzione, d.stipendio, dip.nome AS dipartimento "
+            + "FROM dipendente d LEFT JOIN dipartimento dip ON dip.id = d.id_dipartimento "
+            + "WHERE d.id = :id")
+    Mono<DipendenteRiga> findRigaById(@Param("id") int id);
+
+    /**
+     * Legge i dipendenti del dipartimento indicato, in ordine di ID.
+     *
+     * @param dipartimento il nome del dipartimento
+     * @return i dipendenti del dipartimento
+     */
+    @Query("SELECT d.id, d.nome, d.cognome, d.data_nascita, d.data_assunzione, d.stipendio, dip.nome AS dipartimento "
+            + "FROM dipendente d JOIN dipartimento dip ON dip.id = d.id_dipartimento "
+            + "WHERE dip.nome = :dipartimento ORDER BY d.id")
+    Flux<DipendenteRiga> findRigheByDipartimento(@Param("dipartimento") String dipartimento);
+
+    /**
+     * Legge i dipendenti che hanno il ruolo indicato, in ordine di ID, con il nome del loro dipartimento.
+     *
+     * @param ruolo il nome del ruolo
+     * @return i dipendenti con il ruolo
+     */
+    @Query("SELECT d.id, d.nome, d.cognome, d.data_nascita, d.data_assunzione, d.stipendio, dip.nome AS dipartimento "
+            + "FROM dipendente d JOIN dipendente_ruolo dr ON dr.id_dipendente = d.id "
+            + "JOIN ruolo r ON r.id = dr.id_ruolo "
+            + "LEFT JOIN dipartimento dip ON dip.id = d.id_dipartimento "
+            + "WHERE r.nome = :ruolo ORDER BY d.id")
+    Flux<DipendenteRiga> findRigheByRuolo(@Param("ruolo") String ruolo);
+
+    /**
+     * Legge i ruoli dei dipendenti indicati, con una sola query per tutti gli ID.
+     *
+     * @param ids gli ID dei dipendenti
+     * @return le associazioni tra gli ID e i nomi dei ruoli
+     */
+    @Query("SELECT dr.id_dipendente, r.nome AS ruolo "
+            + "FROM dipendente_ruolo dr JOIN ruolo r ON r.id = dr.id_ruolo "
+            + "WHERE dr.id_dipendente IN (:ids)")
+    Flux<DipendenteRuoloRiga> findRuoliByIdDipendenteIn(@Param("ids") Collection<Integer> ids);
+
+}
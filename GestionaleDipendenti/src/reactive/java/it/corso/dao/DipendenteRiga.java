@@ -0,0 +1,108 @@
+package it.corso.dao;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import it.corso.model.NomeDipartimento;
+
+/**
+ * La classe {@code DipendenteRiga} rappresenta una riga della tabella {@code dipendente} letta tramite R2DBC
+ * da {@link DipendenteReactiveDao}, con il nome del dipartimento ottenuto dalla join con la tabella {@code dipartimento}.
+ *
+ * A differenza di {@link it.corso.model.Dipendente} non ha associazioni: i ruoli vengono letti a parte
+ * come {@link DipendenteRuoloRiga}. Le colonne vengono associate ai campi convertendo i nomi in snake case
+ * (ad esempio {@code data_nascita} per {@link #dataNascita}).
+ *
+ * <ul>
+ * <li>{@link #id}: L'ID del dipendente.</li>
+ * <li>{@link #nome}: Il nome del dipendente.</li>
+ * <li>{@link #cognome}: Il cognome del dipendente.</li>
+ * <li>{@link #dataNascita}: La data di nascita del dipendente.</li>
+ * <li>{@link #dataAssunzione}: La data di assunzione del dipendente.</li>
+ * <li>{@link #stipendio}: Lo stipendio del dipendente.</li>
+ * <li>{@link #dipartimento}: Il nome del dipartimento, letto dalla colonna {@code dipartimento} delle query, o {@code null}.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Table("dipendente")
+public class DipendenteRiga {
+
+    @Id
+    private int id;
+
+    private String nome;
+
+    private String cognome;
+
+    private LocalDate dataNascita;
+
+    private LocalDate dataAssunzione;
+
+    private double stipendio;
+
+    private NomeDipartimento dipartimento;
+
+    // Getter e Setter
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getCognome() {
+        return cognome;
+    }
+
+    public void setCognome(String cognome) {
+        this.cognome = cognome;
+    }
+
+    public LocalDate getDataNascita() {
+        return dataNascita;
+    }
+
+    public void setDataNascita(LocalDate dataNascita) {
+        this.dataNascita = dataNascita;
+    }
+
+    public LocalDate getDataAssunzione() {
+        return dataAssunzione;
+    }
+
+    public void setDataAssunzione(LocalDate dataAssunzione) {
+        this.dataAssunzione = dataAssunzione;
+    }
+
+    public double getStipendio() {
+        return stipendio;
+    }
+
+    public void setStipendio(double stipendio) {
+        this.stipendio = stipendio;
+    }
+
+    public NomeDipartimento getDipartimento() {
+        return dipartimento;
+    }
+
+    public void setDipartimento(NomeDipartimento dipartimento) {
+        this.dipartimento = dipartimento;
+    }
+}
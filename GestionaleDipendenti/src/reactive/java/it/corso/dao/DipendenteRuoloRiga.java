@@ -0,0 +1,42 @@
+package it.corso.dao;
+
+import it.corso.model.NomeRuolo;
+
+/**
+ * La classe {@code DipendenteRuoloRiga} rappresenta l'associazione tra un dipendente e il nome di un suo ruolo,
+ * letta tramite R2DBC da {@link DipendenteReactiveDao}.
+ *
+ * <ul>
+ * <li>{@link #idDipendente}: L'ID del dipendente.</li>
+ * <li>{@link #ruolo}: Il nome del ruolo.</li>
+ * </ul>
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public class DipendenteRuoloRiga {
+
+    private int idDipendente;
+
+    private NomeRuolo ruolo;
+
+    // Getter e Setter
+
+    public int getIdDipendente() {
+        return idDipendente;
+    }
+
+    public void setIdDipendente(int idDipendente) {
+        this.idDipendente = idDipendente;
+    }
+
+    public NomeRuolo getRuolo() {
+        return ruolo;
+    }
+
+    public void setRuolo(NomeRuolo ruolo) {
+        this.ruolo = ruolo;
+    }
+}
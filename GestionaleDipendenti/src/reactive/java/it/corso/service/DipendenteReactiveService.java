@@ -0,0 +1,54 @@
+package it.corso.service;
+
+import it.corso.dto.DipendenteByDipartimentoDto;
+import it.corso.dto.DipendenteByRuoloDto;
+import it.corso.dto.DipendenteDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * L'interfaccia {@code DipendenteReactiveService} definisce le letture non bloccanti dei dipendenti,
+ * equivalenti a quelle di {@link DipendenteService} ma eseguite tramite R2DBC.
+ *
+ * <ul>
+ * <li>{@link #getDipendenteById(int)}: Recupera un dipendente tramite l'ID.</li>
+ * <li>{@link #getDipendentiByDipartimento(String)}: Cerca dipendenti in base al dipartimento.</li>
+ * <li>{@link #getDipendentiByRuolo(String)}: Cerca dipendenti in base al ruolo.</li>
+ * </ul>
+ *
+ * @see DipendenteDto
+ * @see DipendenteByDipartimentoDto
+ * @see DipendenteByRuoloDto
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+public interface DipendenteReactiveService {
+
+    /**
+     * Recupera un dipendente tramite il suo ID, con dipartimento e ruoli.
+     *
+     * @param id l'ID del dipendente
+     * @return il DTO del dipendente, o un {@link Mono} vuoto se il dipendente non esiste
+     */
+    Mono<DipendenteDto> getDipendenteById(int id);
+
+    /**
+     * Cerca dipendenti in base al dipartimento, in ordine di ID.
+     *
+     * @param nomeDipartimento il nome del dipartimento da cercare
+     * @return i DTO dei dipendenti del dipartimento, o un errore {@link IllegalArgumentException} se il dipartimento non esiste
+     */
+    Flux<DipendenteByDipartimentoDto> getDipendentiByDipartimento(String nomeDipartimento);
+
+    /**
+     * Cerca dipendenti in base al ruolo, in ordine di ID.
+     *
+     * @param nomeRuolo il nome del ruolo da cercare
+     * @return i DTO dei dipendenti con il ruolo, o un errore {@link IllegalArgumentException} se il ruolo non esiste
+     */
+    Flux<DipendenteByRuoloDto> getDipendentiByRuolo(String nomeRuolo);
+
+}
@@ -0,0 +1,156 @@
+package it.corso.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import it.corso.dao.DipendenteReactiveDao;
+import it.corso.dao.DipendenteRiga;
+import it.corso.dao.DipendenteRuoloRiga;
+import it.corso.dto.DipendenteByDipartimentoDto;
+import it.corso.dto.DipendenteByRuoloDto;
+import it.corso.dto.DipendenteDipartimentoDto;
+import it.corso.dto.DipendenteDto;
+import it.corso.dto.DipendenteRuoloDto;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * La classe {@code DipendenteReactiveServiceImpl} implementa l'interfaccia {@link DipendenteReactiveService}
+ * leggendo i dipendenti tramite {@link DipendenteReactiveDao}. È attiva solo con il profilo {@code reactive}.
+ *
+ * I ruoli dei dipendenti cercati per dipartimento vengono letti a blocchi di {@value #DIMENSIONE_BLOCCO_RUOLI}
+ * dipendenti, con una query per blocco. I blocchi vengono elaborati uno alla volta e solo quando il consumatore
+ * richiede altri elementi, per cui il numero di righe tenute in memoria non dipende dalla dimensione del risultato.
+ *
+ * @author Madalina Cires
+ * @author Giorgia Alloisio
+ * @author Alessia Boasi
+ *
+ */
+@Service
+@Profile("reactive")
+public class DipendenteReactiveServiceImpl implements DipendenteReactiveService {
+
+    private static final int DIMENSIONE_BLOCCO_RUOLI = 100;
+
+    @Autowired
+    private DipendenteReactiveDao dipendenteReactiveDao;
+
+    /**
+     * Recupera un dipendente tramite il suo ID, leggendo i ruoli con una seconda query.
+     *
+     * @param id l'ID del dipendente
+     * @return il DTO del dipendente, o un {@link Mono} vuoto se il dipendente non esiste
+     */
+    @Override
+    public Mono<DipendenteDto> getDipendenteById(int id) {
+        return dipendenteReactiveDao.findRigaById(id)
+                .flatMap(riga -> dipendenteReactiveDao.findRuoliByIdDipendenteIn(List.of(riga.getId()))
+                        .map(r -> toRuoloDto(r.getRuolo()))
+                        .collectList()
+                        .map(ruoli -> toDipendenteDto(riga, ruoli)));
+    }
+
+    /**
+     * Cerca dipendenti in base al dipartimento, leggendo i ruoli a blocchi.
+     *
+     * @param nomeDipartimento il nome del dipartimento da cercare
+     * @return i DTO dei dipendenti del dipartimento
+     */
+    @Override
+    public Flux<DipendenteByDipartimentoDto> getDipendentiByDipartimento(String nomeDipartimento) {
+        return Flux.defer(() -> dipendenteReactiveDao.findRigheByDipartimento(NomeDipartimento.valueOf(nomeDipartimento).name()))
+                .buffer(DIMENSIONE_BLOCCO_RUOLI)
+                .concatMap(this::toDipendentiByDipartimentoDto, 1);
+    }
+
+    /**
+     * Cerca dipendenti in base al ruolo.
+     *
+     * @param nomeRuolo il nome del ruolo da cercare
+     * @return i DTO dei dipendenti con il ruolo
+     */
+    @Override
+    public Flux<DipendenteByRuoloDto> getDipendentiByRuolo(String nomeRuolo) {
+        return Flux.defer(() -> dipendenteReactiveDao.findRigheByRuolo(NomeRuolo.valueOf(nomeRuolo).name()))
+                .map(this::toDipendenteByRuoloDto);
+    }
+
+    /**
+     * Converte un blocco di dipendenti nei DTO della ricerca per dipartimento, leggendo i ruoli di tutto il blocco con una sola query.
+     *
+     * @param blocco i dipendenti del blocco, in ordine di ID
+     * @return i DTO dei dipendenti, nello stesso ordine
+     */
+    private Flux<DipendenteByDipartimentoDto> toDipendentiByDipartimentoDto(List<DipendenteRiga> blocco) {
+        List<Integer> ids = new ArrayList<>(blocco.size());
+        blocco.forEach(riga -> ids.add(riga.getId()));
+        return dipendenteReactiveDao.findRuoliByIdDipendenteIn(ids)
+                .collect(HashMap<Integer, List<DipendenteRuoloDto>>::new, (ruoliPerId, r) -> ruoliPerId
+                        .computeIfAbsent(r.getIdDipendente(), id -> new ArrayList<>()).add(toRuoloDto(r.getRuolo())))
+                .flatMapIterable(ruoliPerId -> toDipendentiByDipartimentoDto(blocco, ruoliPerId));
+    }
+
+    private List<DipendenteByDipartimentoDto> toDipendentiByDipartimentoDto(List<DipendenteRiga> blocco,
+            Map<Integer, List<DipendenteRuoloDto>> ruoliPerId) {
+        List<DipendenteByDipartimentoDto> dipendentiDto = new ArrayList<>(blocco.size());
+        for (DipendenteRiga riga : blocco) {
+            DipendenteByDipartimentoDto dto = new DipendenteByDipartimentoDto();
+            dto.setNome(riga.getNome());
+            dto.setCognome(riga.getCognome());
+            dto.setDataNascita(riga.getDataNascita());
+            dto.setDataAssunzione(riga.getDataAssunzione());
+            dto.setStipendio(riga.getStipendio());
+            dto.setRuoli(ruoliPerId.getOrDefault(riga.getId(), new ArrayList<>()));
+            dipendentiDto.add(dto);
+        }
+        return dipendentiDto;
+    }
+
+    private DipendenteDto toDipendenteDto(DipendenteRiga riga, List<DipendenteRuoloDto> ruoli) {
+        DipendenteDto dto = new DipendenteDto();
+        dto.setNome(riga.getNome());
+        dto.setCognome(riga.getCognome());
+        dto.setDataNascita(riga.getDataNascita());
+        dto.setDataAssunzione(riga.getDataAssunzione());
+        dto.setStipendio(riga.getStipendio());
+        dto.setDipartimento(toDipartimentoDto(riga.getDipartimento()));
+        dto.setRuoli(ruoli);
+        return dto;
+    }
+
+    private DipendenteByRuoloDto toDipendenteByRuoloDto(DipendenteRiga riga) {
+        DipendenteByRuoloDto dto = new DipendenteByRuoloDto();
+        dto.setNome(riga.getNome());
+        dto.setCognome(riga.getCognome());
+        dto.setDataNascita(riga.getDataNascita());
+        dto.setDataAssunzione(riga.getDataAssunzione());
+        dto.setStipendio(riga.getStipendio());
+        dto.setDipartimento(toDipartimentoDto(riga.getDipartimento()));
+        return dto;
+    }
+
+    private DipendenteDipartimentoDto toDipartimentoDto(NomeDipartimento nome) {
+        if (nome == null) {
+            return null;
+        }
+        DipendenteDipartimentoDto dto = new DipendenteDipartimentoDto();
+        dto.setNome(nome);
+        return dto;
+    }
+
+    private DipendenteRuoloDto toRuoloDto(NomeRuolo nome) {
+        DipendenteRuoloDto dto = new DipendenteRuoloDto();
+        dto.setNome(nome);
+        return dto;
+    }
+
+}
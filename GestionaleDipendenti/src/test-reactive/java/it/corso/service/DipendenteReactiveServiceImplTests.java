@@ -0,0 +1,74 @@
+package it.corso.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import it.corso.dto.DipendenteRuoloDto;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import reactor.test.StepVerifier;
+
+@DataR2dbcTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///gestionale;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/reactive-schema.sql",
+        "spring.sql.init.data-locations=classpath:db/reactive-data.sql" })
+@ActiveProfiles("reactive")
+@Import(DipendenteReactiveServiceImpl.class)
+class DipendenteReactiveServiceImplTests {
+
+    @Autowired
+    private DipendenteReactiveService dipendenteReactiveService;
+
+    @Test
+    void getDipendenteByIdLeggeDipartimentoERuoli() {
+        StepVerifier.create(dipendenteReactiveService.getDipendenteById(2))
+                .assertNext(dipendente -> {
+                    assertThat(dipendente.getCognome()).isEqualTo("Bianchi");
+                    assertThat(dipendente.getDipartimento().getNome()).isEqualTo(NomeDipartimento.IT);
+                    assertThat(dipendente.getRuoli()).extracting(DipendenteRuoloDto::getNome)
+                            .containsExactlyInAnyOrder(NomeRuolo.Impiegato, NomeRuolo.Manager);
+                })
+                .verifyComplete();
+        StepVerifier.create(dipendenteReactiveService.getDipendenteById(99)).verifyComplete();
+    }
+
+    @Test
+    void getDipendentiByDipartimentoRispettaLaRichiesta() {
+        StepVerifier.create(dipendenteReactiveService.getDipendentiByDipartimento("IT"), 1)
+                .assertNext(dipendente -> assertThat(dipendente.getNome()).isEqualTo("Mario"))
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(2)
+                .assertNext(dipendente -> assertThat(dipendente.getRuoli()).hasSize(2))
+                .assertNext(dipendente -> assertThat(dipendente.getRuoli()).extracting(DipendenteRuoloDto::getNome)
+                        .containsExactly(NomeRuolo.CEO))
+                .verifyComplete();
+    }
+
+    @Test
+    void getDipendentiByRuoloIncludeIlDipartimento() {
+        StepVerifier.create(dipendenteReactiveService.getDipendentiByRuolo("Impiegato"))
+                .assertNext(dipendente -> assertThat(dipendente.getNome()).isEqualTo("Mario"))
+                .assertNext(dipendente -> assertThat(dipendente.getDipartimento().getNome()).isEqualTo(NomeDipartimento.IT))
+                .assertNext(dipendente -> assertThat(dipendente.getDipartimento()).isNull())
+                .verifyComplete();
+    }
+
+    @Test
+    void nomiNonValidiProduconoUnErrore() {
+        StepVerifier.create(dipendenteReactiveService.getDipendentiByDipartimento("Vendite"))
+                .verifyError(IllegalArgumentException.class);
+        StepVerifier.create(dipendenteReactiveService.getDipendentiByRuolo("Stagista"))
+                .verifyError(IllegalArgumentException.class);
+    }
+
+}
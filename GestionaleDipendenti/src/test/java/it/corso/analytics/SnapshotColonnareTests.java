@@ -0,0 +1,84 @@
+package it.corso.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import it.corso.dao.DipendenteColonne;
+import it.corso.dao.DipendenteDao;
+import it.corso.dao.DipendenteRuoloColonne;
+import it.corso.dto.StatisticheStipendioDto;
+import it.corso.event.DipendentiModificatiEvent;
+import it.corso.event.IstantaneaDipendente;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+
+class SnapshotColonnareTests {
+
+    private final DipendenteDao dipendenteDao = mock(DipendenteDao.class);
+
+    private final SnapshotColonnare snapshot = new SnapshotColonnare();
+
+    @BeforeEach
+    void prepara() {
+        ReflectionTestUtils.setField(snapshot, "dipendenteDao", dipendenteDao);
+        ReflectionTestUtils.setField(snapshot, "transactionManager", mock(PlatformTransactionManager.class));
+        when(dipendenteDao.streamRuoli()).thenAnswer(invocation -> Stream.<DipendenteRuoloColonne>empty());
+    }
+
+    @Test
+    void caricaRiapplicaGliEventiRicevutiDuranteLaLettura() {
+        when(dipendenteDao.streamColonne()).thenAnswer(invocation -> {
+            // Modifiche confermate dopo la lettura della tabella, consegnate prima della sostituzione
+            snapshot.onDipendentiModificati(DipendentiModificatiEvent.salvati(List.of(
+                    istantanea(3, 50000, NomeDipartimento.HR),
+                    istantanea(1, 45000, NomeDipartimento.IT))));
+            snapshot.onDipendentiModificati(DipendentiModificatiEvent.eliminati(List.of(2)));
+            return Stream.of(colonne(1, 30000, NomeDipartimento.IT), colonne(2, 35000, NomeDipartimento.IT));
+        });
+
+        snapshot.carica();
+
+        assertThat(snapshot.dimensione()).isEqualTo(2);
+        List<StatisticheStipendioDto> statistiche = snapshot.statisticheStipendio(SnapshotColonnare.GRUPPO_DIPARTIMENTO, null, null);
+        assertThat(statistiche).extracting(StatisticheStipendioDto::getGruppo).containsExactly("IT", "HR");
+        assertThat(statistiche).extracting(StatisticheStipendioDto::getSomma).containsExactly(45000.0, 50000.0);
+    }
+
+    @Test
+    void gliEventiSuccessiviAllaSostituzioneSonoApplicatiUnaSolaVolta() {
+        when(dipendenteDao.streamColonne()).thenAnswer(invocation -> Stream.of(colonne(1, 30000, NomeDipartimento.IT)));
+        snapshot.carica();
+
+        snapshot.onDipendentiModificati(DipendentiModificatiEvent.eliminati(List.of(1)));
+        snapshot.carica();
+
+        assertThat(snapshot.dimensione()).isEqualTo(1);
+    }
+
+    private static IstantaneaDipendente istantanea(int id, double stipendio, NomeDipartimento dipartimento) {
+        return new IstantaneaDipendente(id, "Nome", "Cognome", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1),
+                stipendio, dipartimento, Set.of(NomeRuolo.Impiegato));
+    }
+
+    private static DipendenteColonne colonne(int id, double stipendio, NomeDipartimento dipartimento) {
+        DipendenteColonne riga = mock(DipendenteColonne.class);
+        when(riga.getId()).thenReturn(id);
+        when(riga.getStipendio()).thenReturn(stipendio);
+        when(riga.getDataNascita()).thenReturn(LocalDate.of(1990, 1, 1));
+        when(riga.getDataAssunzione()).thenReturn(LocalDate.of(2020, 1, 1));
+        when(riga.getDipartimento()).thenReturn(dipartimento);
+        return riga;
+    }
+
+}
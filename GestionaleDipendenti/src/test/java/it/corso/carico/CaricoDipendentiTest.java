@@ -0,0 +1,460 @@
+package it.corso.carico;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.hibernate.search.mapper.orm.Search;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import it.corso.model.Dipendente;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Test di carico end-to-end degli endpoint di {@code DipendenteController} sul database H2 del profilo {@code loadtest},
+ * popolato da {@link SeederCarico}.
+ *
+ * {@code gestionale.carico.utenti} utenti virtuali inviano richieste in ciclo chiuso, scegliendo ogni operazione
+ * con i pesi di {@link #operazioni()} (circa 85% letture e 15% scritture), per {@code gestionale.carico.riscaldamento}
+ * non misurati e poi per {@code gestionale.carico.durata}. Throughput e latenze p50/p95/p99 di ogni operazione
+ * e del totale vengono scritti in un file JSON in {@code gestionale.carico.report-dir}, confrontabile tra esecuzioni.
+ * Il test fallisce se più dell'1% delle richieste misurate restituisce un errore.
+ *
+ * {@link #clientiLenti()} confronta il modello di thread del server in presenza di client lenti:
+ * {@code gestionale.carico.lenti.client} client inviano il corpo di una richiesta un byte ogni
+ * {@code gestionale.carico.lenti.intervallo}, mentre {@code gestionale.carico.lenti.veloci} client chiamano
+ * {@code GET /get/{id}}. Il report {@code clienti-lenti-<data>.json} riporta throughput e latenze dei client
+ * veloci; il confronto si ottiene eseguendo lo scenario con i thread di piattaforma e con il profilo {@code virtual}:
+ * <pre>
+ * mvn test -Ploadtest -Dtest=CaricoDipendentiTest#clientiLenti
+ * mvn test -Ploadtest,virtual -Dtest=CaricoDipendentiTest#clientiLenti -Dspring.profiles.include=virtual
+ * </pre>
+ *
+ * Viene escluso dall'esecuzione normale dei test e si avvia con {@code mvn test -Ploadtest}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class CaricoDipendentiTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CaricoDipendentiTest.class);
+
+    /**
+     * Quota massima di richieste fallite ammessa in un'esecuzione.
+     */
+    private static final double ERRORI_MASSIMI = 0.01;
+
+    private static final String[] NOMI = { "Giuseppe", "Maria", "Giovanni", "Anna", "Antonio", "Mario", "Luigi", "Marco", "Giulia", "Luca" };
+
+    private static final String[] COGNOMI = { "Rossi", "Russo", "Ferrari", "Esposito", "Bianchi", "Romano", "Colombo", "Ricci", "Marino", "Greco" };
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${gestionale.carico.dipendenti}")
+    private int dipendenti;
+
+    @Value("${gestionale.carico.seme}")
+    private long seme;
+
+    @Value("${gestionale.carico.utenti}")
+    private int utenti;
+
+    @Value("${gestionale.carico.riscaldamento}")
+    private Duration riscaldamento;
+
+    @Value("${gestionale.carico.durata}")
+    private Duration durata;
+
+    @Value("${gestionale.carico.report-dir}")
+    private Path reportDir;
+
+    @Value("${gestionale.carico.lenti.client}")
+    private int clientiLenti;
+
+    @Value("${gestionale.carico.lenti.veloci}")
+    private int clientiVeloci;
+
+    @Value("${gestionale.carico.lenti.intervallo}")
+    private Duration intervalloLenti;
+
+    @Value("${gestionale.carico.lenti.durata}")
+    private Duration durataLenti;
+
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void carico() throws Exception {
+        Search.mapping(entityManagerFactory).scope(Dipendente.class).massIndexer().startAndWait();
+
+        List<Operazione> operazioni = operazioni();
+        int pesoTotale = operazioni.stream().mapToInt(Operazione::peso).sum();
+        long inizioMisura = System.nanoTime() + riscaldamento.toNanos();
+        long fine = inizioMisura + durata.toNanos();
+        List<Map<String, Campioni>> campioniUtenti = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < utenti; u++) {
+                Map<String, Campioni> campioni = new LinkedHashMap<>();
+                operazioni.forEach(o -> campioni.put(o.nome(), new Campioni()));
+                campioniUtenti.add(campioni);
+                Random random = new Random(seme + u);
+                executor.submit(() -> {
+                    while (System.nanoTime() < fine) {
+                        Operazione operazione = scegli(operazioni, random.nextInt(pesoTotale));
+                        long inizio = System.nanoTime();
+                        boolean esito;
+                        try {
+                            HttpResponse<Void> risposta = client.send(operazione.richiesta().apply(random),
+                                    HttpResponse.BodyHandlers.discarding());
+                            esito = risposta.statusCode() < 400;
+                        } catch (IOException e) {
+                            esito = false;
+                        }
+                        long fineRichiesta = System.nanoTime();
+                        if (inizio >= inizioMisura && fineRichiesta <= fine) {
+                            campioni.get(operazione.nome()).aggiungi(fineRichiesta - inizio, esito);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        Map<String, Campioni> perOperazione = new LinkedHashMap<>();
+        Campioni totale = new Campioni();
+        for (Operazione operazione : operazioni) {
+            Campioni unione = new Campioni();
+            campioniUtenti.forEach(c -> unione.aggiungiTutti(c.get(operazione.nome())));
+            perOperazione.put(operazione.nome(), unione);
+            totale.aggiungiTutti(unione);
+        }
+        Path file = scriviReport("carico", durata, totale, perOperazione);
+        log.info("Report del test di carico: {}", file.toAbsolutePath());
+        log.info("Totale: {}", riepilogo(totale, durata));
+        perOperazione.forEach((nome, campioni) -> log.info("{}: {}", nome, riepilogo(campioni, durata)));
+        assertThat(totale.richieste()).isPositive();
+        assertThat(totale.errori()).isLessThanOrEqualTo((int) (totale.richieste() * ERRORI_MASSIMI));
+    }
+
+    @Test
+    void clientiLenti() throws Exception {
+        long inizioMisura = System.nanoTime() + riscaldamento.toNanos();
+        long fine = inizioMisura + durataLenti.toNanos();
+        List<Campioni> campioniLenti = new ArrayList<>();
+        List<Campioni> campioniVeloci = new ArrayList<>();
+        // I client usano thread di piattaforma: non devono contendere i carrier ai virtual thread del server.
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().factory())) {
+            for (int c = 0; c < clientiLenti; c++) {
+                Campioni campioni = new Campioni();
+                campioniLenti.add(campioni);
+                Random random = new Random(seme + c);
+                executor.submit(() -> {
+                    while (System.nanoTime() < fine) {
+                        long inizio = System.nanoTime();
+                        boolean esito = inviaLentamente("/get/batch", "[" + ids(random, 10) + "]");
+                        long fineRichiesta = System.nanoTime();
+                        if (inizio >= inizioMisura && fineRichiesta <= fine) {
+                            campioni.aggiungi(fineRichiesta - inizio, esito);
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (int c = 0; c < clientiVeloci; c++) {
+                Campioni campioni = new Campioni();
+                campioniVeloci.add(campioni);
+                Random random = new Random(seme - c - 1);
+                executor.submit(() -> {
+                    while (System.nanoTime() < fine) {
+                        long inizio = System.nanoTime();
+                        boolean esito;
+                        try {
+                            HttpResponse<Void> risposta = client.send(get("/get/" + id(random)), HttpResponse.BodyHandlers.discarding());
+                            esito = risposta.statusCode() < 400;
+                        } catch (IOException e) {
+                            esito = false;
+                        }
+                        long fineRichiesta = System.nanoTime();
+                        if (inizio >= inizioMisura && fineRichiesta <= fine) {
+                            campioni.aggiungi(fineRichiesta - inizio, esito);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        Map<String, Campioni> perOperazione = new LinkedHashMap<>();
+        Campioni veloci = new Campioni();
+        campioniVeloci.forEach(veloci::aggiungiTutti);
+        Campioni lenti = new Campioni();
+        campioniLenti.forEach(lenti::aggiungiTutti);
+        perOperazione.put("get/{id}", veloci);
+        perOperazione.put("POST get/batch lento", lenti);
+        Path file = scriviReport("clienti-lenti", durataLenti, veloci, perOperazione);
+        log.info("Report dello scenario con client lenti: {}", file.toAbsolutePath());
+        log.info("Client veloci: {}", riepilogo(veloci, durataLenti));
+        assertThat(veloci.richieste()).isPositive();
+        assertThat(veloci.errori()).isLessThanOrEqualTo((int) (veloci.richieste() * ERRORI_MASSIMI));
+    }
+
+    /**
+     * Invia una richiesta POST scrivendo il corpo un byte ogni {@code gestionale.carico.lenti.intervallo},
+     * come un client su una connessione lenta, e attende la risposta.
+     *
+     * @return {@code true} se la risposta ha uno stato inferiore a 400
+     */
+    private boolean inviaLentamente(String percorso, String corpo) throws InterruptedException {
+        byte[] byteCorpo = corpo.getBytes(StandardCharsets.UTF_8);
+        try (Socket socket = new Socket("localhost", porta)) {
+            socket.setSoTimeout(60_000);
+            OutputStream output = socket.getOutputStream();
+            output.write(("POST /api/dipendente" + percorso + " HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Content-Type: application/json\r\nContent-Length: " + byteCorpo.length
+                    + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            for (byte b : byteCorpo) {
+                output.write(b);
+                output.flush();
+                Thread.sleep(intervalloLenti);
+            }
+            InputStream input = socket.getInputStream();
+            String risposta = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+            return risposta.startsWith("HTTP/1.1 2");
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Le operazioni eseguite dagli utenti virtuali, con il loro peso relativo.
+     * Gli ID vengono scelti a caso tra i dipendenti generati da {@link SeederCarico}, i nomi tra i più frequenti.
+     */
+    private List<Operazione> operazioni() {
+        List<Operazione> operazioni = new ArrayList<>();
+        operazioni.add(new Operazione("get/{id}", 20, r -> get("/get/" + id(r))));
+        operazioni.add(new Operazione("get/all", 5, r -> get("/get/all?afterId=" + id(r) + "&limit=50")));
+        operazioni.add(new Operazione("GET get/batch", 4, r -> get("/get/batch?ids=" + ids(r, 10))));
+        operazioni.add(new Operazione("POST get/batch", 2, r -> post("/get/batch", "[" + ids(r, 50) + "]")));
+        operazioni.add(new Operazione("get/nomeDipendente", 4, r -> get("/get/nomeDipendente?nome=" + scegli(r, NOMI))));
+        operazioni.add(new Operazione("get/nomeDipartimento", 2, r -> get("/get/nomeDipartimento?dipartimento=" + scegli(r, NomeDipartimento.values()))));
+        operazioni.add(new Operazione("get/nomeRuolo", 2, r -> get("/get/nomeRuolo?ruolo=" + scegli(r, NomeRuolo.values()))));
+        operazioni.add(new Operazione("search/prefix", 12, r -> get("/search/prefix?q=" + scegli(r, COGNOMI).substring(0, 1 + r.nextInt(3)))));
+        operazioni.add(new Operazione("search", 6, r -> get("/search?q=" + scegli(r, NOMI) + "+" + scegli(r, COGNOMI))));
+        operazioni.add(new Operazione("search/filter", 6, r -> get("/search/filter?dipartimento=" + scegli(r, NomeDipartimento.values())
+                + "&stipendioMin=" + (20000 + r.nextInt(40000)) + "&sort=stipendio&direction=desc&size=20")));
+        operazioni.add(new Operazione("search/membership", 6, r -> get("/search/membership?dipartimento=" + scegli(r, NomeDipartimento.values())
+                + "&ruolo=" + scegli(r, NomeRuolo.values()) + "&limit=20")));
+        operazioni.add(new Operazione("stats/dipartimento", 3, r -> get("/stats/dipartimento")));
+        operazioni.add(new Operazione("stats/ruolo", 3, r -> get("/stats/ruolo")));
+        operazioni.add(new Operazione("stats/top", 3, r -> get("/stats/top?n=" + (1 + r.nextInt(5)))));
+        operazioni.add(new Operazione("export", 1, r -> get("/export")));
+        operazioni.add(new Operazione("registration", 6, r -> post("/registration", registrazione(r))));
+        operazioni.add(new Operazione("registration/bulk", 1, r -> {
+            StringBuilder corpo = new StringBuilder("[");
+            for (int i = 0; i < 10; i++) {
+                corpo.append(i > 0 ? "," : "").append(registrazione(r));
+            }
+            return post("/registration/bulk", corpo.append(']').toString());
+        }));
+        operazioni.add(new Operazione("update", 6, r -> HttpRequest.newBuilder(uri("/update"))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(aggiornamento(r)))
+                .build()));
+        operazioni.add(new Operazione("delete/{id}", 2, r -> HttpRequest.newBuilder(uri("/delete/" + id(r))).DELETE().build()));
+        return operazioni;
+    }
+
+    private String registrazione(Random r) {
+        LocalDate nascita = LocalDate.of(1960, 1, 1).plusDays(r.nextInt(9000));
+        return "{\"nome\":\"" + scegli(r, NOMI) + "\",\"cognome\":\"" + scegli(r, COGNOMI)
+                + "\",\"dataNascita\":\"" + nascita + "\",\"dataAssunzione\":\"" + nascita.plusYears(20).plusDays(r.nextInt(7000))
+                + "\",\"stipendio\":" + (20000 + r.nextInt(80000)) + ",\"dipartimento\":\"" + scegli(r, NomeDipartimento.values())
+                + "\",\"ruoli\":[\"" + scegli(r, NomeRuolo.values()) + "\"]}";
+    }
+
+    private String aggiornamento(Random r) {
+        LocalDate nascita = LocalDate.of(1960, 1, 1).plusDays(r.nextInt(9000));
+        return "{\"id\":" + id(r) + ",\"nome\":\"" + scegli(r, NOMI) + "\",\"cognome\":\"" + scegli(r, COGNOMI)
+                + "\",\"dataNascita\":\"" + nascita + "\",\"dataAssunzione\":\"" + nascita.plusYears(20).plusDays(r.nextInt(7000))
+                + "\",\"stipendio\":" + (20000 + r.nextInt(80000)) + ",\"dipartimento\":" + (1 + r.nextInt(NomeDipartimento.values().length))
+                + ",\"ruoli\":[" + (1 + r.nextInt(NomeRuolo.values().length)) + "]}";
+    }
+
+    private int id(Random r) {
+        return 1 + r.nextInt(dipendenti);
+    }
+
+    private String ids(Random r, int numero) {
+        StringBuilder ids = new StringBuilder();
+        for (int i = 0; i < numero; i++) {
+            ids.append(i > 0 ? "," : "").append(id(r));
+        }
+        return ids.toString();
+    }
+
+    private static <T> String scegli(Random r, T[] valori) {
+        return valori[r.nextInt(valori.length)].toString();
+    }
+
+    private static Operazione scegli(List<Operazione> operazioni, int estratto) {
+        for (Operazione operazione : operazioni) {
+            estratto -= operazione.peso();
+            if (estratto < 0) {
+                return operazione;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private URI uri(String percorso) {
+        return URI.create("http://localhost:" + porta + "/api/dipendente" + percorso);
+    }
+
+    private HttpRequest get(String percorso) {
+        return HttpRequest.newBuilder(uri(percorso)).GET().build();
+    }
+
+    private HttpRequest post(String percorso, String corpo) {
+        return HttpRequest.newBuilder(uri(percorso))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private Path scriviReport(String nome, Duration durataMisura, Campioni totale, Map<String, Campioni> perOperazione) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("data", LocalDateTime.now().toString());
+        report.put("profili", environment.getActiveProfiles());
+        report.put("threadVirtuali", environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        report.put("dipendenti", dipendenti);
+        report.put("seme", seme);
+        report.put("utenti", utenti);
+        report.put("riscaldamentoSecondi", riscaldamento.toSeconds());
+        report.put("durataSecondi", durataMisura.toSeconds());
+        report.put("processori", Runtime.getRuntime().availableProcessors());
+        report.put("totale", riepilogo(totale, durataMisura));
+        Map<String, Object> operazioni = new LinkedHashMap<>();
+        perOperazione.forEach((operazione, campioni) -> operazioni.put(operazione, riepilogo(campioni, durataMisura)));
+        report.put("operazioni", operazioni);
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve(nome + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private static Map<String, Object> riepilogo(Campioni campioni, Duration durataMisura) {
+        Map<String, Object> riepilogo = new LinkedHashMap<>();
+        riepilogo.put("richieste", campioni.richieste());
+        riepilogo.put("errori", campioni.errori());
+        riepilogo.put("throughput", Math.round(campioni.richieste() * 100.0 / durataMisura.toMillis() * 1000) / 100.0);
+        riepilogo.put("p50Ms", campioni.percentileMillis(50));
+        riepilogo.put("p95Ms", campioni.percentileMillis(95));
+        riepilogo.put("p99Ms", campioni.percentileMillis(99));
+        riepilogo.put("maxMs", campioni.percentileMillis(100));
+        return riepilogo;
+    }
+
+    /**
+     * Un'operazione del carico, con il suo peso e la funzione che costruisce una richiesta a partire dal generatore casuale dell'utente.
+     */
+    private record Operazione(String nome, int peso, Function<Random, HttpRequest> richiesta) {
+    }
+
+    /**
+     * Le latenze in nanosecondi e il numero di errori di un'operazione, raccolti da un solo utente
+     * oppure uniti tra tutti gli utenti al termine del test.
+     */
+    private static final class Campioni {
+
+        private long[] latenze = new long[1024];
+
+        private int richieste;
+
+        private int errori;
+
+        void aggiungi(long latenza, boolean esito) {
+            if (richieste == latenze.length) {
+                latenze = Arrays.copyOf(latenze, richieste * 2);
+            }
+            latenze[richieste++] = latenza;
+            if (!esito) {
+                errori++;
+            }
+        }
+
+        void aggiungiTutti(Campioni altri) {
+            for (int i = 0; i < altri.richieste; i++) {
+                aggiungi(altri.latenze[i], true);
+            }
+            errori += altri.errori;
+        }
+
+        int richieste() {
+            return richieste;
+        }
+
+        int errori() {
+            return errori;
+        }
+
+        double percentileMillis(int percentile) {
+            if (richieste == 0) {
+                return 0;
+            }
+            long[] ordinate = Arrays.copyOf(latenze, richieste);
+            Arrays.sort(ordinate);
+            int indice = Math.max(0, (int) Math.ceil(percentile / 100.0 * richieste) - 1);
+            return Math.round(ordinate[indice] / 10_000.0) / 100.0;
+        }
+    }
+
+}
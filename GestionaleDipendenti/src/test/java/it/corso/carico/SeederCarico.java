@@ -0,0 +1,37 @@
+package it.corso.carico;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import it.corso.generatore.GeneratoreDataset;
+
+/**
+ * Popola il database H2 del profilo {@code loadtest} con {@code gestionale.carico.dipendenti} dipendenti,
+ * generati da {@link GeneratoreDataset} con seme {@code gestionale.carico.seme}.
+ *
+ * Viene eseguito come {@link ApplicationRunner}, prima di {@code ApplicationReadyEvent}: gli indici in memoria
+ * e i dati di riferimento vengono quindi caricati all'avvio dai dati già inseriti, come avviene su MySQL.
+ */
+@Component
+@Profile("loadtest")
+class SeederCarico implements ApplicationRunner {
+
+    @Autowired
+    private GeneratoreDataset generatoreDataset;
+
+    @Value("${gestionale.carico.dipendenti}")
+    private int dipendenti;
+
+    @Value("${gestionale.carico.seme}")
+    private long seme;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        generatoreDataset.genera(dipendenti, seme);
+    }
+
+}
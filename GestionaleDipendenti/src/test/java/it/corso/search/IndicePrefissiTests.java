@@ -0,0 +1,64 @@
+package it.corso.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import it.corso.dao.DipendenteDao;
+import it.corso.dao.DipendenteNominativo;
+import it.corso.dto.DipendenteSuggerimentoDto;
+import it.corso.event.DipendentiModificatiEvent;
+import it.corso.event.IstantaneaDipendente;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+
+class IndicePrefissiTests {
+
+    private final DipendenteDao dipendenteDao = mock(DipendenteDao.class);
+
+    private final IndicePrefissi indice = new IndicePrefissi();
+
+    @BeforeEach
+    void prepara() {
+        ReflectionTestUtils.setField(indice, "dipendenteDao", dipendenteDao);
+        ReflectionTestUtils.setField(indice, "transactionManager", mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void caricaNonRipristinaIDipendentiModificatiDuranteLaLettura() {
+        when(dipendenteDao.findAllProjectedBy()).thenAnswer(invocation -> {
+            // Modifiche confermate dopo la lettura della tabella, consegnate prima della sostituzione
+            indice.onDipendentiModificati(DipendentiModificatiEvent.salvati(List.of(istantanea(1, "Mario", "Bruni"))));
+            indice.onDipendentiModificati(DipendentiModificatiEvent.eliminati(List.of(2)));
+            return List.of(nominativo(1, "Mario", "Rossi"), nominativo(2, "Luca", "Rossetti"));
+        });
+
+        indice.carica();
+
+        assertThat(indice.cerca("ros", 10)).isEmpty();
+        assertThat(indice.cerca("mario", 10)).extracting(DipendenteSuggerimentoDto::getCognome).containsExactly("Bruni");
+    }
+
+    private static IstantaneaDipendente istantanea(int id, String nome, String cognome) {
+        return new IstantaneaDipendente(id, nome, cognome, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1),
+                30000, NomeDipartimento.IT, Set.of(NomeRuolo.Impiegato));
+    }
+
+    private static DipendenteNominativo nominativo(int id, String nome, String cognome) {
+        DipendenteNominativo riga = mock(DipendenteNominativo.class);
+        when(riga.getId()).thenReturn(id);
+        when(riga.getNome()).thenReturn(nome);
+        when(riga.getCognome()).thenReturn(cognome);
+        return riga;
+    }
+
+}
@@ -0,0 +1,190 @@
+package it.corso.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import it.corso.dao.DipendenteDao;
+import it.corso.dto.DipendenteDtoRegistration;
+import it.corso.dto.DipendenteDtoUpdate;
+import it.corso.model.Dipendente;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "gestionale.export.chunk-size=2")
+@ActiveProfiles("h2")
+class DipendenteServiceImplTransazioniTests {
+
+    /**
+     * Valori dello stato iniziale conservati dalle entità caricate, per il dirty checking.
+     */
+    private static final AtomicInteger valoriConservati = new AtomicInteger();
+
+    private static boolean listenerRegistrato;
+
+    @Autowired
+    private DipendenteService dipendenteService;
+
+    @Autowired
+    private DipendenteDao dipendenteDao;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistiche;
+
+    @BeforeEach
+    void preparaStatistiche() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (!listenerRegistrato) {
+            sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, event -> {
+                        EntityEntry entry = event.getSession().getPersistenceContextInternal().getEntry(event.getEntity());
+                        if (entry != null && entry.getLoadedState() != null) {
+                            valoriConservati.addAndGet(entry.getLoadedState().length);
+                        }
+                    });
+            listenerRegistrato = true;
+        }
+        statistiche = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistiche.clear();
+        valoriConservati.set(0);
+    }
+
+    @Test
+    void updateDipendenteDataEsegueUnSoloCommit() {
+        Dipendente dipendente = dipendenteDao.findById(3).orElseThrow();
+        dipendente.setStipendio(29000);
+        dipendenteDao.save(dipendente);
+        long commitSenzaTransazione = statistiche.getSuccessfulTransactionCount();
+        statistiche.clear();
+
+        DipendenteDtoUpdate dipendenteDto = new DipendenteDtoUpdate();
+        dipendenteDto.setId(3);
+        dipendenteDto.setNome("Anna");
+        dipendenteDto.setCognome("Verdi");
+        dipendenteDto.setDataNascita(LocalDate.of(1990, 3, 1));
+        dipendenteDto.setDataAssunzione(LocalDate.of(2015, 1, 1));
+        dipendenteDto.setStipendio(30000);
+        dipendenteDto.setDipartimento(5);
+        dipendenteDto.setRuoli(List.of(2, 4));
+        dipendenteService.updateDipendenteData(dipendenteDto);
+
+        assertThat(commitSenzaTransazione).isEqualTo(2);
+        assertThat(statistiche.getSuccessfulTransactionCount()).isEqualTo(1);
+        assertThat(statistiche.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistiche.getCollectionUpdateCount()).isEqualTo(1);
+        assertThat(dipendenteService.getDipendenteById(3).getStipendio()).isEqualTo(30000);
+    }
+
+    @Test
+    void updateDipendenteDataConRuoloInesistenteNonModificaIlDipendente() {
+        DipendenteDtoUpdate dipendenteDto = new DipendenteDtoUpdate();
+        dipendenteDto.setId(1);
+        dipendenteDto.setNome("Mario");
+        dipendenteDto.setCognome("Modificato");
+        dipendenteDto.setDataNascita(LocalDate.of(1980, 1, 1));
+        dipendenteDto.setDataAssunzione(LocalDate.of(2010, 1, 1));
+        dipendenteDto.setStipendio(99000);
+        dipendenteDto.setDipartimento(4);
+        dipendenteDto.setRuoli(List.of(4, 99));
+        dipendenteService.updateDipendenteData(dipendenteDto);
+
+        assertThat(statistiche.getEntityUpdateCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT cognome FROM dipendente WHERE id = 1", String.class))
+                .isEqualTo("Rossi");
+        assertThat(jdbcTemplate.queryForObject("SELECT stipendio FROM dipendente WHERE id = 1", Double.class))
+                .isEqualTo(30000);
+    }
+
+    @Test
+    void registrationDipendenteEsegueUnSoloCommit() {
+        DipendenteDtoRegistration dipendenteDto = new DipendenteDtoRegistration();
+        dipendenteDto.setNome("Paolo");
+        dipendenteDto.setCognome("Gialli");
+        dipendenteDto.setDataNascita(LocalDate.of(1988, 6, 1));
+        dipendenteDto.setDataAssunzione(LocalDate.of(2020, 9, 1));
+        dipendenteDto.setStipendio(32000);
+        dipendenteDto.setDipartimento("Marketing");
+        dipendenteDto.setRuoli(List.of("Impiegato"));
+        dipendenteService.registrationDipendente(dipendenteDto);
+
+        assertThat(statistiche.getSuccessfulTransactionCount()).isEqualTo(1);
+        assertThat(statistiche.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void letturaReadOnlyNonConservaLoStatoIniziale() {
+        TransactionTemplate transazioneScrittura = new TransactionTemplate(transactionManager);
+        transazioneScrittura.executeWithoutResult(status -> dipendenteService.getDipendentiByDipartimento("IT"));
+        int valoriScrittura = valoriConservati.getAndSet(0);
+
+        assertThat(dipendenteService.getDipendentiByDipartimento("IT")).hasSize(2);
+        assertThat(valoriScrittura).isPositive();
+        assertThat(valoriConservati.get()).isZero();
+        assertThat(statistiche.getFlushCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteDipendentiByIdsNonCaricaIDipendenti() {
+        assertThat(dipendenteService.deleteDipendentiByIds(List.of(4, 5, 99))).isEqualTo(2);
+
+        assertThat(statistiche.getSuccessfulTransactionCount()).isEqualTo(1);
+        assertThat(statistiche.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistiche.getEntityLoadCount()).isZero();
+        assertThat(dipendenteDao.findByIdIn(List.of(4, 5))).isEmpty();
+    }
+
+    @Test
+    void deleteDipendentiByIdsInErroreAnnullaLaTransazione() {
+        jdbcTemplate.execute("CREATE TABLE riferimento_dipendente (id_dipendente INT REFERENCES dipendente (id))");
+        try {
+            jdbcTemplate.update("INSERT INTO riferimento_dipendente VALUES (1)");
+
+            assertThat(dipendenteService.deleteDipendentiByIds(List.of(1))).isEqualTo(-1);
+
+            assertThat(statistiche.getSuccessfulTransactionCount()).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dipendente_ruolo WHERE id_dipendente = 1",
+                    Integer.class)).isEqualTo(1);
+        } finally {
+            jdbcTemplate.execute("DROP TABLE riferimento_dipendente");
+        }
+    }
+
+    @Test
+    void exportDipendentiUsaUnaTransazionePerBlocco() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dipendenteService.exportDipendenti(outputStream);
+        long transazioni = statistiche.getSuccessfulTransactionCount();
+
+        long righe = outputStream.toString(StandardCharsets.UTF_8).lines().count();
+        assertThat(righe).isEqualTo(dipendenteDao.count());
+        assertThat(transazioni).isEqualTo(righe / 2 + 1);
+    }
+
+}
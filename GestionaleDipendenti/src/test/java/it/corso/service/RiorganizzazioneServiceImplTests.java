@@ -0,0 +1,147 @@
+package it.corso.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import it.corso.analytics.SnapshotColonnare;
+import it.corso.cache.DatiRiferimentoCache;
+import it.corso.dto.RiassegnazioneRuoloDto;
+import it.corso.dto.StatisticheStipendioDto;
+import it.corso.dto.TrasferimentoDipartimentoDto;
+import it.corso.model.NomeDipartimento;
+import it.corso.model.NomeRuolo;
+import it.corso.search.IndiceAppartenenza;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class RiorganizzazioneServiceImplTests {
+
+    @Autowired
+    private RiorganizzazioneService riorganizzazioneService;
+
+    @Autowired
+    private IndiceAppartenenza indiceAppartenenza;
+
+    @Autowired
+    private SnapshotColonnare snapshotColonnare;
+
+    @Autowired
+    private DatiRiferimentoCache datiRiferimento;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Ripristina dipartimenti e ruoli dei dati di test e ricarica gli indici in memoria.
+     */
+    @BeforeEach
+    void ripristinaDati() {
+        int[] dipartimenti = { 4, 4, 5, 2, 1 };
+        for (int i = 0; i < dipartimenti.length; i++) {
+            jdbcTemplate.update("UPDATE dipendente SET id_dipartimento = ? WHERE id = ?", dipartimenti[i], i + 1);
+        }
+        jdbcTemplate.update("DELETE FROM dipendente_ruolo");
+        jdbcTemplate.update("INSERT INTO dipendente_ruolo (id_dipendente, id_ruolo) VALUES (1,4),(2,4),(2,5),(3,2),(4,4),(5,1)");
+        indiceAppartenenza.carica();
+        snapshotColonnare.carica();
+    }
+
+    @Test
+    void trasferimentoAggiornaGliIndiciDeiSoliDipendentiSpostati() {
+        TrasferimentoDipartimentoDto trasferimento = new TrasferimentoDipartimentoDto();
+        trasferimento.setDipartimentoOrigine("IT");
+        trasferimento.setDipartimentoDestinazione("Finanza");
+        trasferimento.setConRuolo("Manager");
+
+        assertThat(riorganizzazioneService.trasferisciDipartimento(trasferimento)).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id_dipartimento FROM dipendente ORDER BY id", Integer.class))
+                .containsExactly(4, 2, 5, 2, 1);
+        assertThat(dipendenti(Set.of(NomeDipartimento.Finanza), null)).containsExactly(2, 4);
+        assertThat(dipendenti(Set.of(NomeDipartimento.IT), null)).containsExactly(1);
+        assertThat(snapshotColonnare.statisticheStipendio(SnapshotColonnare.GRUPPO_DIPARTIMENTO, null, null))
+                .filteredOn(s -> s.getGruppo().equals("Finanza"))
+                .extracting(StatisticheStipendioDto::getConteggio).containsExactly(2L);
+    }
+
+    @Test
+    void aggiuntaRuoloAggiornaGliIndiciDeiSoliDipendentiModificati() {
+        RiassegnazioneRuoloDto riassegnazione = new RiassegnazioneRuoloDto();
+        riassegnazione.setRuolo("Manager");
+        riassegnazione.setDipartimento("IT");
+
+        assertThat(riorganizzazioneService.aggiungiRuolo(riassegnazione)).isEqualTo(1);
+
+        assertThat(ruoli(5)).containsExactly(1, 2);
+        assertThat(dipendenti(null, Set.of(NomeRuolo.Manager))).containsExactly(1, 2);
+        assertThat(snapshotColonnare.statisticheStipendio(SnapshotColonnare.GRUPPO_RUOLO, null, null))
+                .filteredOn(s -> s.getGruppo().equals("Manager"))
+                .extracting(StatisticheStipendioDto::getConteggio).containsExactly(2L);
+    }
+
+    @Test
+    void rimozioneRuoloMantieneLUnicoRuoloDeiDipendenti() {
+        RiassegnazioneRuoloDto riassegnazione = new RiassegnazioneRuoloDto();
+        riassegnazione.setRuolo("Impiegato");
+
+        assertThat(riorganizzazioneService.rimuoviRuolo(riassegnazione)).isEqualTo(1);
+
+        assertThat(ruoli(4)).containsExactly(1, 4);
+        assertThat(dipendenti(null, Set.of(NomeRuolo.Impiegato))).containsExactly(1, 4);
+        assertThat(dipendenti(null, Set.of(NomeRuolo.Manager))).containsExactly(2);
+    }
+
+    @Test
+    void filtroNonPresenteNonVieneIgnorato() {
+        jdbcTemplate.update("DELETE FROM ruolo WHERE id = 3");
+        datiRiferimento.refresh();
+        try {
+            RiassegnazioneRuoloDto riassegnazione = new RiassegnazioneRuoloDto();
+            riassegnazione.setRuolo("Manager");
+            riassegnazione.setConRuolo("Segretario");
+
+            assertThat(riorganizzazioneService.aggiungiRuolo(riassegnazione)).isEqualTo(-1);
+            assertThat(ruoli(5)).containsExactly(2);
+        } finally {
+            jdbcTemplate.update("INSERT INTO ruolo (id, nome) VALUES (3, 'Segretario')");
+            datiRiferimento.refresh();
+        }
+    }
+
+    @Test
+    void trasferimentoInErroreAnnullaLaTransazione() {
+        jdbcTemplate.execute("ALTER TABLE dipendente ADD CONSTRAINT dipartimento_escluso CHECK (id_dipartimento <> 3)");
+        try {
+            TrasferimentoDipartimentoDto trasferimento = new TrasferimentoDipartimentoDto();
+            trasferimento.setDipartimentoOrigine("IT");
+            trasferimento.setDipartimentoDestinazione("Marketing");
+
+            assertThat(riorganizzazioneService.trasferisciDipartimento(trasferimento)).isEqualTo(-1);
+
+            assertThat(jdbcTemplate.queryForList("SELECT id_dipartimento FROM dipendente ORDER BY id", Integer.class))
+                    .containsExactly(4, 4, 5, 2, 1);
+            assertThat(dipendenti(Set.of(NomeDipartimento.IT), null)).containsExactly(1, 2);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE dipendente DROP CONSTRAINT dipartimento_escluso");
+        }
+    }
+
+    private List<Integer> dipendenti(Set<NomeDipartimento> dipartimenti, Set<NomeRuolo> ruoli) {
+        return indiceAppartenenza.cerca(dipartimenti, ruoli, true, null, null).stream().boxed().toList();
+    }
+
+    private List<Integer> ruoli(int idRuolo) {
+        return jdbcTemplate.queryForList("SELECT id_dipendente FROM dipendente_ruolo WHERE id_ruolo = ? ORDER BY id_dipendente",
+                Integer.class, idRuolo);
+    }
+
+}
@@ -0,0 +1,143 @@
+package it.corso.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import it.corso.dao.AdeguamentoStipendiDao;
+import it.corso.dto.AdeguamentoStipendiDto;
+import it.corso.dto.AdeguamentoStipendiEsitoDto;
+import it.corso.dto.RegolaStipendioDto;
+import it.corso.dto.RegolaStipendioEsitoDto;
+import it.corso.model.AdeguamentoStipendi;
+import it.corso.model.RegolaAdeguamento;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "gestionale.stipendi.chunk-size=2")
+@ActiveProfiles("h2")
+class StipendiServiceImplTests {
+
+    private static final double[] STIPENDI_INIZIALI = { 30000, 35000, 28000, 40000, 90000 };
+
+    @Autowired
+    private StipendiService stipendiService;
+
+    @Autowired
+    private AdeguamentoStipendiDao adeguamentoDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void ripristinaStipendi() {
+        for (int i = 0; i < STIPENDI_INIZIALI.length; i++) {
+            jdbcTemplate.update("UPDATE dipendente SET stipendio = ? WHERE id = ?", STIPENDI_INIZIALI[i], i + 1);
+        }
+    }
+
+    @Test
+    void anteprimaCumulaLeRegoleSovrapposte() {
+        AdeguamentoStipendiEsitoDto esito = stipendiService.avviaAdeguamento(richiesta(null, true));
+
+        List<RegolaStipendioEsitoDto> regole = esito.getRegole();
+        assertThat(regole).extracting(RegolaStipendioEsitoDto::getDipendenti).containsExactly(2L, 3L, 1L);
+        assertThat(regole.get(0).getVariazioneTotale()).isCloseTo(6500, within(0.01));
+        assertThat(regole.get(1).getVariazioneTotale()).isCloseTo(11150, within(0.01));
+        assertThat(regole.get(2).getVariazioneTotale()).isCloseTo(-90000, within(0.01));
+        assertThat(stipendi()).containsExactly(STIPENDI_INIZIALI);
+    }
+
+    @Test
+    void adeguamentoAggiornaABlocchiEdENonVieneRipetuto() throws InterruptedException {
+        AdeguamentoStipendiEsitoDto anteprima = stipendiService.avviaAdeguamento(richiesta(null, true));
+
+        AdeguamentoStipendiEsitoDto esito = attendi(stipendiService.avviaAdeguamento(richiesta("aumento", false)).getId());
+
+        assertThat(esito.getStato()).isEqualTo(StipendiServiceImpl.STATO_COMPLETATO);
+        assertThat(esito.getBlocchiTotali()).isEqualTo(3);
+        assertThat(esito.getBlocchiCompletati()).isEqualTo(3);
+        assertThat(esito.getRegole()).extracting(RegolaStipendioEsitoDto::getDipendenti).containsExactly(2L, 3L, 1L);
+        double[] stipendi = stipendi();
+        assertThat(stipendi).containsExactly(new double[] { 36300, 42350, 28000, 44000, 0 }, within(0.01));
+        double variazione = anteprima.getRegole().stream().mapToDouble(RegolaStipendioEsitoDto::getVariazioneTotale).sum();
+        assertThat(somma(stipendi) - somma(STIPENDI_INIZIALI)).isCloseTo(variazione, within(0.01));
+
+        AdeguamentoStipendiEsitoDto ripetuto = stipendiService.avviaAdeguamento(richiesta("aumento", false));
+
+        assertThat(ripetuto.getStato()).isEqualTo(StipendiServiceImpl.STATO_COMPLETATO);
+        assertThat(stipendi()).containsExactly(stipendi);
+    }
+
+    @Test
+    void ripresaNonRiapplicaIBlocchiCompletati() throws InterruptedException {
+        AdeguamentoStipendi interrotto = new AdeguamentoStipendi();
+        interrotto.setId("interrotto");
+        interrotto.setStato(StipendiServiceImpl.STATO_ERRORE);
+        interrotto.setUltimoId(5);
+        interrotto.setUltimoIdCompletato(2);
+        interrotto.setBlocchiTotali(3);
+        interrotto.setBlocchiCompletati(1);
+        interrotto.setRegole(List.of(new RegolaAdeguamento(1.1, 0, null, null, null)));
+        adeguamentoDao.save(interrotto);
+
+        stipendiService.riprendiAdeguamento("interrotto");
+        AdeguamentoStipendiEsitoDto esito = attendi("interrotto");
+
+        assertThat(esito.getStato()).isEqualTo(StipendiServiceImpl.STATO_COMPLETATO);
+        assertThat(esito.getBlocchiCompletati()).isEqualTo(3);
+        assertThat(esito.getUltimoIdCompletato()).isEqualTo(5);
+        assertThat(stipendi()).containsExactly(new double[] { 30000, 35000, 30800, 44000, 99000 }, within(0.01));
+    }
+
+    /**
+     * +10% al dipartimento IT, poi +10% agli impiegati, poi -100000 al CEO.
+     */
+    private static AdeguamentoStipendiDto richiesta(String id, boolean dryRun) {
+        AdeguamentoStipendiDto richiesta = new AdeguamentoStipendiDto();
+        richiesta.setId(id);
+        richiesta.setDryRun(dryRun);
+        richiesta.setRegole(List.of(regola(StipendiServiceImpl.TIPO_PERCENTUALE, 10, "IT", null),
+                regola(StipendiServiceImpl.TIPO_PERCENTUALE, 10, null, "Impiegato"),
+                regola(StipendiServiceImpl.TIPO_IMPORTO, -100000, null, "CEO")));
+        return richiesta;
+    }
+
+    private static RegolaStipendioDto regola(String tipo, double valore, String dipartimento, String ruolo) {
+        RegolaStipendioDto regola = new RegolaStipendioDto();
+        regola.setTipo(tipo);
+        regola.setValore(valore);
+        regola.setDipartimento(dipartimento);
+        regola.setRuolo(ruolo);
+        return regola;
+    }
+
+    private AdeguamentoStipendiEsitoDto attendi(String id) throws InterruptedException {
+        AdeguamentoStipendiEsitoDto esito = stipendiService.getAdeguamento(id);
+        for (int i = 0; i < 100 && StipendiServiceImpl.STATO_IN_CORSO.equals(esito.getStato()); i++) {
+            Thread.sleep(100);
+            esito = stipendiService.getAdeguamento(id);
+        }
+        return esito;
+    }
+
+    private double[] stipendi() {
+        return jdbcTemplate.queryForList("SELECT stipendio FROM dipendente ORDER BY id", Double.class).stream()
+                .mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static double somma(double[] valori) {
+        double somma = 0;
+        for (double valore : valori) {
+            somma += valore;
+        }
+        return somma;
+    }
+
+}
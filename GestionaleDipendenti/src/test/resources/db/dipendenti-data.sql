@@ -0,0 +1,8 @@
+INSERT INTO dipartimento (id, nome) VALUES (1,'Amministrativo'),(2,'Finanza'),(3,'Marketing'),(4,'IT'),(5,'HR');
+INSERT INTO ruolo (id, nome) VALUES (1,'CEO'),(2,'Recruiter'),(3,'Segretario'),(4,'Impiegato'),(5,'Manager');
+INSERT INTO dipendente (id, nome, cognome, data_nascita, data_assunzione, stipendio, id_dipartimento) VALUES
+(1,'Mario','Rossi','1980-01-01','2010-01-01',30000,4),(2,'Luca','Bianchi','1985-02-01','2012-01-01',35000,4),
+(3,'Anna','Verdi','1990-03-01','2015-01-01',28000,5),(4,'Giulia','Rossi','1992-04-01','2018-01-01',40000,2),
+(5,'Marco','Neri','1975-05-01','2000-01-01',90000,1);
+INSERT INTO dipendente_ruolo (id_dipendente, id_ruolo) VALUES (1,4),(2,4),(2,5),(3,2),(4,4),(5,1);
+UPDATE id_generatore SET valore = 6 WHERE nome_sequenza = 'dipendente';
@@ -0,0 +1,4 @@
+CREATE TABLE dipartimento (id INT PRIMARY KEY, nome VARCHAR(50));
+CREATE TABLE ruolo (id INT PRIMARY KEY, nome VARCHAR(50));
+CREATE TABLE dipendente (id INT PRIMARY KEY, nome VARCHAR(255), cognome VARCHAR(255), data_nascita DATE, data_assunzione DATE, stipendio DOUBLE, id_dipartimento INT REFERENCES dipartimento (id));
+CREATE TABLE dipendente_ruolo (id_dipendente INT NOT NULL REFERENCES dipendente (id), id_ruolo INT NOT NULL REFERENCES ruolo (id));